@@ -1,11 +1,15 @@
 package com.fishinglog.fishingapp.auth;
 
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
 import com.fishinglog.fishingapp.services.auth.JwtService;
+import com.fishinglog.fishingapp.services.auth.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,6 +25,10 @@ import java.io.IOException;
  * Filter responsible for JWT authentication in HTTP requests. It extracts the JWT token from
  * the Authorization header, validates it, and sets the authentication in the security context.
  *
+ * When {@code jwt.stateless} is enabled, the principal is built from the token's verified identity
+ * claims instead of being loaded from the database, and tokens of revoked users are rejected.
+ * Tokens issued without identity claims still fall back to a user lookup.
+ *
  * @since 2024-02-25
  */
 @Component
@@ -28,11 +36,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+    private final boolean stateless;
 
     @Autowired
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService,
+                                   UserDetailsService userDetailsService,
+                                   TokenRevocationService tokenRevocationService,
+                                   @Value("${jwt.stateless:false}") boolean stateless) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.stateless = stateless;
     }
 
     /**
@@ -66,9 +81,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         username = jwtService.extractUsername(jwt);
 
         if(username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = loadPrincipal(jwt, username);
 
-            if(jwtService.isTokenValid(jwt, userDetails)) {
+            if(userDetails != null && jwtService.isTokenValid(jwt, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -85,4 +100,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Resolves the principal for a token, from its claims in stateless mode or from the user store otherwise.
+     *
+     * @param jwt The verified JWT token.
+     * @param username The username contained within the token.
+     * @return The principal, or null if the token has been revoked.
+     */
+    private UserDetails loadPrincipal(String jwt, String username) {
+        if(stateless) {
+            UserDetails principal = jwtService.extractPrincipal(jwt);
+
+            if(principal instanceof UserEntity userEntity) {
+                if(tokenRevocationService.isRevoked(userEntity.getId(), jwtService.extractClaim(jwt, Claims::getIssuedAt))) {
+                    return null;
+                }
+                return principal;
+            }
+        }
+
+        return this.userDetailsService.loadUserByUsername(username);
+    }
 }
@@ -0,0 +1,98 @@
+package com.fishinglog.fishingapp.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of verified JWT claims. Entries are keyed by a SHA-256 hash of the token so raw
+ * tokens are never held in memory, and each entry expires at the moment its token expires.
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class JwtClaimsCache {
+
+    private final Cache<String, Claims> cache;
+
+    @Autowired
+    public JwtClaimsCache(@Value("${jwt.claims-cache.maximum-size:10000}") long maximumSize) {
+        this(maximumSize, Ticker.systemTicker());
+    }
+
+    JwtClaimsCache(long maximumSize, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Returns the cached claims for a token, parsing and verifying it with the given function on a miss.
+     * Tokens that fail verification are never cached, so the parser's exception reaches the caller.
+     *
+     * @param token The compact JWT.
+     * @param parser The function that parses and verifies the token.
+     * @return The verified claims of the token.
+     */
+    public Claims get(String token, Function<String, Claims> parser) {
+        return cache.get(hash(token), key -> parser.apply(token));
+    }
+
+    /**
+     * Removes every cached entry.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Expires a cache entry when the token it was parsed from expires.
+     */
+    private static final class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
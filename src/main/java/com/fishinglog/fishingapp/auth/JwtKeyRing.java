@@ -0,0 +1,109 @@
+package com.fishinglog.fishingapp.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds the HMAC key material used to sign and verify JWT tokens. Keys are decoded once at startup
+ * and the resulting {@link JwtParser} is immutable and shared by all threads.
+ *
+ * The active key signs new tokens and is advertised in the {@code kid} header. Retired keys listed in
+ * {@code jwt.previous-keys} (as comma-separated {@code kid:base64Key} pairs) remain valid for verification
+ * so keys can be rotated without logging users out. Tokens without a {@code kid} header are verified
+ * with the active key.
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class JwtKeyRing {
+
+    private final String signingKeyId;
+
+    private final Key signingKey;
+
+    private final Map<String, Key> verificationKeys;
+
+    private final JwtParser parser;
+
+    public JwtKeyRing(@Value("${jwt.key}") String jwtKey,
+                      @Value("${jwt.key-id:primary}") String jwtKeyId,
+                      @Value("${jwt.previous-keys:}") String previousKeys) {
+        this.signingKeyId = jwtKeyId;
+        this.signingKey = decodeKey(jwtKey);
+
+        Map<String, Key> keys = new HashMap<>();
+        for (String entry : StringUtils.commaDelimitedListToStringArray(previousKeys)) {
+            String[] parts = entry.trim().split(":", 2);
+            if (parts.length != 2 || parts[0].isBlank()) {
+                throw new IllegalArgumentException("jwt.previous-keys entries must have the form kid:base64Key");
+            }
+            keys.put(parts[0].trim(), decodeKey(parts[1].trim()));
+        }
+        keys.put(signingKeyId, signingKey);
+        this.verificationKeys = Map.copyOf(keys);
+
+        this.parser = Jwts
+                .parserBuilder()
+                .setSigningKeyResolver(new KeyIdResolver())
+                .build();
+    }
+
+    /**
+     * @return The ID of the key that signs new tokens.
+     */
+    public String getSigningKeyId() {
+        return signingKeyId;
+    }
+
+    /**
+     * @return The key that signs new tokens.
+     */
+    public Key getSigningKey() {
+        return signingKey;
+    }
+
+    /**
+     * @return The shared parser that verifies tokens against every active key.
+     */
+    public JwtParser getParser() {
+        return parser;
+    }
+
+    private static Key decodeKey(String base64Key) {
+        byte[] keyBytes = Decoders.BASE64.decode(base64Key);
+        return Keys.hmacShaKeyFor(keyBytes);
+    }
+
+    /**
+     * Selects the verification key named by the token's {@code kid} header.
+     */
+    private final class KeyIdResolver extends SigningKeyResolverAdapter {
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            String keyId = header.getKeyId();
+            if (keyId == null) {
+                return signingKey;
+            }
+
+            Key key = verificationKeys.get(keyId);
+            if (key == null) {
+                throw new SignatureException("Unknown signing key id: " + keyId);
+            }
+            return key;
+        }
+    }
+}
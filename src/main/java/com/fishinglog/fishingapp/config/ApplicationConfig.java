@@ -1,26 +1,28 @@
 package com.fishinglog.fishingapp.config;
 
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
 import com.fishinglog.fishingapp.repositories.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.web.client.RestTemplate;
 
 /**
  * Configuration class for the application's security and service beans.
  *
  * This class defines beans for user details service, authentication provider,
- * authentication manager, password encoder, and REST template. These beans are
- * used throughout the application to handle authentication, authorization,
- * password encoding, and HTTP client operations.
+ * authentication manager, password encoder, and password upgrades. These beans are used throughout
+ * the application to handle authentication, authorization, and password encoding.
+ * The HTTP client is configured in {@link HttpClientConfig}.
  *
  * @since 2024-03-16
  */
@@ -46,15 +48,34 @@ public class ApplicationConfig {
     }
 
     /**
-     * Creates an AuthenticationProvider bean to manage authentication.
+     * Creates a UserDetailsPasswordService bean that stores re-encoded passwords.
      *
+     * @return UserDetailsPasswordService instance that writes the new hash through the UserRepository.
+     */
+    @Bean
+    public UserDetailsPasswordService userDetailsPasswordService() {
+        return (user, newPassword) -> {
+            userRepository.updatePasswordByUsername(user.getUsername(), newPassword);
+            UserEntity userEntity = (UserEntity) user;
+            userEntity.setPassword(newPassword);
+            userEntity.setVersion(userEntity.getVersion() + 1);
+            return userEntity;
+        };
+    }
+
+    /**
+     * Creates an AuthenticationProvider bean to manage authentication. After a successful login, passwords
+     * stored with a lower BCrypt cost than the configured one are re-encoded with the current cost.
+     *
+     * @param passwordEncoder The encoder used to verify and upgrade passwords.
      * @return An AuthenticationProvider that uses a DAO-based approach for authentication.
      */
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService());
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService());
         return authProvider;
     }
 
@@ -73,20 +94,11 @@ public class ApplicationConfig {
     /**
      * Creates a PasswordEncoder bean that uses BCrypt hashing.
      *
+     * @param strength The BCrypt cost factor, between 4 and 31.
      * @return A PasswordEncoder that uses BCrypt hashing.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
-    /**
-     * Creates a RestTemplate bean for RESTful communication.
-     *
-     * @return An instance of RestTemplate for RESTful operations.
-     */
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public PasswordEncoder passwordEncoder(@Value("${auth.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
@@ -0,0 +1,60 @@
+package com.fishinglog.fishingapp.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the outbound HTTP client used to call third-party APIs.
+ *
+ * Connections are pooled and kept alive between requests, and every request is bounded by
+ * connect and read timeouts so a slow upstream cannot hold a request thread indefinitely.
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+public class HttpClientConfig {
+
+    /**
+     * Creates a RestTemplate bean for RESTful communication, backed by a pooled Apache HttpClient.
+     *
+     * @param connectTimeout The maximum time to establish a connection.
+     * @param readTimeout The maximum time to wait for response data.
+     * @param maxConnections The maximum number of pooled connections, per route and in total.
+     * @return An instance of RestTemplate for RESTful operations.
+     */
+    @Bean
+    public RestTemplate restTemplate(@Value("${http.client.connect-timeout:2s}") Duration connectTimeout,
+                                     @Value("${http.client.read-timeout:5s}") Duration readTimeout,
+                                     @Value("${http.client.max-connections:50}") int maxConnections) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .build();
+
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+}
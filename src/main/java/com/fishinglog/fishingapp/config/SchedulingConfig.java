@@ -0,0 +1,15 @@
+package com.fishinglog.fishingapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class enabling {@code @Scheduled} background jobs, such as
+ * {@link com.fishinglog.fishingapp.stats.UserCatchStatsRebuildJob}.
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,6 +1,8 @@
 package com.fishinglog.fishingapp.config;
 
 import com.fishinglog.fishingapp.auth.JwtAuthenticationFilter;
+import com.fishinglog.fishingapp.domain.Role;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -51,8 +53,13 @@ public class SecurityConfiguration {
                 .csrf(AbstractHttpConfigurer::disable
                 )
                 .authorizeHttpRequests(authz -> authz
-                        .requestMatchers("auth/**")
+                        // Streaming responses complete on an async dispatch after the original request was authorized.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC)
                         .permitAll()
+                        .requestMatchers("/auth/**")
+                        .permitAll()
+                        .requestMatchers("/admin/**")
+                        .hasRole(Role.ADMIN.name())
                         .anyRequest()
                         .authenticated()
                 )
@@ -75,8 +82,8 @@ public class SecurityConfiguration {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(Arrays.asList("http://localhost:5173")); // Replace with actual origins
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("authorization", "content-type", "x-auth-token"));
-        configuration.setExposedHeaders(Arrays.asList("x-auth-token"));
+        configuration.setAllowedHeaders(Arrays.asList("authorization", "content-type", "x-auth-token", "if-match", "if-none-match"));
+        configuration.setExposedHeaders(Arrays.asList("x-auth-token", "etag"));
         configuration.setAllowCredentials(true);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
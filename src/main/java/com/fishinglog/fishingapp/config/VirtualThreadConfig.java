@@ -0,0 +1,54 @@
+package com.fishinglog.fishingapp.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs request handling on virtual threads when {@code spring.threads.virtual.enabled} is true.
+ *
+ * Tomcat hands each request to a new virtual thread instead of its fixed worker pool, and the
+ * application task executor, which completes streaming and other async MVC responses, does the same.
+ * Blocking JDBC and HTTP calls then park the virtual thread instead of holding a platform thread.
+ * Concurrency against the database is bounded by the Hikari pool
+ * ({@code spring.datasource.hikari.maximum-pool-size}) rather than by Tomcat's thread count.
+ *
+ * Password hashing keeps its own platform-thread pool (see
+ * {@link com.fishinglog.fishingapp.auth.PasswordHashingExecutor}) because it is CPU-bound.
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * Replaces Tomcat's worker pool with a virtual thread per request.
+     *
+     * @return A customizer that installs the virtual-thread executor on the protocol handler.
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Creates the application task executor on virtual threads, replacing the auto-configured pool.
+     *
+     * @return An AsyncTaskExecutor that starts a virtual thread per task.
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        return new TaskExecutorAdapter(executor);
+    }
+}
@@ -6,12 +6,17 @@ import com.fishinglog.fishingapp.domain.dto.auth.RegisterRequestDto;
 import com.fishinglog.fishingapp.services.auth.AuthenticationService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
 /**
  * Controller for handling authentication-related requests.
  *
@@ -32,24 +37,40 @@ public class AuthenticationController {
      * Registers a new user with the given request details.
      *
      * @param request The registration request containing user details.
-     * @return A response entity containing the authentication response or a bad request error.
+     * @return A response entity containing the authentication response, a bad request error, or 429 when
+     *         password hashing is saturated.
      */
     @PostMapping("/register")
-    public ResponseEntity<AuthenticationResponseDto> register(
+    public CompletableFuture<ResponseEntity<AuthenticationResponseDto>> register(
             @Valid @RequestBody RegisterRequestDto request) {
 
-        return ResponseEntity.ok(service.register(request));
+        try {
+            return service.register(request).thenApply(ResponseEntity::ok);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(tooManyRequests());
+        }
     }
 
     /**
      * Authenticates a user with the provided authentication request.
      *
      * @param request The authentication request containing login credentials.
-     * @return A response entity containing the authentication response.
+     * @return A response entity containing the authentication response, or 429 when password hashing is
+     *         saturated.
      */
     @PostMapping("/authenticate")
-    public ResponseEntity<AuthenticationResponseDto> authenticate(
+    public CompletableFuture<ResponseEntity<AuthenticationResponseDto>> authenticate(
             @RequestBody AuthenticationRequestDto request) {
-        return ResponseEntity.ok(service.authenticate(request));
+        try {
+            return service.authenticate(request).thenApply(ResponseEntity::ok);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(tooManyRequests());
+        }
+    }
+
+    private static ResponseEntity<AuthenticationResponseDto> tooManyRequests() {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
     }
 }
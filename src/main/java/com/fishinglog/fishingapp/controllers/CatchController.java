@@ -1,19 +1,32 @@
 package com.fishinglog.fishingapp.controllers;
 
 import com.fishinglog.fishingapp.domain.dto.persisted.CatchDto;
+import com.fishinglog.fishingapp.domain.dto.stats.HotspotDto;
 import com.fishinglog.fishingapp.domain.entities.CatchEntity;
+import com.fishinglog.fishingapp.domain.projections.CatchView;
 import com.fishinglog.fishingapp.mappers.Mapper;
+import com.fishinglog.fishingapp.mappers.ProjectionMapper;
 import com.fishinglog.fishingapp.services.CatchService;
+import com.fishinglog.fishingapp.services.ChangeVersionService;
+import com.fishinglog.fishingapp.services.HotspotService;
+import com.fishinglog.fishingapp.services.TripService;
 import com.fishinglog.fishingapp.services.auth.OwnershipService;
+import com.fishinglog.fishingapp.web.EntityTags;
+import com.fishinglog.fishingapp.web.NdjsonResponseWriter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -25,17 +38,43 @@ import java.util.stream.Collectors;
 @Log
 public class CatchController {
 
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private static final double MAX_NEARBY_RADIUS_KM = 200;
+
     private final CatchService catchService;
 
+    private final TripService tripService;
+
+    private final HotspotService hotspotService;
+
     private final Mapper<CatchEntity, CatchDto> catchMapper;
 
+    private final ProjectionMapper<CatchView, CatchDto> catchViewMapper;
+
     private final OwnershipService ownershipService;
 
+    private final NdjsonResponseWriter ndjsonResponseWriter;
+
+    private final Validator validator;
+
+    private final ChangeVersionService changeVersionService;
+
     @Autowired
-    public CatchController(CatchService catchService, Mapper<CatchEntity, CatchDto> catchMapper, OwnershipService ownershipService) {
+    public CatchController(CatchService catchService, TripService tripService, HotspotService hotspotService,
+                           Mapper<CatchEntity, CatchDto> catchMapper,
+                           ProjectionMapper<CatchView, CatchDto> catchViewMapper, OwnershipService ownershipService,
+                           NdjsonResponseWriter ndjsonResponseWriter, Validator validator,
+                           ChangeVersionService changeVersionService) {
         this.catchService = catchService;
+        this.tripService = tripService;
+        this.hotspotService = hotspotService;
         this.catchMapper = catchMapper;
+        this.catchViewMapper = catchViewMapper;
         this.ownershipService = ownershipService;
+        this.ndjsonResponseWriter = ndjsonResponseWriter;
+        this.validator = validator;
+        this.changeVersionService = changeVersionService;
     }
 
     /**
@@ -68,10 +107,62 @@ public class CatchController {
     }
 
     /**
-     * Updates an existing fishing catch entry.
+     * Creates several fishing catch entries at once, for example after an offline session. Every catch
+     * is validated, must be new (without a catch ID), and every referenced trip must belong to the user;
+     * otherwise nothing is saved.
+     *
+     * @param userId The ID of the user creating the catches.
+     * @param catchDtos The data transfer objects containing the catch details, at most 500.
+     * @param request The HTTP request object.
+     * @return A response entity with the created catches or an error status.
+     */
+    // POST /catches/batch?userId=123
+    @PostMapping(path = "/catches/batch")
+    public ResponseEntity<List<CatchDto>> createCatches(
+            @RequestParam(value = "userId") Long userId,
+            @RequestBody List<CatchDto> catchDtos,
+            HttpServletRequest request) {
+
+        if(userId == null || catchDtos == null || catchDtos.isEmpty() || catchDtos.size() > MAX_BATCH_SIZE) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        for(CatchDto catchDto : catchDtos) {
+            // A catch ID would make the save overwrite that catch, which need not belong to the user.
+            if(catchDto == null || catchDto.getCatchId() != null || !validator.validate(catchDto).isEmpty()
+                    || catchDto.getTrip().getTripId() == null) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+        }
+
+        if(!ownershipService.doesRequestUsernameMatchTokenUsername(userId, request)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+
+        List<Long> tripIds = catchDtos.stream()
+                .map(catchDto -> catchDto.getTrip().getTripId())
+                .toList();
+        if(!tripService.areAllOwnedByUser(userId, tripIds)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+
+        List<CatchEntity> catchEntities = catchDtos.stream()
+                .map(catchMapper::mapFrom)
+                .collect(Collectors.toList());
+        List<CatchDto> savedCatches = catchService.saveAll(catchEntities).stream()
+                .map(catchMapper::mapTo)
+                .collect(Collectors.toList());
+        return new ResponseEntity<>(savedCatches, HttpStatus.CREATED);
+    }
+
+    /**
+     * Updates an existing fishing catch entry. With an {@code If-Match} header, the catch is only replaced
+     * if it still has the version the client last saw; otherwise the response is 412. The response carries
+     * the new version in its {@code ETag} header.
      *
      * @param userId The ID of the user updating the catch.
      * @param catchId The ID of the catch to update.
+     * @param ifMatch The entity tag the catch must still have, or null to replace any version.
      * @param catchDto The data transfer object containing the updated catch details.
      * @param request The HTTP request object.
      * @return A response entity with the updated catch data or an error status.
@@ -81,6 +172,7 @@ public class CatchController {
     public ResponseEntity<CatchDto> updateCatch(
             @RequestParam(value = "userId") Long userId,
             @PathVariable Long catchId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody CatchDto catchDto,
             HttpServletRequest request) {
 
@@ -92,21 +184,75 @@ public class CatchController {
             return new ResponseEntity<>(HttpStatus.FORBIDDEN);
         }
 
-        if(!catchService.isExists(catchId)) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        Long expectedVersion = null;
+        if(ifMatch != null && !ifMatch.trim().equals("*")) {
+            expectedVersion = EntityTags.version(ifMatch);
+            if(expectedVersion == null) {
+                return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+            }
         }
 
         CatchEntity catchEntity = catchMapper.mapFrom(catchDto);
-        catchEntity.setCatchId(catchId);
-        CatchEntity updatedCatchEntity = catchService.save(catchEntity);
-        return new ResponseEntity<>(catchMapper.mapTo(updatedCatchEntity), HttpStatus.OK);
+        try {
+            return catchService.update(catchId, catchEntity, expectedVersion)
+                    .map(updatedCatchEntity -> ResponseEntity.ok()
+                            .eTag(EntityTags.of(updatedCatchEntity.getVersion()))
+                            .body(catchMapper.mapTo(updatedCatchEntity)))
+                    .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+        }
     }
 
     /**
-     * Retrieves a list of catches associated with a specific trip.
+     * Retrieves a single fishing catch. The response carries the catch's version in its {@code ETag} header,
+     * and a request whose {@code If-None-Match} header lists it is answered with 304 and no body.
+     *
+     * @param userId The ID of the user retrieving the catch.
+     * @param catchId The ID of the catch.
+     * @param ifNoneMatch The entity tags of the copies the client already has, or null.
+     * @param request The HTTP request object.
+     * @return A response entity with the catch, 304, or an error status.
+     */
+    // GET /catches/789?userId=123
+    @GetMapping(path = "/catches/{catchId}")
+    public ResponseEntity<CatchDto> getCatch(
+            @RequestParam(value = "userId") Long userId,
+            @PathVariable Long catchId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request) {
+
+        if(userId == null) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        if(!ownershipService.doesRequestUsernameMatchTokenUsername(userId, request)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+
+        Optional<CatchEntity> catchEntity = catchService.findOne(catchId)
+                .filter(found -> found.getTrip() != null && found.getTrip().getUser() != null
+                        && userId.equals(found.getTrip().getUser().getId()));
+        if(catchEntity.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        String entityTag = EntityTags.of(catchEntity.get().getVersion());
+        if(ifNoneMatch != null && EntityTags.matchesAny(ifNoneMatch, entityTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entityTag).build();
+        }
+        return ResponseEntity.ok().eTag(entityTag).body(catchMapper.mapTo(catchEntity.get()));
+    }
+
+    /**
+     * Retrieves a list of catches associated with a specific trip. The response carries a weak {@code ETag}
+     * derived from the user's change version, so a request whose {@code If-None-Match} header lists it is
+     * answered with 304 without querying the catches. Only catches on the user's own trip are listed, so
+     * the tag covers exactly the rows returned.
      *
      * @param userId The ID of the user retrieving the catches.
      * @param tripId The ID of the trip associated with the catches.
+     * @param ifNoneMatch The entity tags of the copies the client already has, or null.
      * @param request The HTTP request object.
      * @return A response entity with a list of catches or an error status.
      */
@@ -115,6 +261,7 @@ public class CatchController {
     public ResponseEntity<List<CatchDto>> listCatches(
             @RequestParam(value = "userId") Long userId,
             @RequestParam(value = "tripId") Long tripId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             HttpServletRequest request) {
 
         if(tripId == null || userId == null) {
@@ -125,14 +272,114 @@ public class CatchController {
             return new ResponseEntity<>(HttpStatus.FORBIDDEN);
         }
 
-        List<CatchEntity> catches = catchService.findByTripId(tripId);
+        // The version is read before the catches, so a write committed in between changes the next tag.
+        String entityTag = EntityTags.weakOf(changeVersionService.getVersion(userId), tripId);
+        if(ifNoneMatch != null && EntityTags.matchesAny(ifNoneMatch, entityTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entityTag).build();
+        }
+
+        List<CatchView> catches = catchService.findViewsByUserIdAndTripId(userId, tripId);
         List<CatchDto> catchDtos = catches.stream()
-                .map(catchMapper::mapTo)
+                .map(catchViewMapper::mapTo)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok().eTag(entityTag).body(catchDtos);
+    }
+
+    /**
+     * Retrieves a user's catches within a radius of a point, nearest first.
+     *
+     * @param userId The ID of the user retrieving the catches.
+     * @param latitude The latitude of the point.
+     * @param longitude The longitude of the point.
+     * @param radiusKm The radius in kilometres, at most 200.
+     * @param request The HTTP request object.
+     * @return A response entity with a list of catches or an error status.
+     */
+    // GET /catches/nearby?userId=123&lat=11.11&lon=11.11&radiusKm=5
+    @GetMapping(path = "/catches/nearby")
+    public ResponseEntity<List<CatchDto>> listNearbyCatches(
+            @RequestParam(value = "userId") Long userId,
+            @RequestParam(value = "lat") double latitude,
+            @RequestParam(value = "lon") double longitude,
+            @RequestParam(value = "radiusKm") double radiusKm,
+            HttpServletRequest request) {
+
+        if(userId == null || !(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)
+                || !(radiusKm > 0 && radiusKm <= MAX_NEARBY_RADIUS_KM)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        if(!ownershipService.doesRequestUsernameMatchTokenUsername(userId, request)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+
+        List<CatchDto> catchDtos = catchService.findViewsNearby(userId, latitude, longitude, radiusKm).stream()
+                .map(catchViewMapper::mapTo)
                 .collect(Collectors.toList());
 
         return new ResponseEntity<>(catchDtos, HttpStatus.OK);
     }
 
+    /**
+     * Retrieves the fishing hotspots of a user: clusters of nearby catches, each with its species and
+     * lure or bait breakdowns.
+     *
+     * @param userId The ID of the user retrieving the hotspots.
+     * @param request The HTTP request object.
+     * @return A response entity with the hotspots, largest first, or an error status.
+     */
+    // GET /catches/hotspots?userId=123
+    @GetMapping(path = "/catches/hotspots")
+    public ResponseEntity<List<HotspotDto>> listHotspots(
+            @RequestParam(value = "userId") Long userId,
+            HttpServletRequest request) {
+
+        if(userId == null) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        if(!ownershipService.doesRequestUsernameMatchTokenUsername(userId, request)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+
+        return new ResponseEntity<>(hotspotService.getHotspots(userId), HttpStatus.OK);
+    }
+
+    /**
+     * Streams the fishing catches of a specific trip as newline-delimited JSON. Rows are written as they
+     * are read, so memory use does not grow with the number of catches. Only catches on the user's own
+     * trip are streamed.
+     *
+     * @param userId The ID of the user requesting the catches.
+     * @param tripId The ID of the trip associated with the catches.
+     * @param request The HTTP request object.
+     * @return A response entity with a streaming body of catches or an error status.
+     */
+    // GET /catches/stream?userId=123&tripId=789
+    @GetMapping(path = "/catches/stream")
+    public ResponseEntity<StreamingResponseBody> streamCatches(
+            @RequestParam(value = "userId") Long userId,
+            @RequestParam(value = "tripId") Long tripId,
+            HttpServletRequest request) {
+
+        if(tripId == null || userId == null) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        if(!ownershipService.doesRequestUsernameMatchTokenUsername(userId, request)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+
+        StreamingResponseBody body = ndjsonResponseWriter.write(
+                consumer -> catchService.streamViewsByUserIdAndTripId(userId, tripId, consumer),
+                catchViewMapper::mapTo);
+
+        return ResponseEntity.ok()
+                .contentType(NdjsonResponseWriter.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * Deletes a specific fishing catch entry.
      *
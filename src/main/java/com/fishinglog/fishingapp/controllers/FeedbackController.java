@@ -1,18 +1,24 @@
 package com.fishinglog.fishingapp.controllers;
 
 import com.fishinglog.fishingapp.domain.dto.persisted.FeedbackDto;
+import com.fishinglog.fishingapp.domain.dto.persisted.FeedbackEntryDto;
 import com.fishinglog.fishingapp.services.FeedbackService;
 import com.fishinglog.fishingapp.services.auth.OwnershipService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Instant;
+import java.util.List;
+
 /**
  * Controller for handling feedback submissions.
  *
@@ -22,6 +28,10 @@ import org.springframework.web.bind.annotation.RestController;
 @Log
 public class FeedbackController {
 
+    private static final int DEFAULT_FEEDBACK_PAGE_SIZE = 100;
+
+    private static final int MAX_FEEDBACK_PAGE_SIZE = 1000;
+
     private final FeedbackService feedbackService;
 
     private final OwnershipService ownershipService;
@@ -38,7 +48,8 @@ public class FeedbackController {
      * @param userId The ID of the user submitting the feedback.
      * @param feedbackDto The data transfer object containing the feedback details.
      * @param request The HTTP request object.
-     * @return A response entity indicating the status of the feedback collection.
+     * @return A response entity indicating the status of the feedback collection; 503 when the feedback
+     *         writer cannot accept more entries.
      */
     // POST /feedback?userId=123
     @PostMapping(path = "/feedback")
@@ -51,12 +62,37 @@ public class FeedbackController {
             return new ResponseEntity<>(HttpStatus.FORBIDDEN);
         }
 
-        boolean isFeedbackSaved = feedbackService.collectFeedback(feedbackDto.getFeedback());
+        boolean isFeedbackSaved = feedbackService.collectFeedback(userId, feedbackDto.getFeedback());
 
         if(isFeedbackSaved) {
             return new ResponseEntity<>(HttpStatus.OK);
         } else {
-            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
         }
     }
+
+    /**
+     * Retrieves stored feedback submitted within a time range, oldest first. Restricted to administrators.
+     *
+     * @param from The inclusive start of the range as an ISO-8601 instant.
+     * @param to The inclusive end of the range as an ISO-8601 instant. Defaults to now.
+     * @param limit The maximum number of entries, at most 1000. Defaults to 100.
+     * @return A ResponseEntity containing the matching feedback entries or an error status.
+     */
+    // GET /admin/feedback?from=2026-10-01T00:00:00Z&to=2026-10-02T00:00:00Z&limit=100
+    @GetMapping(path = "/admin/feedback")
+    public ResponseEntity<List<FeedbackEntryDto>> listFeedback(
+            @RequestParam(value = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(value = "limit", required = false) Integer limit)
+    {
+        Instant until = to == null ? Instant.now() : to;
+        int pageSize = limit == null ? DEFAULT_FEEDBACK_PAGE_SIZE : limit;
+        if(until.isBefore(from) || pageSize < 1 || pageSize > MAX_FEEDBACK_PAGE_SIZE) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        List<FeedbackEntryDto> entries = feedbackService.findFeedback(from, until, pageSize);
+        return new ResponseEntity<>(entries, HttpStatus.OK);
+    }
 }
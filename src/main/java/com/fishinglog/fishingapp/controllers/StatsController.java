@@ -0,0 +1,53 @@
+package com.fishinglog.fishingapp.controllers;
+
+import com.fishinglog.fishingapp.domain.dto.stats.StatsSummaryDto;
+import com.fishinglog.fishingapp.services.StatsService;
+import com.fishinglog.fishingapp.services.auth.OwnershipService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for per-user statistics.
+ *
+ * @since 2026-10-18
+ */
+@RestController
+@Log
+public class StatsController {
+
+    private final StatsService statsService;
+
+    private final OwnershipService ownershipService;
+
+    @Autowired
+    public StatsController(StatsService statsService, OwnershipService ownershipService) {
+        this.statsService = statsService;
+        this.ownershipService = ownershipService;
+    }
+
+    /**
+     * Retrieves a user's trip and catch counts, broken down by species, lure or bait, and body of water.
+     *
+     * @param userId The ID of the user whose statistics are being queried.
+     * @param request The HTTP request object.
+     * @return A ResponseEntity containing the StatsSummaryDto or an error status.
+     */
+    // GET /stats/summary?userId=123
+    @GetMapping(path = "/stats/summary")
+    public ResponseEntity<StatsSummaryDto> getSummary(
+            @RequestParam(value = "userId") Long userId,
+            HttpServletRequest request) {
+
+        if(!ownershipService.doesRequestUsernameMatchTokenUsername(userId, request)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+
+        return new ResponseEntity<>(statsService.getSummary(userId), HttpStatus.OK);
+    }
+}
@@ -1,21 +1,32 @@
 package com.fishinglog.fishingapp.controllers;
 
+import com.fishinglog.fishingapp.domain.dto.paging.CursorPageDto;
+import com.fishinglog.fishingapp.domain.dto.paging.TripHistoryCursor;
 import com.fishinglog.fishingapp.domain.dto.persisted.TripDto;
 import com.fishinglog.fishingapp.domain.entities.TripEntity;
+import com.fishinglog.fishingapp.domain.projections.TripView;
 import com.fishinglog.fishingapp.mappers.Mapper;
+import com.fishinglog.fishingapp.mappers.ProjectionMapper;
+import com.fishinglog.fishingapp.services.ChangeVersionService;
 import com.fishinglog.fishingapp.services.TripService;
 import com.fishinglog.fishingapp.services.auth.OwnershipService;
+import com.fishinglog.fishingapp.web.EntityTags;
+import com.fishinglog.fishingapp.web.NdjsonResponseWriter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -27,17 +38,32 @@ import java.util.stream.Collectors;
 @Log
 public class TripController {
 
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 20;
+
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final TripService tripService;
 
     private final Mapper<TripEntity, TripDto> tripMapper;
 
+    private final ProjectionMapper<TripView, TripDto> tripViewMapper;
+
     private final OwnershipService ownershipService;
 
+    private final NdjsonResponseWriter ndjsonResponseWriter;
+
+    private final ChangeVersionService changeVersionService;
+
     @Autowired
-    public TripController(TripService tripService, Mapper<TripEntity, TripDto> tripMapper, OwnershipService ownershipService) {
+    public TripController(TripService tripService, Mapper<TripEntity, TripDto> tripMapper,
+                          ProjectionMapper<TripView, TripDto> tripViewMapper, OwnershipService ownershipService,
+                          NdjsonResponseWriter ndjsonResponseWriter, ChangeVersionService changeVersionService) {
         this.tripService = tripService;
         this.tripMapper = tripMapper;
+        this.tripViewMapper = tripViewMapper;
         this.ownershipService = ownershipService;
+        this.ndjsonResponseWriter = ndjsonResponseWriter;
+        this.changeVersionService = changeVersionService;
     }
 
     /**
@@ -70,10 +96,13 @@ public class TripController {
     }
 
     /**
-     * Updates an existing trip record.
+     * Updates an existing trip record. With an {@code If-Match} header, the trip is only replaced if it
+     * still has the version the client last saw; otherwise the response is 412. The response carries the
+     * new version in its {@code ETag} header.
      *
      * @param userId The ID of the user updating the trip.
      * @param tripId The ID of the trip to update.
+     * @param ifMatch The entity tag the trip must still have, or null to replace any version.
      * @param tripDto Data transfer object representing the updated trip details.
      * @param request The HTTP request object.
      * @return A ResponseEntity containing the updated trip or an error status.
@@ -83,6 +112,7 @@ public class TripController {
     public ResponseEntity<TripDto> updateTrip(
             @RequestParam(value = "userId") Long userId,
             @PathVariable Long tripId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TripDto tripDto,
             HttpServletRequest request) {
 
@@ -94,21 +124,73 @@ public class TripController {
             return new ResponseEntity<>(HttpStatus.FORBIDDEN);
         }
 
-        if(!tripService.isExists(tripId)) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        Long expectedVersion = null;
+        if(ifMatch != null && !ifMatch.trim().equals("*")) {
+            expectedVersion = EntityTags.version(ifMatch);
+            if(expectedVersion == null) {
+                return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+            }
         }
 
         TripEntity tripEntity = tripMapper.mapFrom(tripDto);
-        tripEntity.setTripId(tripId);
-        TripEntity updatedTripEntity = tripService.save(tripEntity);
-        return new ResponseEntity<>(tripMapper.mapTo(updatedTripEntity), HttpStatus.OK);
+        try {
+            return tripService.update(tripId, tripEntity, expectedVersion)
+                    .map(updatedTripEntity -> ResponseEntity.ok()
+                            .eTag(EntityTags.of(updatedTripEntity.getVersion()))
+                            .body(tripMapper.mapTo(updatedTripEntity)))
+                    .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+        }
     }
 
     /**
-     * Retrieves a list of trips for a user on a specific date.
+     * Retrieves a single trip. The response carries the trip's version in its {@code ETag} header, and a
+     * request whose {@code If-None-Match} header lists it is answered with 304 and no body.
+     *
+     * @param userId The ID of the user retrieving the trip.
+     * @param tripId The ID of the trip.
+     * @param ifNoneMatch The entity tags of the copies the client already has, or null.
+     * @param request The HTTP request object.
+     * @return A ResponseEntity containing the trip, 304, or an error status.
+     */
+    // GET /trips/789?userId=123
+    @GetMapping(path = "/trips/{tripId}")
+    public ResponseEntity<TripDto> getTrip(
+            @RequestParam(value = "userId") Long userId,
+            @PathVariable Long tripId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request) {
+
+        if(userId == null) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        if(!ownershipService.doesRequestUsernameMatchTokenUsername(userId, request)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+
+        Optional<TripEntity> tripEntity = tripService.findOne(tripId)
+                .filter(found -> found.getUser() != null && userId.equals(found.getUser().getId()));
+        if(tripEntity.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        String entityTag = EntityTags.of(tripEntity.get().getVersion());
+        if(ifNoneMatch != null && EntityTags.matchesAny(ifNoneMatch, entityTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entityTag).build();
+        }
+        return ResponseEntity.ok().eTag(entityTag).body(tripMapper.mapTo(tripEntity.get()));
+    }
+
+    /**
+     * Retrieves a list of trips for a user on a specific date. The response carries a weak {@code ETag}
+     * derived from the user's change version, so a request whose {@code If-None-Match} header lists it is
+     * answered with 304 without querying the trips.
      *
      * @param userId The ID of the user whose trips are being queried.
      * @param date The date for which trips are being retrieved.
+     * @param ifNoneMatch The entity tags of the copies the client already has, or null.
      * @param request The HTTP request object.
      * @return A ResponseEntity containing a list of TripDto objects or an error status.
      */
@@ -117,6 +199,7 @@ public class TripController {
     public ResponseEntity<List<TripDto>> listTripsByUserIdAndDate(
             @RequestParam(value = "userId") Long userId,
             @RequestParam(value = "date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             HttpServletRequest request) {
 
         if (userId == null || date == null) {
@@ -127,14 +210,20 @@ public class TripController {
             return new ResponseEntity<>(HttpStatus.FORBIDDEN);
         }
 
-        List<TripEntity> trips;
-        trips = tripService.findByUserIdAndDate(userId, date);
+        // The version is read before the trips, so a write committed in between changes the next tag.
+        String entityTag = EntityTags.weakOf(changeVersionService.getVersion(userId), date);
+        if(ifNoneMatch != null && EntityTags.matchesAny(ifNoneMatch, entityTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entityTag).build();
+        }
+
+        List<TripView> trips;
+        trips = tripService.findViewsByUserIdAndDate(userId, date);
 
         List<TripDto> tripDtos = trips.stream()
-                .map(tripMapper::mapTo)
+                .map(tripViewMapper::mapTo)
                 .collect(Collectors.toList());
 
-        return new ResponseEntity<>(tripDtos, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(entityTag).body(tripDtos);
     }
 
     /**
@@ -158,16 +247,112 @@ public class TripController {
             return new ResponseEntity<>(HttpStatus.FORBIDDEN);
         }
 
-        List<TripEntity> trips;
-        trips = tripService.findLastSixMonthsByUserIdAndDate(userId);
+        List<TripView> trips;
+        trips = tripService.findViewsLastSixMonthsByUserId(userId);
 
         List<TripDto> tripDtos = trips.stream()
-                .map(tripMapper::mapTo)
+                .map(tripViewMapper::mapTo)
                 .collect(Collectors.toList());
 
         return new ResponseEntity<>(tripDtos, HttpStatus.OK);
     }
 
+    /**
+     * Retrieves one page of a user's trip history, newest first. The response carries an opaque cursor
+     * that selects the following page; its absence means the history is exhausted.
+     *
+     * @param userId The ID of the user whose trips are being queried.
+     * @param cursor The cursor returned with the previous page, or absent for the first page.
+     * @param limit The page size, at most 100. Defaults to 20.
+     * @param request The HTTP request object.
+     * @return A ResponseEntity containing a page of TripDto objects or an error status.
+     */
+    // GET /trips/history?userId=123&limit=20&cursor=MjAyMy0wMS0wMXw0Mg
+    @GetMapping(path = "/trips/history")
+    public ResponseEntity<CursorPageDto<TripDto>> listTripHistoryByUserId(
+            @RequestParam(value = "userId") Long userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            HttpServletRequest request) {
+
+        if (userId == null) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        int pageSize = limit == null ? DEFAULT_HISTORY_PAGE_SIZE : limit;
+        if (pageSize < 1 || pageSize > MAX_HISTORY_PAGE_SIZE) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        TripHistoryCursor after = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            try {
+                after = TripHistoryCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+        }
+
+        if(!ownershipService.doesRequestUsernameMatchTokenUsername(userId, request)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+
+        // One extra row tells whether another page exists without a count query.
+        List<TripView> trips = tripService.findHistoryByUserId(userId, after, pageSize + 1);
+        boolean hasMore = trips.size() > pageSize;
+        if (hasMore) {
+            trips = trips.subList(0, pageSize);
+        }
+
+        List<TripDto> tripDtos = trips.stream()
+                .map(tripViewMapper::mapTo)
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasMore) {
+            TripView last = trips.get(trips.size() - 1);
+            nextCursor = new TripHistoryCursor(last.date(), last.tripId()).encode();
+        }
+
+        CursorPageDto<TripDto> page = CursorPageDto.<TripDto>builder()
+                .items(tripDtos)
+                .nextCursor(nextCursor)
+                .build();
+
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    /**
+     * Streams every trip of a user, newest first, as newline-delimited JSON. Rows are written as they
+     * are read, so memory use does not grow with the length of the user's history.
+     *
+     * @param userId The ID of the user whose trips are being queried.
+     * @param request The HTTP request object.
+     * @return A ResponseEntity with a streaming body of trips or an error status.
+     */
+    // GET /trips/stream?userId=123
+    @GetMapping(path = "/trips/stream")
+    public ResponseEntity<StreamingResponseBody> streamTripsByUserId(
+            @RequestParam(value = "userId") Long userId,
+            HttpServletRequest request) {
+
+        if (userId == null) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        if(!ownershipService.doesRequestUsernameMatchTokenUsername(userId, request)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+
+        StreamingResponseBody body = ndjsonResponseWriter.write(
+                consumer -> tripService.streamViewsByUserId(userId, consumer),
+                tripViewMapper::mapTo);
+
+        return ResponseEntity.ok()
+                .contentType(NdjsonResponseWriter.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * Deletes a trip record.
      *
@@ -6,6 +6,7 @@ import com.fishinglog.fishingapp.services.auth.OwnershipService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,14 +26,19 @@ public class WeatherController {
 
     private final OwnershipService ownershipService;
 
+    private final boolean enabled;
+
     @Autowired
-    public WeatherController(WeatherService weatherService, OwnershipService ownershipService) {
+    public WeatherController(WeatherService weatherService, OwnershipService ownershipService,
+                             @Value("${weather.enabled:false}") boolean enabled) {
         this.weatherService = weatherService;
         this.ownershipService = ownershipService;
+        this.enabled = enabled;
     }
 
     /**
-     * Retrieves the current weather conditions based on latitude and longitude.
+     * Retrieves the current weather conditions based on latitude and longitude. Responds with 503 unless
+     * {@code weather.enabled} is set.
      *
      * @param userId The ID of the user requesting the weather information.
      * @param latitude The latitude coordinate for the weather request.
@@ -48,16 +54,15 @@ public class WeatherController {
             @RequestParam(value = "longitude") double longitude,
             HttpServletRequest request) {
 
-        // This is a temporary measure until the Weather service is fixed.
-        return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        if(!enabled) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
 
-        /*
         if(!ownershipService.doesRequestUsernameMatchTokenUsername(userId, request)) {
             return new ResponseEntity<>(HttpStatus.FORBIDDEN);
         }
 
         WeatherDto weatherDto = weatherService.getCurrentWeather(latitude, longitude);
         return new ResponseEntity<>(weatherDto, HttpStatus.OK);
-        */
     }
 }
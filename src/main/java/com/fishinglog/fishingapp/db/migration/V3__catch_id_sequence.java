@@ -0,0 +1,40 @@
+package com.fishinglog.fishingapp.db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Creates the sequence that replaces identity generation for catch IDs. The start value depends on
+ * existing data, so it is computed here rather than in a SQL script.
+ *
+ * Hibernate's pooled optimizer treats each sequence value as the upper end of a block of
+ * {@link #ALLOCATION_SIZE} IDs. Starting one full block above the current maximum keeps the first
+ * block clear of existing rows.
+ *
+ * @since 2026-10-18
+ */
+public class V3__catch_id_sequence extends BaseJavaMigration {
+
+    /**
+     * Must match the allocation size declared on the catch entity's sequence generator.
+     */
+    static final int ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            long maxCatchId = 0;
+            try (ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(catch_id), 0) FROM catches")) {
+                if (resultSet.next()) {
+                    maxCatchId = resultSet.getLong(1);
+                }
+            }
+
+            statement.execute("CREATE SEQUENCE IF NOT EXISTS catch_id_seq START WITH "
+                    + (maxCatchId + ALLOCATION_SIZE) + " INCREMENT BY " + ALLOCATION_SIZE);
+        }
+    }
+}
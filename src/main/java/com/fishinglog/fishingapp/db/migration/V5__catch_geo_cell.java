@@ -0,0 +1,49 @@
+package com.fishinglog.fishingapp.db.migration;
+
+import com.fishinglog.fishingapp.geo.GeoCell;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Adds the indexed {@link GeoCell} column used by radius searches over catches, and fills it in for
+ * existing rows. The cell ID interleaves the bits of both coordinates, which is not expressible in
+ * portable SQL, so the backfill is computed here rather than in a SQL script.
+ *
+ * @since 2026-10-18
+ */
+public class V5__catch_geo_cell extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            statement.execute("ALTER TABLE catches ADD COLUMN IF NOT EXISTS geo_cell BIGINT");
+
+            try (ResultSet resultSet = statement.executeQuery("SELECT catch_id, latitude, longitude FROM catches "
+                    + "WHERE latitude IS NOT NULL AND longitude IS NOT NULL");
+                 PreparedStatement update = context.getConnection()
+                         .prepareStatement("UPDATE catches SET geo_cell = ? WHERE catch_id = ?")) {
+                int pending = 0;
+                while (resultSet.next()) {
+                    update.setLong(1, GeoCell.encode(resultSet.getDouble(2), resultSet.getDouble(3)));
+                    update.setLong(2, resultSet.getLong(1));
+                    update.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        update.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    update.executeBatch();
+                }
+            }
+
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_catches_geo_cell ON catches (geo_cell)");
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.fishinglog.fishingapp.db.optional;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Optional migration that recreates the foreign keys from trips to users and from catches to trips with
+ * {@code ON DELETE CASCADE}, so that deleting a user row also removes its trips and catches in the database.
+ *
+ * It only runs when {@code classpath:com/fishinglog/fishingapp/db/optional} is added to
+ * {@code spring.flyway.locations}. It is a repeatable migration, so Flyway applies it after the versioned
+ * migrations whenever the location is first enabled, whatever version the database is already at; once
+ * applied, the location must stay configured. Databases created by Hibernate have generated constraint
+ * names, so the existing constraints are looked up through the JDBC metadata rather than by name.
+ *
+ * @since 2026-10-18
+ */
+public class R__on_delete_cascade extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        recreateWithCascade(connection, "trips", "user_id", "users", "id", "fk_trips_user_id");
+        recreateWithCascade(connection, "catches", "trip_id", "trips", "trip_id", "fk_catches_trip_id");
+    }
+
+    private static void recreateWithCascade(Connection connection, String table, String column,
+                                            String referencedTable, String referencedColumn,
+                                            String constraintName) throws SQLException {
+        List<String> existing = new ArrayList<>();
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet keys = metaData.getImportedKeys(connection.getCatalog(), connection.getSchema(),
+                storedIdentifier(metaData, table))) {
+            while (keys.next()) {
+                if (column.equalsIgnoreCase(keys.getString("FKCOLUMN_NAME"))
+                        && referencedTable.equalsIgnoreCase(keys.getString("PKTABLE_NAME"))) {
+                    existing.add(keys.getString("FK_NAME"));
+                }
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            for (String name : existing) {
+                statement.execute("ALTER TABLE " + table + " DROP CONSTRAINT " + name);
+            }
+            statement.execute("ALTER TABLE " + table + " ADD CONSTRAINT " + constraintName
+                    + " FOREIGN KEY (" + column + ") REFERENCES " + referencedTable + " (" + referencedColumn + ")"
+                    + " ON DELETE CASCADE");
+        }
+    }
+
+    /**
+     * Metadata lookups match identifiers as the database stores them, for example upper case on H2.
+     */
+    private static String storedIdentifier(DatabaseMetaData metaData, String identifier) throws SQLException {
+        if (metaData.storesUpperCaseIdentifiers()) {
+            return identifier.toUpperCase(Locale.ROOT);
+        }
+        if (metaData.storesLowerCaseIdentifiers()) {
+            return identifier.toLowerCase(Locale.ROOT);
+        }
+        return identifier;
+    }
+}
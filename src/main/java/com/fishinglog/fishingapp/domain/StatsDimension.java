@@ -0,0 +1,17 @@
+package com.fishinglog.fishingapp.domain;
+
+/**
+ * Enumerates the dimensions by which a user's catch statistics are grouped. {@link #TOTAL} groups all of
+ * a user's catches under a single row.
+ *
+ * @since 2026-10-18
+ */
+public enum StatsDimension {
+
+    TOTAL,
+    SPECIES,
+    LURE_OR_BAIT,
+    WEATHER_CONDITION,
+    BODY_OF_WATER
+
+}
@@ -0,0 +1,31 @@
+package com.fishinglog.fishingapp.domain;
+
+/**
+ * Enumerates the weather conditions reported to clients, each with the label used in API responses.
+ *
+ * @since 2026-10-18
+ */
+public enum WeatherCondition {
+
+    CLEAR("clear"),
+    PARTLY_CLOUDY("partly cloudy"),
+    CLOUDY("cloudy"),
+    OVERCAST("overcast"),
+    LIGHT_PRECIPITATION("light precipitation"),
+    MODERATE_PRECIPITATION("moderate precipitation"),
+    HEAVY_PRECIPITATION("heavy precipitation"),
+    UNKNOWN("unknown");
+
+    private final String label;
+
+    WeatherCondition(String label) {
+        this.label = label;
+    }
+
+    /**
+     * @return The label used in API responses.
+     */
+    public String getLabel() {
+        return label;
+    }
+}
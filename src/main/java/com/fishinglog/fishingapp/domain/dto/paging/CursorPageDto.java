@@ -0,0 +1,29 @@
+package com.fishinglog.fishingapp.domain.dto.paging;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for one page of a cursor-paginated listing.
+ *
+ * @param <T> The type of the items on the page.
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageDto<T> {
+
+    private List<T> items;
+
+    /**
+     * Opaque cursor to pass back to fetch the next page, or null when this is the last page.
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,52 @@
+package com.fishinglog.fishingapp.domain.dto.paging;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a user's trip history, ordered by date and then trip ID, both descending. A cursor points
+ * at the last trip of a page; the next page starts strictly after it.
+ *
+ * Cursors are handed to clients as URL-safe Base64 strings and should be treated by them as opaque.
+ *
+ * @param date The date of the last trip returned.
+ * @param tripId The ID of the last trip returned.
+ *
+ * @since 2026-10-18
+ */
+public record TripHistoryCursor(LocalDate date, Long tripId) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * @return The opaque string form of this cursor.
+     */
+    public String encode() {
+        String raw = date.toString() + SEPARATOR + tripId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Parses a cursor previously produced by {@link #encode()}.
+     *
+     * @param cursor The opaque cursor string.
+     * @return The decoded cursor.
+     * @throws IllegalArgumentException If the string is not a valid cursor.
+     */
+    public static TripHistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int separator = raw.indexOf(SEPARATOR);
+            if(separator < 0) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new TripHistoryCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+}
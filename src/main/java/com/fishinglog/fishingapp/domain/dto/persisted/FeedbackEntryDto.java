@@ -0,0 +1,26 @@
+package com.fishinglog.fishingapp.domain.dto.persisted;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Data Transfer Object for a stored feedback entry, as returned to administrators.
+ *
+ * @since 2026-10-18
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class FeedbackEntryDto {
+
+    private Instant timestamp;
+
+    private Long userId;
+
+    private String feedback;
+}
@@ -0,0 +1,22 @@
+package com.fishinglog.fishingapp.domain.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the number of catches sharing one value, such as a species.
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CountDto {
+
+    private String value;
+
+    private long count;
+}
@@ -0,0 +1,33 @@
+package com.fishinglog.fishingapp.domain.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a cluster of nearby catches. The center is the mean of the catches' coordinates
+ * and the radius is the distance from it to the farthest catch. Breakdowns are ordered by count, highest first.
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class HotspotDto {
+
+    private double latitude;
+
+    private double longitude;
+
+    private double radiusKm;
+
+    private long catchCount;
+
+    private List<CountDto> bySpecies;
+
+    private List<CountDto> byLureOrBait;
+}
@@ -0,0 +1,41 @@
+package com.fishinglog.fishingapp.domain.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a user's trip and catch totals. Each breakdown is ordered by count, highest first.
+ * Averages are taken over the catches that recorded the value, and are null if none did.
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class StatsSummaryDto {
+
+    private Long userId;
+
+    private long tripCount;
+
+    private long catchCount;
+
+    private List<CountDto> bySpecies;
+
+    private List<CountDto> byLureOrBait;
+
+    private List<CountDto> byWeatherCondition;
+
+    private List<CountDto> byBodyOfWater;
+
+    private Double averageAirTemperature;
+
+    private Double averageWaterTemperature;
+
+    private Double averageWindSpeed;
+}
@@ -1,9 +1,11 @@
 package com.fishinglog.fishingapp.domain.entities;
 
+import com.fishinglog.fishingapp.geo.GeoCell;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalTime;
@@ -22,15 +24,30 @@ import java.time.LocalTime;
 public class CatchEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "catch_id_seq")
+    @SequenceGenerator(name = "catch_id_seq", sequenceName = "catch_id_seq", allocationSize = 50)
     private Long catchId;
 
+    /**
+     * Incremented on every update. Writers that still hold an older version are rejected, so concurrent
+     * updates of the same row cannot silently overwrite each other.
+     */
+    @Version
+    @EqualsAndHashCode.Exclude
+    private long version;
+
     private LocalTime time;
 
     private Double latitude;
 
     private Double longitude;
 
+    /**
+     * The {@link GeoCell} ID of the coordinates, kept in step with them on every insert and update so that
+     * radius searches can use an index. Null when either coordinate is missing.
+     */
+    private Long geoCell;
+
     private String species;
 
     private String lureOrBait;
@@ -46,4 +63,10 @@ public class CatchEntity {
     @ManyToOne
     @JoinColumn(name = "trip_id")
     private TripEntity trip;
+
+    @PrePersist
+    @PreUpdate
+    void updateGeoCell() {
+        geoCell = latitude == null || longitude == null ? null : GeoCell.encode(latitude, longitude);
+    }
 }
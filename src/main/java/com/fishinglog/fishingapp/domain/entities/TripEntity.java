@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
@@ -25,6 +26,13 @@ public class TripEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long tripId;
 
+    /**
+     * The optimistic-locking version of the trip, incremented on every update.
+     */
+    @Version
+    @EqualsAndHashCode.Exclude
+    private long version;
+
     private LocalDate date;
 
     private String bodyOfWater;
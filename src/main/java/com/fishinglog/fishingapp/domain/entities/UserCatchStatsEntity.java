@@ -0,0 +1,41 @@
+package com.fishinglog.fishingapp.domain.entities;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity representation of one group of a user's catch statistics, mapping to the 'user_catch_stats'
+ * table in the database. Averages are stored as a sum and a count of the non-null values.
+ *
+ * @since 2026-10-18
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "user_catch_stats")
+public class UserCatchStatsEntity {
+
+    @EmbeddedId
+    private UserCatchStatsId id;
+
+    private long catchCount;
+
+    private long airTemperatureSum;
+
+    private long airTemperatureCount;
+
+    private long waterTemperatureSum;
+
+    private long waterTemperatureCount;
+
+    private long windSpeedSum;
+
+    private long windSpeedCount;
+}
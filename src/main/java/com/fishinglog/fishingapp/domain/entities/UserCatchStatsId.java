@@ -0,0 +1,33 @@
+package com.fishinglog.fishingapp.domain.entities;
+
+import com.fishinglog.fishingapp.domain.StatsDimension;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Composite key of a {@link UserCatchStatsEntity}: a user, a dimension, and one value of that dimension.
+ * Null values are stored as an empty string.
+ *
+ * @since 2026-10-18
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Embeddable
+public class UserCatchStatsId implements Serializable {
+
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    private StatsDimension dimension;
+
+    @Column(name = "dimension_value")
+    private String value;
+}
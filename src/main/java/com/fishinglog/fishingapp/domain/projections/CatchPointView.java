@@ -0,0 +1,14 @@
+package com.fishinglog.fishingapp.domain.projections;
+
+/**
+ * Read-side projection of the location of a catch and what was caught there, loaded to build hotspots.
+ *
+ * @since 2026-10-18
+ */
+public record CatchPointView(
+        long catchId,
+        double latitude,
+        double longitude,
+        String species,
+        String lureOrBait) {
+}
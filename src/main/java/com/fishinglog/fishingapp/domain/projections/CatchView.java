@@ -0,0 +1,28 @@
+package com.fishinglog.fishingapp.domain.projections;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Flat read-side projection of a catch together with its trip and the trip's user,
+ * loaded in a single statement for catch listings.
+ *
+ * @since 2026-10-18
+ */
+public record CatchView(
+        Long catchId,
+        LocalTime time,
+        Double latitude,
+        Double longitude,
+        String species,
+        String lureOrBait,
+        String weatherCondition,
+        Integer airTemperature,
+        Integer waterTemperature,
+        Integer windSpeed,
+        Long tripId,
+        LocalDate tripDate,
+        String bodyOfWater,
+        Long userId,
+        String username) {
+}
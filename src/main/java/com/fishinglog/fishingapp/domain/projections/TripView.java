@@ -0,0 +1,16 @@
+package com.fishinglog.fishingapp.domain.projections;
+
+import java.time.LocalDate;
+
+/**
+ * Flat read-side projection of a trip together with its user, loaded in a single statement for trip listings.
+ *
+ * @since 2026-10-18
+ */
+public record TripView(
+        Long tripId,
+        LocalDate date,
+        String bodyOfWater,
+        Long userId,
+        String username) {
+}
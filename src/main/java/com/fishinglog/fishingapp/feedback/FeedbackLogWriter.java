@@ -0,0 +1,201 @@
+package com.fishinglog.fishingapp.feedback;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+
+/**
+ * Single writer for the {@link FeedbackSegmentLog}. Request threads only enqueue entries; one background
+ * thread drains the queue, appends each batch to the log and flushes it with a single write, so entries
+ * never interleave and request latency does not depend on the disk.
+ *
+ * The queue is bounded: {@link #offer(long, String)} returns false instead of blocking when it is full, and
+ * once the writer has been stopped. Appended data is forced to disk at most once per
+ * {@code feedback.fsync-interval}, and once more on shutdown after the queue has been drained.
+ *
+ * A failed write is retried with a growing delay after the log has dropped the partly written batch, so a
+ * transient I/O error only delays entries; meanwhile new entries queue up until the queue is full. Entries
+ * still unwritten when a write fails during shutdown are lost, and the number lost is logged.
+ *
+ * @since 2026-10-18
+ */
+@Component
+@Log
+public class FeedbackLogWriter {
+
+    private static final long INITIAL_RETRY_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final long MAX_RETRY_DELAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final FeedbackSegmentLog segmentLog;
+
+    private final int capacity;
+
+    private final int maxBatchSize;
+
+    private final long fsyncIntervalNanos;
+
+    private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private volatile boolean stopped;
+
+    private Thread writerThread;
+
+    public FeedbackLogWriter(FeedbackSegmentLog segmentLog,
+                             @Value("${feedback.queue-capacity:10000}") int capacity,
+                             @Value("${feedback.max-batch-size:512}") int maxBatchSize,
+                             @Value("${feedback.fsync-interval:1s}") Duration fsyncInterval) {
+        this.segmentLog = segmentLog;
+        this.capacity = capacity;
+        this.maxBatchSize = maxBatchSize;
+        this.fsyncIntervalNanos = fsyncInterval.toNanos();
+    }
+
+    /**
+     * Enqueues a feedback entry to be appended as one record.
+     *
+     * @param userId The ID of the user who submitted the feedback.
+     * @param feedback The feedback text.
+     * @return true if the entry was accepted, false if the queue is full or the writer has been stopped.
+     */
+    public boolean offer(long userId, String feedback) {
+        if (stopped) {
+            return false;
+        }
+
+        int current;
+        do {
+            current = size.get();
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!size.compareAndSet(current, current + 1));
+
+        Entry entry = new Entry(userId, feedback);
+        queue.add(entry);
+        // The writer drains the queue once more after stop, so an entry added before it saw the queue empty
+        // is written; one added later is still in the queue and is taken back.
+        if (stopped && queue.remove(entry)) {
+            size.decrementAndGet();
+            return false;
+        }
+        LockSupport.unpark(writerThread);
+        return true;
+    }
+
+    /**
+     * Starts the background writer.
+     */
+    @PostConstruct
+    public void start() {
+        writerThread = new Thread(this::run, "feedback-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Stops the background writer after it has appended and synced every accepted entry.
+     *
+     * @throws InterruptedException If interrupted while waiting for the writer.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopped = true;
+        if (writerThread != null) {
+            LockSupport.unpark(writerThread);
+            writerThread.join();
+        }
+    }
+
+    private void run() {
+        Entry[] batch = new Entry[maxBatchSize];
+        int count = 0;
+        long lastSync = System.nanoTime();
+        boolean dirty = false;
+        long retryDelayNanos = INITIAL_RETRY_DELAY_NANOS;
+
+        while (!stopped || count > 0 || !queue.isEmpty()) {
+            if (count == 0) {
+                count = drain(batch);
+            }
+            long now;
+            try {
+                if (count > 0) {
+                    for (int i = 0; i < count; i++) {
+                        segmentLog.append(batch[i].userId(), batch[i].feedback());
+                    }
+                    segmentLog.flush();
+                    Arrays.fill(batch, 0, count, null);
+                    count = 0;
+                    dirty = true;
+                }
+
+                now = System.nanoTime();
+                if (dirty && now - lastSync >= fsyncIntervalNanos) {
+                    segmentLog.sync();
+                    lastSync = now;
+                    dirty = false;
+                }
+                retryDelayNanos = INITIAL_RETRY_DELAY_NANOS;
+            } catch (IOException e) {
+                if (stopped) {
+                    log.log(Level.SEVERE, "Feedback writer stopped after failing to write the feedback log; "
+                            + (count + size.get()) + " entries were lost", e);
+                    return;
+                }
+                log.log(Level.WARNING, "Failed to write the feedback log; retrying in "
+                        + TimeUnit.NANOSECONDS.toMillis(retryDelayNanos) + " ms", e);
+                reopen();
+                LockSupport.parkNanos(this, retryDelayNanos);
+                retryDelayNanos = Math.min(retryDelayNanos * 2, MAX_RETRY_DELAY_NANOS);
+                continue;
+            }
+
+            if (count == 0 && !stopped && queue.isEmpty()) {
+                LockSupport.parkNanos(this, dirty ? fsyncIntervalNanos - (now - lastSync) : fsyncIntervalNanos);
+            }
+        }
+
+        try {
+            segmentLog.sync();
+        } catch (IOException e) {
+            log.log(Level.SEVERE, "Failed to sync the feedback log on shutdown", e);
+        }
+    }
+
+    private void reopen() {
+        try {
+            segmentLog.reopen();
+        } catch (IOException e) {
+            // The next write fails as well and is retried after a longer delay.
+            log.log(Level.WARNING, "Failed to reopen the feedback log", e);
+        }
+    }
+
+    private int drain(Entry[] batch) {
+        int count = 0;
+        Entry entry;
+        while (count < batch.length && (entry = queue.poll()) != null) {
+            batch[count++] = entry;
+        }
+        size.addAndGet(-count);
+        return count;
+    }
+
+    private record Entry(long userId, String feedback) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.fishinglog.fishingapp.feedback;
+
+/**
+ * A feedback entry as stored in the {@link FeedbackSegmentLog}.
+ *
+ * @param timestamp The time the entry was appended, in epoch milliseconds.
+ * @param userId The ID of the user who submitted the feedback.
+ * @param feedback The feedback text.
+ *
+ * @since 2026-10-18
+ */
+public record FeedbackRecord(long timestamp, long userId, String feedback) {
+}
@@ -0,0 +1,505 @@
+package com.fishinglog.fishingapp.feedback;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * Append-only feedback log split into numbered segment files.
+ *
+ * Each record is stored as {@code [int length][long timestamp][long userId][UTF-8 feedback]}, where the
+ * length counts the bytes after itself. Timestamps are assigned on append and never decrease. A new
+ * segment is started once the current one reaches {@code feedback.segment.max-bytes} or has been open
+ * for {@code feedback.segment.max-age}.
+ *
+ * Next to every {@code .log} file is a sparse {@code .idx} file of {@code [long timestamp][long position]}
+ * entries, one for roughly every {@code feedback.segment.index-interval} bytes of records. Reads
+ * binary-search the index of each relevant segment and scan forward from there over a memory-mapped
+ * view of the segment, so a time-range query only touches the segments and bytes it needs.
+ *
+ * Appending, flushing and syncing must all happen on one writer thread (see {@link FeedbackLogWriter}).
+ * Reads are safe from any thread and only see records that have been flushed.
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class FeedbackSegmentLog {
+
+    static final int LENGTH_BYTES = Integer.BYTES;
+
+    static final int HEADER_BYTES = 2 * Long.BYTES;
+
+    static final int INDEX_ENTRY_BYTES = 2 * Long.BYTES;
+
+    private static final String LOG_SUFFIX = ".log";
+
+    private static final String INDEX_SUFFIX = ".idx";
+
+    private final Path directory;
+
+    private final long maxSegmentBytes;
+
+    private final long maxSegmentAgeMillis;
+
+    private final long indexIntervalBytes;
+
+    private final Clock clock;
+
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+
+    private Segment active;
+
+    private FileChannel activeLog;
+
+    private FileChannel activeIndex;
+
+    private final List<ByteBuffer> pendingRecords = new ArrayList<>();
+
+    private final List<ByteBuffer> pendingIndexEntries = new ArrayList<>();
+
+    private long pendingRecordBytes;
+
+    private long lastIndexedPosition;
+
+    private long flushedIndexedPosition;
+
+    private long lastTimestamp;
+
+    private long nextSegmentNumber;
+
+    @Autowired
+    public FeedbackSegmentLog(@Value("${feedback.directory:feedback}") Path directory,
+                              @Value("${feedback.segment.max-bytes:64MB}") DataSize maxSegmentSize,
+                              @Value("${feedback.segment.max-age:1d}") Duration maxSegmentAge,
+                              @Value("${feedback.segment.index-interval:4KB}") DataSize indexInterval) throws IOException {
+        this(directory, maxSegmentSize, maxSegmentAge, indexInterval, Clock.systemUTC());
+    }
+
+    FeedbackSegmentLog(Path directory, DataSize maxSegmentSize, Duration maxSegmentAge, DataSize indexInterval,
+                       Clock clock) throws IOException {
+        if (maxSegmentSize.toBytes() <= 0 || maxSegmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("feedback.segment.max-bytes must be between 1 byte and 2GB");
+        }
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentSize.toBytes();
+        this.maxSegmentAgeMillis = maxSegmentAge.toMillis();
+        this.indexIntervalBytes = Math.max(indexInterval.toBytes(), 1);
+        this.clock = clock;
+
+        Files.createDirectories(directory);
+        recover();
+    }
+
+    /**
+     * Buffers a record for the next {@link #flush()}, starting a new segment first if the current one is full
+     * or too old. Writer thread only.
+     *
+     * @param userId The ID of the user who submitted the feedback.
+     * @param feedback The feedback text.
+     * @throws IOException If a new segment cannot be created.
+     */
+    public void append(long userId, String feedback) throws IOException {
+        long timestamp = Math.max(clock.millis(), lastTimestamp);
+        lastTimestamp = timestamp;
+
+        byte[] payload = feedback.getBytes(StandardCharsets.UTF_8);
+        int recordBytes = LENGTH_BYTES + HEADER_BYTES + payload.length;
+
+        if (active == null || shouldRoll(timestamp)) {
+            flush();
+            roll(timestamp);
+        }
+
+        long position = active.logSize + pendingRecordBytes;
+        if (position == 0 || position - lastIndexedPosition >= indexIntervalBytes) {
+            pendingIndexEntries.add(ByteBuffer.allocate(INDEX_ENTRY_BYTES).putLong(timestamp).putLong(position).flip());
+            lastIndexedPosition = position;
+        }
+
+        pendingRecords.add(ByteBuffer.allocate(recordBytes)
+                .putInt(HEADER_BYTES + payload.length)
+                .putLong(timestamp)
+                .putLong(userId)
+                .put(payload)
+                .flip());
+        pendingRecordBytes += recordBytes;
+    }
+
+    /**
+     * Writes every buffered record and index entry and makes them visible to readers. Writer thread only.
+     *
+     * @throws IOException If the segment cannot be written.
+     */
+    public void flush() throws IOException {
+        if (pendingRecords.isEmpty()) {
+            return;
+        }
+        writeFully(activeLog, pendingRecords);
+        writeFully(activeIndex, pendingIndexEntries);
+
+        active.indexSize += (long) pendingIndexEntries.size() * INDEX_ENTRY_BYTES;
+        active.logSize += pendingRecordBytes;
+
+        pendingRecords.clear();
+        pendingIndexEntries.clear();
+        pendingRecordBytes = 0;
+        flushedIndexedPosition = lastIndexedPosition;
+    }
+
+    /**
+     * Recovers from a failed write: drops the buffered records and reopens the active segment truncated to
+     * the end of its last complete flush, so that a partly written batch leaves nothing behind and can be
+     * appended again. Writer thread only.
+     *
+     * @throws IOException If the segment cannot be reopened.
+     */
+    public void reopen() throws IOException {
+        pendingRecords.clear();
+        pendingIndexEntries.clear();
+        pendingRecordBytes = 0;
+        lastIndexedPosition = flushedIndexedPosition;
+        if (active == null) {
+            return;
+        }
+
+        try {
+            closeActive();
+        } catch (IOException e) {
+            // The channels are replaced below either way.
+            activeLog = null;
+            activeIndex = null;
+        }
+        openActive(active);
+        activeLog.truncate(active.logSize);
+        activeIndex.truncate(active.indexSize);
+    }
+
+    /**
+     * Forces flushed data of the active segment to disk. Writer thread only.
+     *
+     * @throws IOException If the data cannot be synced.
+     */
+    public void sync() throws IOException {
+        if (activeLog != null) {
+            activeLog.force(false);
+            activeIndex.force(false);
+        }
+    }
+
+    /**
+     * Reads records with timestamps in the given range, oldest first.
+     *
+     * @param fromMillis The inclusive lower bound, in epoch milliseconds.
+     * @param toMillis The inclusive upper bound, in epoch milliseconds.
+     * @param limit The maximum number of records to return.
+     * @return The matching records.
+     * @throws IOException If a segment cannot be read.
+     */
+    public List<FeedbackRecord> read(long fromMillis, long toMillis, int limit) throws IOException {
+        List<FeedbackRecord> result = new ArrayList<>();
+        List<Segment> snapshot = List.copyOf(segments);
+
+        for (int i = 0; i < snapshot.size() && result.size() < limit; i++) {
+            Segment segment = snapshot.get(i);
+            if (segment.firstTimestamp > toMillis) {
+                break;
+            }
+            // Timestamps never decrease, so a segment ends before the next one's first record.
+            if (i + 1 < snapshot.size() && snapshot.get(i + 1).firstTimestamp < fromMillis) {
+                continue;
+            }
+            if (!readSegment(segment, fromMillis, toMillis, limit, result)) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Flushes, syncs and closes the active segment.
+     *
+     * @throws IOException If the segment cannot be closed cleanly.
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        flush();
+        sync();
+        closeActive();
+    }
+
+    /**
+     * @return The number of segments, including the active one.
+     */
+    int segmentCount() {
+        return segments.size();
+    }
+
+    private boolean shouldRoll(long timestamp) {
+        long size = active.logSize + pendingRecordBytes;
+        return size >= maxSegmentBytes || (size > 0 && timestamp - active.firstTimestamp >= maxSegmentAgeMillis);
+    }
+
+    private void roll(long firstTimestamp) throws IOException {
+        closeActive();
+        long number = nextSegmentNumber++;
+        Segment segment = new Segment(logPath(number), indexPath(number), firstTimestamp, 0, 0);
+        openActive(segment);
+        lastIndexedPosition = 0;
+        flushedIndexedPosition = 0;
+        segments.add(segment);
+    }
+
+    private void openActive(Segment segment) throws IOException {
+        activeLog = FileChannel.open(segment.logPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        activeIndex = FileChannel.open(segment.indexPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        active = segment;
+    }
+
+    private void closeActive() throws IOException {
+        if (activeLog != null) {
+            activeLog.close();
+            activeIndex.close();
+            activeLog = null;
+            activeIndex = null;
+        }
+    }
+
+    /**
+     * Reads one segment into the result list.
+     *
+     * @return false once a record past the end of the range or the limit has been reached.
+     */
+    private boolean readSegment(Segment segment, long fromMillis, long toMillis, int limit,
+                                List<FeedbackRecord> result) throws IOException {
+        long logSize = segment.logSize;
+        if (logSize == 0) {
+            return true;
+        }
+
+        try (FileChannel channel = FileChannel.open(segment.logPath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, logSize);
+            // The index may already cover a batch flushed after logSize was read; such entries lie past the
+            // mapped range and can only hold records newer than the ones being looked for.
+            buffer.position((int) Math.min(seek(segment, fromMillis), logSize));
+
+            while (buffer.remaining() >= LENGTH_BYTES + HEADER_BYTES) {
+                int length = buffer.getInt();
+                long timestamp = buffer.getLong();
+                long userId = buffer.getLong();
+                int payloadLength = length - HEADER_BYTES;
+
+                if (timestamp > toMillis) {
+                    return false;
+                }
+                if (timestamp < fromMillis) {
+                    buffer.position(buffer.position() + payloadLength);
+                    continue;
+                }
+
+                byte[] payload = new byte[payloadLength];
+                buffer.get(payload);
+                result.add(new FeedbackRecord(timestamp, userId, new String(payload, StandardCharsets.UTF_8)));
+                if (result.size() >= limit) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the position of the last indexed record strictly before the given time, or the segment start.
+     */
+    private long seek(Segment segment, long fromMillis) throws IOException {
+        long indexSize = segment.indexSize;
+        if (indexSize < INDEX_ENTRY_BYTES) {
+            return 0;
+        }
+
+        try (FileChannel channel = FileChannel.open(segment.indexPath, StandardOpenOption.READ)) {
+            MappedByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, 0, indexSize);
+            int low = 0;
+            int high = (int) (indexSize / INDEX_ENTRY_BYTES) - 1;
+            long position = 0;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (index.getLong(mid * INDEX_ENTRY_BYTES) < fromMillis) {
+                    position = index.getLong(mid * INDEX_ENTRY_BYTES + Long.BYTES);
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return position;
+        }
+    }
+
+    /**
+     * Loads the existing segments. The tail of the last segment may hold a record that was only partly
+     * written before a crash; it is truncated to the last complete record and reopened for appending.
+     */
+    private void recover() throws IOException {
+        List<Long> numbers;
+        try (Stream<Path> files = Files.list(directory)) {
+            numbers = files
+                    .map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(LOG_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - LOG_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+
+        for (int i = 0; i < numbers.size(); i++) {
+            long number = numbers.get(i);
+            nextSegmentNumber = number + 1;
+            boolean last = i == numbers.size() - 1;
+            Segment segment = last ? recoverTail(number) : loadSealed(number);
+            if (segment == null) {
+                continue;
+            }
+            segments.add(segment);
+            lastTimestamp = Math.max(lastTimestamp, segment.firstTimestamp);
+            if (last) {
+                openActive(segment);
+            }
+        }
+    }
+
+    private Segment loadSealed(long number) throws IOException {
+        Path logPath = logPath(number);
+        long logSize = Files.size(logPath);
+        if (logSize < LENGTH_BYTES + HEADER_BYTES) {
+            return null;
+        }
+        Path indexPath = indexPath(number);
+        long indexSize = Files.exists(indexPath) ? Files.size(indexPath) / INDEX_ENTRY_BYTES * INDEX_ENTRY_BYTES : 0;
+        return new Segment(logPath, indexPath, readFirstTimestamp(logPath), logSize, indexSize);
+    }
+
+    private Segment recoverTail(long number) throws IOException {
+        Path logPath = logPath(number);
+        Path indexPath = indexPath(number);
+
+        try (FileChannel log = FileChannel.open(logPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileChannel index = FileChannel.open(indexPath,
+                     StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long logSize = log.size();
+
+            // Keep only whole index entries that point inside the log.
+            long entries = index.size() / INDEX_ENTRY_BYTES;
+            long scanFrom = 0;
+            ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_BYTES);
+            long validEntries = 0;
+            for (long e = 0; e < entries; e++) {
+                entry.clear();
+                index.read(entry, e * INDEX_ENTRY_BYTES);
+                long position = entry.getLong(Long.BYTES);
+                if (position >= logSize) {
+                    break;
+                }
+                scanFrom = position;
+                validEntries = e + 1;
+            }
+
+            // Walk the records after the last index entry to find the end of the last whole record.
+            long validSize = scanFrom;
+            long timestamp = 0;
+            ByteBuffer header = ByteBuffer.allocate(LENGTH_BYTES + HEADER_BYTES);
+            while (validSize + header.capacity() <= logSize) {
+                header.clear();
+                log.read(header, validSize);
+                int length = header.getInt(0);
+                if (length < HEADER_BYTES || validSize + LENGTH_BYTES + length > logSize) {
+                    break;
+                }
+                timestamp = header.getLong(LENGTH_BYTES);
+                validSize += LENGTH_BYTES + length;
+            }
+
+            if (validSize > 0) {
+                log.truncate(validSize);
+                index.truncate(validEntries * INDEX_ENTRY_BYTES);
+                lastIndexedPosition = scanFrom;
+                flushedIndexedPosition = scanFrom;
+                lastTimestamp = timestamp;
+                return new Segment(logPath, indexPath, readFirstTimestamp(logPath), validSize,
+                        validEntries * INDEX_ENTRY_BYTES);
+            }
+        }
+
+        // Nothing in the segment survived; drop it rather than keep an empty file around.
+        Files.deleteIfExists(logPath);
+        Files.deleteIfExists(indexPath);
+        return null;
+    }
+
+    private static long readFirstTimestamp(Path logPath) throws IOException {
+        try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(LENGTH_BYTES + HEADER_BYTES);
+            channel.read(header, 0);
+            return header.getLong(LENGTH_BYTES);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, List<ByteBuffer> buffers) throws IOException {
+        ByteBuffer[] array = buffers.toArray(ByteBuffer[]::new);
+        int offset = 0;
+        while (offset < array.length) {
+            channel.write(array, offset, array.length - offset);
+            while (offset < array.length && !array[offset].hasRemaining()) {
+                offset++;
+            }
+        }
+    }
+
+    private Path logPath(long number) {
+        return directory.resolve(String.format("%020d%s", number, LOG_SUFFIX));
+    }
+
+    private Path indexPath(long number) {
+        return directory.resolve(String.format("%020d%s", number, INDEX_SUFFIX));
+    }
+
+    /**
+     * A segment's files and the sizes readers may safely map.
+     */
+    private static final class Segment {
+
+        private final Path logPath;
+
+        private final Path indexPath;
+
+        private final long firstTimestamp;
+
+        private volatile long logSize;
+
+        private volatile long indexSize;
+
+        private Segment(Path logPath, Path indexPath, long firstTimestamp, long logSize, long indexSize) {
+            this.logPath = logPath;
+            this.indexPath = indexPath;
+            this.firstTimestamp = firstTimestamp;
+            this.logSize = logSize;
+            this.indexSize = indexSize;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.fishinglog.fishingapp.geo;
+
+import java.util.List;
+
+/**
+ * A latitude/longitude rectangle, in degrees. A box that crosses the antimeridian has a minimum longitude
+ * below -180 or a maximum above 180 until it is split.
+ *
+ * @param minLatitude The southern edge.
+ * @param maxLatitude The northern edge.
+ * @param minLongitude The western edge.
+ * @param maxLongitude The eastern edge.
+ *
+ * @since 2026-10-18
+ */
+public record GeoBoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+
+    /**
+     * Mean radius of the Earth, in kilometres.
+     */
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    /**
+     * Computes the smallest box that contains every point within a distance of a center. Near the poles,
+     * where longitude lines converge, the box spans every longitude.
+     *
+     * @param latitude The latitude of the center.
+     * @param longitude The longitude of the center.
+     * @param radiusKm The distance, in kilometres.
+     * @return The bounding box.
+     */
+    public static GeoBoundingBox around(double latitude, double longitude, double radiusKm) {
+        double latitudeDelta = Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+        double minLatitude = latitude - latitudeDelta;
+        double maxLatitude = latitude + latitudeDelta;
+        if (minLatitude <= -90.0 || maxLatitude >= 90.0) {
+            return new GeoBoundingBox(Math.max(minLatitude, -90.0), Math.min(maxLatitude, 90.0), -180.0, 180.0);
+        }
+
+        double longitudeDelta = Math.toDegrees(Math.asin(Math.min(1.0,
+                Math.sin(radiusKm / EARTH_RADIUS_KM) / Math.cos(Math.toRadians(latitude)))));
+        if (longitudeDelta >= 180.0) {
+            return new GeoBoundingBox(minLatitude, maxLatitude, -180.0, 180.0);
+        }
+        return new GeoBoundingBox(minLatitude, maxLatitude, longitude - longitudeDelta, longitude + longitudeDelta);
+    }
+
+    /**
+     * Splits a box that crosses the antimeridian into one box on either side of it.
+     *
+     * @return One or two boxes whose longitudes lie within [-180, 180].
+     */
+    public List<GeoBoundingBox> splitAtAntimeridian() {
+        if (minLongitude < -180.0) {
+            return List.of(
+                    new GeoBoundingBox(minLatitude, maxLatitude, minLongitude + 360.0, 180.0),
+                    new GeoBoundingBox(minLatitude, maxLatitude, -180.0, maxLongitude));
+        }
+        if (maxLongitude > 180.0) {
+            return List.of(
+                    new GeoBoundingBox(minLatitude, maxLatitude, minLongitude, 180.0),
+                    new GeoBoundingBox(minLatitude, maxLatitude, -180.0, maxLongitude - 360.0));
+        }
+        return List.of(this);
+    }
+
+    /**
+     * Computes the great-circle distance between two points with the haversine formula.
+     *
+     * @return The distance, in kilometres.
+     */
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double latitudeDelta = Math.toRadians(latitude2 - latitude1);
+        double longitudeDelta = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(latitudeDelta / 2) * Math.sin(latitudeDelta / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(longitudeDelta / 2) * Math.sin(longitudeDelta / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
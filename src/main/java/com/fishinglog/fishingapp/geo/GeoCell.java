@@ -0,0 +1,120 @@
+package com.fishinglog.fishingapp.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes coordinates as Z-order cell IDs, the integer form of a geohash. The latitude and longitude
+ * ranges are each split into 2<sup>26</sup> steps and their bits are interleaved, longitude first, so that
+ * every cell of a coarser level covers one contiguous range of IDs. An ordinary B-tree index on the ID
+ * therefore answers "which points lie in these cells" with a handful of range scans.
+ *
+ * @since 2026-10-18
+ */
+public final class GeoCell {
+
+    /**
+     * The number of bits per coordinate. At this level a cell is roughly 0.6 m by 0.3 m at the equator.
+     */
+    public static final int MAX_LEVEL = 26;
+
+    /**
+     * The most cells a bounding box is covered with. More cells cover the box more tightly, so fewer rows
+     * outside it are scanned, at the cost of more ranges per query.
+     */
+    static final int MAX_COVERING_CELLS = 16;
+
+    private GeoCell() {
+    }
+
+    /**
+     * Encodes a coordinate as a cell ID at {@link #MAX_LEVEL}.
+     *
+     * @param latitude The latitude, in degrees.
+     * @param longitude The longitude, in degrees.
+     * @return The cell ID, between 0 and 2<sup>52</sup> - 1.
+     */
+    public static long encode(double latitude, double longitude) {
+        return interleave(latitudeIndex(latitude, MAX_LEVEL), longitudeIndex(longitude, MAX_LEVEL));
+    }
+
+    /**
+     * Computes ranges of cell IDs that together cover a bounding box. Each range is {@code [start, end)};
+     * ranges are sorted and adjacent ranges are merged. The box must not cross the antimeridian; see
+     * {@link GeoBoundingBox#splitAtAntimeridian()}.
+     *
+     * @param box The bounding box to cover.
+     * @return The ranges, as {@code {start, end}} pairs.
+     */
+    public static List<long[]> coveringRanges(GeoBoundingBox box) {
+        int level = MAX_LEVEL;
+        while (level > 0 && cellCount(box, level) > MAX_COVERING_CELLS) {
+            level--;
+        }
+
+        long minLatitudeIndex = latitudeIndex(box.minLatitude(), level);
+        long maxLatitudeIndex = latitudeIndex(box.maxLatitude(), level);
+        long minLongitudeIndex = longitudeIndex(box.minLongitude(), level);
+        long maxLongitudeIndex = longitudeIndex(box.maxLongitude(), level);
+        int shift = 2 * (MAX_LEVEL - level);
+
+        List<Long> prefixes = new ArrayList<>();
+        for (long latitudeIndex = minLatitudeIndex; latitudeIndex <= maxLatitudeIndex; latitudeIndex++) {
+            for (long longitudeIndex = minLongitudeIndex; longitudeIndex <= maxLongitudeIndex; longitudeIndex++) {
+                prefixes.add(interleave(latitudeIndex, longitudeIndex));
+            }
+        }
+        prefixes.sort(null);
+
+        List<long[]> ranges = new ArrayList<>();
+        for (long prefix : prefixes) {
+            long start = prefix << shift;
+            long end = (prefix + 1) << shift;
+            if (!ranges.isEmpty() && ranges.get(ranges.size() - 1)[1] == start) {
+                ranges.get(ranges.size() - 1)[1] = end;
+            } else {
+                ranges.add(new long[] {start, end});
+            }
+        }
+        return ranges;
+    }
+
+    private static long cellCount(GeoBoundingBox box, int level) {
+        long latitudeCells = latitudeIndex(box.maxLatitude(), level) - latitudeIndex(box.minLatitude(), level) + 1;
+        long longitudeCells = longitudeIndex(box.maxLongitude(), level) - longitudeIndex(box.minLongitude(), level) + 1;
+        return latitudeCells * longitudeCells;
+    }
+
+    private static long latitudeIndex(double latitude, int level) {
+        return index((latitude + 90.0) / 180.0, level);
+    }
+
+    private static long longitudeIndex(double longitude, int level) {
+        return index((longitude + 180.0) / 360.0, level);
+    }
+
+    private static long index(double fraction, int level) {
+        long cells = 1L << level;
+        return Math.min(Math.max((long) Math.floor(fraction * cells), 0), cells - 1);
+    }
+
+    /**
+     * Interleaves the bits of two indexes of the same level, longitude bits in the odd positions.
+     */
+    private static long interleave(long latitudeIndex, long longitudeIndex) {
+        return spread(latitudeIndex) | (spread(longitudeIndex) << 1);
+    }
+
+    /**
+     * Moves bit {@code i} of a 32-bit value to bit {@code 2i}.
+     */
+    private static long spread(long value) {
+        long x = value & 0xFFFFFFFFL;
+        x = (x | (x << 16)) & 0x0000FFFF0000FFFFL;
+        x = (x | (x << 8)) & 0x00FF00FF00FF00FFL;
+        x = (x | (x << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        x = (x | (x << 2)) & 0x3333333333333333L;
+        x = (x | (x << 1)) & 0x5555555555555555L;
+        return x;
+    }
+}
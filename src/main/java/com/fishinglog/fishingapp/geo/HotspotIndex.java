@@ -0,0 +1,443 @@
+package com.fishinglog.fishingapp.geo;
+
+import com.fishinglog.fishingapp.domain.dto.stats.CountDto;
+import com.fishinglog.fishingapp.domain.dto.stats.HotspotDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Clusters one user's catch coordinates into hotspots with a grid-based variant of DBSCAN. Points are
+ * binned into cells roughly {@code cellKm} on a side. A cell holding at least {@code minCatches} catches is
+ * dense; dense cells that touch, including diagonally, form one hotspot, and a sparse cell touching a dense
+ * one joins its hotspot. Catches in other sparse cells are noise.
+ *
+ * Points and cells are held in primitive arrays, and dense cells are linked with a union-find. Cells and
+ * points are found by key in open-addressing tables, so adding a catch, including the duplicate check of
+ * {@link #addIfAbsent}, costs a constant amount of work and no allocation beyond occasional array growth. Hotspots are
+ * assembled on demand in two passes over the points and cached until the next addition. Catches cannot be
+ * removed; an index whose catches changed is rebuilt instead.
+ *
+ * Instances are thread-safe.
+ *
+ * @since 2026-10-18
+ */
+public final class HotspotIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final double KM_PER_DEGREE = Math.toRadians(GeoBoundingBox.EARTH_RADIUS_KM);
+
+    private final double cellDegrees;
+
+    private final int minCatches;
+
+    private final int maxHotspots;
+
+    private int pointCount;
+
+    private final IndexTable pointsByCatchId = new IndexTable();
+
+    private long[] catchIds = new long[INITIAL_CAPACITY];
+
+    private double[] latitudes = new double[INITIAL_CAPACITY];
+
+    private double[] longitudes = new double[INITIAL_CAPACITY];
+
+    private int[] pointCells = new int[INITIAL_CAPACITY];
+
+    private int[] pointSpecies = new int[INITIAL_CAPACITY];
+
+    private int[] pointLures = new int[INITIAL_CAPACITY];
+
+    private final Dictionary species = new Dictionary();
+
+    private final Dictionary lures = new Dictionary();
+
+    private int cellCount;
+
+    private final IndexTable cellsByKey = new IndexTable();
+
+    private long[] cellKeys = new long[INITIAL_CAPACITY];
+
+    private int[] cellCatchCounts = new int[INITIAL_CAPACITY];
+
+    private int[] parents = new int[INITIAL_CAPACITY];
+
+    private final int[] neighbourBuffer = new int[9];
+
+    private List<HotspotDto> hotspots;
+
+    /**
+     * @param cellKm The side of a grid cell, in kilometres.
+     * @param minCatches The number of catches that makes a cell dense.
+     * @param maxHotspots The most hotspots returned, largest first.
+     */
+    public HotspotIndex(double cellKm, int minCatches, int maxHotspots) {
+        this.cellDegrees = cellKm / KM_PER_DEGREE;
+        this.minCatches = minCatches;
+        this.maxHotspots = maxHotspots;
+    }
+
+    /**
+     * Adds a catch without checking whether it is already indexed. Used to build an index from the database.
+     *
+     * @param catchId The ID of the catch.
+     * @param latitude The latitude of the catch.
+     * @param longitude The longitude of the catch.
+     * @param species The species caught.
+     * @param lureOrBait The lure or bait used.
+     */
+    public synchronized void append(long catchId, double latitude, double longitude, String species, String lureOrBait) {
+        if (pointCount == catchIds.length) {
+            growPoints();
+        }
+
+        int cell = cellOf(latitude, longitude);
+        catchIds[pointCount] = catchId;
+        pointsByCatchId.put(catchId, pointCount);
+        latitudes[pointCount] = latitude;
+        longitudes[pointCount] = longitude;
+        pointCells[pointCount] = cell;
+        pointSpecies[pointCount] = this.species.idOf(species);
+        pointLures[pointCount] = lures.idOf(lureOrBait);
+        pointCount++;
+
+        if (++cellCatchCounts[cell] == minCatches) {
+            unionWithDenseNeighbours(cell);
+        }
+        hotspots = null;
+    }
+
+    /**
+     * Adds a catch unless it is already indexed, as happens when a save races the load that built the index.
+     *
+     * @return true if the catch was added.
+     */
+    public synchronized boolean addIfAbsent(long catchId, double latitude, double longitude, String species, String lureOrBait) {
+        if (pointsByCatchId.get(catchId) >= 0) {
+            return false;
+        }
+        append(catchId, latitude, longitude, species, lureOrBait);
+        return true;
+    }
+
+    /**
+     * @return The number of indexed catches.
+     */
+    public synchronized int size() {
+        return pointCount;
+    }
+
+    /**
+     * Returns the hotspots, largest first. The list is immutable and reused until the next addition.
+     *
+     * @return At most {@code maxHotspots} hotspots.
+     */
+    public synchronized List<HotspotDto> hotspots() {
+        if (hotspots == null) {
+            hotspots = computeHotspots();
+        }
+        return hotspots;
+    }
+
+    private List<HotspotDto> computeHotspots() {
+        // The hotspot of each cell, identified by the union-find root of its dense cells, or -1 for noise.
+        int[] clusterOfCell = new int[cellCount];
+        for (int cell = 0; cell < cellCount; cell++) {
+            clusterOfCell[cell] = isDense(cell) ? find(cell) : -1;
+        }
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (!isDense(cell)) {
+                int denseNeighbour = firstDenseNeighbour(cell);
+                if (denseNeighbour >= 0) {
+                    clusterOfCell[cell] = find(denseNeighbour);
+                }
+            }
+        }
+
+        int[] clusterCatches = new int[cellCount];
+        double[] latitudeSums = new double[cellCount];
+        double[] longitudeSums = new double[cellCount];
+        for (int i = 0; i < pointCount; i++) {
+            int cluster = clusterOfCell[pointCells[i]];
+            if (cluster >= 0) {
+                clusterCatches[cluster]++;
+                latitudeSums[cluster] += latitudes[i];
+                longitudeSums[cluster] += longitudes[i];
+            }
+        }
+
+        // Rank clusters by size, smallest root first among equals, by sorting (size, -root) pairs packed in longs.
+        int clusterTotal = 0;
+        long[] ranking = new long[cellCount];
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (clusterCatches[cell] > 0) {
+                ranking[clusterTotal++] = ((long) clusterCatches[cell] << 32) | (Integer.MAX_VALUE - cell);
+            }
+        }
+        Arrays.sort(ranking, 0, clusterTotal);
+
+        int slots = Math.min(clusterTotal, maxHotspots);
+        int[] slotOfCluster = new int[cellCount];
+        Arrays.fill(slotOfCluster, -1);
+        double[] centerLatitudes = new double[slots];
+        double[] centerLongitudes = new double[slots];
+        double[] longitudeScales = new double[slots];
+        for (int slot = 0; slot < slots; slot++) {
+            int cluster = Integer.MAX_VALUE - (int) ranking[clusterTotal - 1 - slot];
+            slotOfCluster[cluster] = slot;
+            centerLatitudes[slot] = latitudeSums[cluster] / clusterCatches[cluster];
+            centerLongitudes[slot] = longitudeSums[cluster] / clusterCatches[cluster];
+            longitudeScales[slot] = Math.cos(Math.toRadians(centerLatitudes[slot]));
+        }
+
+        int[] catchCounts = new int[slots];
+        int[] speciesCounts = new int[slots * species.size()];
+        int[] lureCounts = new int[slots * lures.size()];
+        // Hotspots span at most a few kilometres, where an equirectangular projection is accurate and avoids
+        // evaluating trigonometric functions per catch.
+        double[] squaredRadii = new double[slots];
+        for (int i = 0; i < pointCount; i++) {
+            int cluster = clusterOfCell[pointCells[i]];
+            int slot = cluster < 0 ? -1 : slotOfCluster[cluster];
+            if (slot >= 0) {
+                catchCounts[slot]++;
+                speciesCounts[slot * species.size() + pointSpecies[i]]++;
+                lureCounts[slot * lures.size() + pointLures[i]]++;
+                double latitudeDelta = latitudes[i] - centerLatitudes[slot];
+                double longitudeDelta = (longitudes[i] - centerLongitudes[slot]) * longitudeScales[slot];
+                squaredRadii[slot] = Math.max(squaredRadii[slot], latitudeDelta * latitudeDelta + longitudeDelta * longitudeDelta);
+            }
+        }
+
+        List<HotspotDto> result = new ArrayList<>(slots);
+        for (int slot = 0; slot < slots; slot++) {
+            result.add(HotspotDto.builder()
+                    .latitude(centerLatitudes[slot])
+                    .longitude(centerLongitudes[slot])
+                    .radiusKm(Math.sqrt(squaredRadii[slot]) * KM_PER_DEGREE)
+                    .catchCount(catchCounts[slot])
+                    .bySpecies(species.counts(speciesCounts, slot))
+                    .byLureOrBait(lures.counts(lureCounts, slot))
+                    .build());
+        }
+        return List.copyOf(result);
+    }
+
+    private boolean isDense(int cell) {
+        return cellCatchCounts[cell] >= minCatches;
+    }
+
+    private int cellOf(double latitude, double longitude) {
+        long latitudeIndex = (long) Math.floor(latitude / cellDegrees);
+        long key = cellKey(latitudeIndex, longitudeIndex(latitudeIndex, longitude));
+        int cell = cellsByKey.get(key);
+        if (cell >= 0) {
+            return cell;
+        }
+
+        if (cellCount == cellKeys.length) {
+            growCells();
+        }
+        cell = cellCount++;
+        cellKeys[cell] = key;
+        parents[cell] = cell;
+        cellsByKey.put(key, cell);
+        return cell;
+    }
+
+    /**
+     * Cells in a row are narrower in degrees of longitude towards the poles, so that they stay roughly
+     * square; neighbouring rows therefore do not line up exactly.
+     */
+    private long longitudeIndex(long latitudeIndex, double longitude) {
+        double rowLatitude = (latitudeIndex + 0.5) * cellDegrees;
+        return (long) Math.floor(longitude * Math.cos(Math.toRadians(rowLatitude)) / cellDegrees);
+    }
+
+    private double centerLongitude(long latitudeIndex, long longitudeIndex) {
+        double rowLatitude = (latitudeIndex + 0.5) * cellDegrees;
+        return (longitudeIndex + 0.5) * cellDegrees / Math.cos(Math.toRadians(rowLatitude));
+    }
+
+    private void unionWithDenseNeighbours(int cell) {
+        int neighbourCount = neighbours(cell);
+        for (int i = 0; i < neighbourCount; i++) {
+            if (isDense(neighbourBuffer[i])) {
+                union(cell, neighbourBuffer[i]);
+            }
+        }
+    }
+
+    private int firstDenseNeighbour(int cell) {
+        int neighbourCount = neighbours(cell);
+        for (int i = 0; i < neighbourCount; i++) {
+            if (isDense(neighbourBuffer[i])) {
+                return neighbourBuffer[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Collects the existing cells around a cell into {@link #neighbourBuffer}.
+     *
+     * @return The number of neighbours collected.
+     */
+    private int neighbours(int cell) {
+        long latitudeIndex = cellKeys[cell] >> 32;
+        long longitudeIndex = (int) cellKeys[cell];
+        double centerLongitude = centerLongitude(latitudeIndex, longitudeIndex);
+
+        int neighbourCount = 0;
+        for (long row = latitudeIndex - 1; row <= latitudeIndex + 1; row++) {
+            long column = longitudeIndex(row, centerLongitude);
+            for (long neighbourColumn = column - 1; neighbourColumn <= column + 1; neighbourColumn++) {
+                int neighbour = cellsByKey.get(cellKey(row, neighbourColumn));
+                if (neighbour >= 0 && neighbour != cell) {
+                    neighbourBuffer[neighbourCount++] = neighbour;
+                }
+            }
+        }
+        return neighbourCount;
+    }
+
+    private int find(int cell) {
+        while (parents[cell] != cell) {
+            parents[cell] = parents[parents[cell]];
+            cell = parents[cell];
+        }
+        return cell;
+    }
+
+    private void union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA != rootB) {
+            parents[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    private static long cellKey(long latitudeIndex, long longitudeIndex) {
+        return (latitudeIndex << 32) | (longitudeIndex & 0xFFFFFFFFL);
+    }
+
+    private void growPoints() {
+        int capacity = catchIds.length * 2;
+        catchIds = Arrays.copyOf(catchIds, capacity);
+        latitudes = Arrays.copyOf(latitudes, capacity);
+        longitudes = Arrays.copyOf(longitudes, capacity);
+        pointCells = Arrays.copyOf(pointCells, capacity);
+        pointSpecies = Arrays.copyOf(pointSpecies, capacity);
+        pointLures = Arrays.copyOf(pointLures, capacity);
+    }
+
+    private void growCells() {
+        int capacity = cellKeys.length * 2;
+        cellKeys = Arrays.copyOf(cellKeys, capacity);
+        cellCatchCounts = Arrays.copyOf(cellCatchCounts, capacity);
+        parents = Arrays.copyOf(parents, capacity);
+    }
+
+    /**
+     * Open-addressing map from cell keys or catch IDs to array indexes, so that lookups do not box the key.
+     */
+    private static final class IndexTable {
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+
+        /**
+         * Array index plus one; zero marks an empty slot.
+         */
+        private int[] values = new int[INITIAL_CAPACITY];
+
+        private int size;
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int slot = hash(key) & mask; values[slot] != 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot] - 1;
+                }
+            }
+            return -1;
+        }
+
+        void put(long key, int value) {
+            if (2 * (size + 1) > keys.length) {
+                resize();
+            }
+            insert(key, value + 1);
+            size++;
+        }
+
+        private void insert(long key, int storedValue) {
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (values[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = storedValue;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            for (int slot = 0; slot < oldKeys.length; slot++) {
+                if (oldValues[slot] != 0) {
+                    insert(oldKeys[slot], oldValues[slot]);
+                }
+            }
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    /**
+     * Assigns small integer IDs to the distinct values of a text column.
+     */
+    private static final class Dictionary {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        private final List<String> values = new ArrayList<>();
+
+        int idOf(String value) {
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = values.size();
+                ids.put(value, id);
+                values.add(value);
+            }
+            return id;
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        List<CountDto> counts(int[] counts, int slot) {
+            List<CountDto> result = new ArrayList<>();
+            for (int id = 0; id < values.size(); id++) {
+                int count = counts[slot * values.size() + id];
+                if (count > 0) {
+                    result.add(new CountDto(values.get(id), count));
+                }
+            }
+            result.sort(Comparator.comparingLong(CountDto::getCount).reversed()
+                    .thenComparing(CountDto::getValue, Comparator.nullsLast(Comparator.naturalOrder())));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.fishinglog.fishingapp.mappers;
+
+/**
+ * Interface defining the one-way mapping of a read-side projection to a transfer object.
+ *
+ * @param <P> The projection type from which the mapping is done.
+ * @param <B> The target type to which the mapping is done.
+ *
+ * @since 2026-10-18
+ */
+public interface ProjectionMapper<P, B> {
+
+    /**
+     * Maps a projection of type P to an object of type B.
+     *
+     * @param p The projection to map from.
+     * @return The mapped object of type B.
+     */
+    B mapTo(P p);
+}
@@ -1,10 +1,10 @@
 package com.fishinglog.fishingapp.mappers.impl;
 
 import com.fishinglog.fishingapp.domain.dto.persisted.CatchDto;
-import com.fishinglog.fishingapp.domain.dto.persisted.UserDto;
+import com.fishinglog.fishingapp.domain.dto.persisted.TripDto;
 import com.fishinglog.fishingapp.domain.entities.CatchEntity;
+import com.fishinglog.fishingapp.domain.entities.TripEntity;
 import com.fishinglog.fishingapp.mappers.Mapper;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -16,16 +16,16 @@ import org.springframework.stereotype.Component;
 @Component
 public class CatchMapperImpl implements Mapper<CatchEntity, CatchDto> {
 
-    private final ModelMapper modelMapper;
+    private final Mapper<TripEntity, TripDto> tripMapper;
 
     /**
-     * Constructs a CatchMapper with the necessary ModelMapper.
+     * Constructs a CatchMapper with the mapper used for the catch's trip.
      *
-     * @param modelMapper The ModelMapper used for object mapping operations.
+     * @param tripMapper The mapper used to map the catch's trip.
      */
     @Autowired
-    public CatchMapperImpl(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
+    public CatchMapperImpl(Mapper<TripEntity, TripDto> tripMapper) {
+        this.tripMapper = tripMapper;
     }
 
     /**
@@ -36,18 +36,23 @@ public class CatchMapperImpl implements Mapper<CatchEntity, CatchDto> {
      */
     @Override
     public CatchDto mapTo(CatchEntity catchEntity) {
-        CatchDto catchDto = modelMapper.map(catchEntity, CatchDto.class);
-
-        if(catchEntity.getTrip().getUser() != null) {
-            UserDto userDto = new UserDto();
-            userDto.setId(catchEntity.getTrip().getUser().getId());
-            userDto.setUsername(catchEntity.getTrip().getUser().getUsername());
-            userDto.setPassword(null);
-            userDto.setEmail(null);
-
-            catchDto.getTrip().setUser(userDto);
+        if (catchEntity == null) {
+            return null;
         }
-        return catchDto;
+
+        return CatchDto.builder()
+                .catchId(catchEntity.getCatchId())
+                .time(catchEntity.getTime())
+                .latitude(catchEntity.getLatitude())
+                .longitude(catchEntity.getLongitude())
+                .species(catchEntity.getSpecies())
+                .lureOrBait(catchEntity.getLureOrBait())
+                .weatherCondition(catchEntity.getWeatherCondition())
+                .airTemperature(catchEntity.getAirTemperature())
+                .waterTemperature(catchEntity.getWaterTemperature())
+                .windSpeed(catchEntity.getWindSpeed())
+                .trip(tripMapper.mapTo(catchEntity.getTrip()))
+                .build();
     }
 
     /**
@@ -58,6 +63,22 @@ public class CatchMapperImpl implements Mapper<CatchEntity, CatchDto> {
      */
     @Override
     public CatchEntity mapFrom(CatchDto catchDto) {
-        return modelMapper.map(catchDto, CatchEntity.class);
+        if (catchDto == null) {
+            return null;
+        }
+
+        return CatchEntity.builder()
+                .catchId(catchDto.getCatchId())
+                .time(catchDto.getTime())
+                .latitude(catchDto.getLatitude())
+                .longitude(catchDto.getLongitude())
+                .species(catchDto.getSpecies())
+                .lureOrBait(catchDto.getLureOrBait())
+                .weatherCondition(catchDto.getWeatherCondition())
+                .airTemperature(catchDto.getAirTemperature())
+                .waterTemperature(catchDto.getWaterTemperature())
+                .windSpeed(catchDto.getWindSpeed())
+                .trip(tripMapper.mapFrom(catchDto.getTrip()))
+                .build();
     }
 }
@@ -0,0 +1,59 @@
+package com.fishinglog.fishingapp.mappers.impl;
+
+import com.fishinglog.fishingapp.domain.dto.persisted.CatchDto;
+import com.fishinglog.fishingapp.domain.dto.persisted.TripDto;
+import com.fishinglog.fishingapp.domain.projections.CatchView;
+import com.fishinglog.fishingapp.domain.projections.TripView;
+import com.fishinglog.fishingapp.mappers.ProjectionMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper class for converting CatchView projections to CatchDto objects. The output matches
+ * {@link CatchMapperImpl#mapTo} for the same catch.
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class CatchViewMapperImpl implements ProjectionMapper<CatchView, CatchDto> {
+
+    private final ProjectionMapper<TripView, TripDto> tripViewMapper;
+
+    @Autowired
+    public CatchViewMapperImpl(ProjectionMapper<TripView, TripDto> tripViewMapper) {
+        this.tripViewMapper = tripViewMapper;
+    }
+
+    /**
+     * Maps a CatchView to a CatchDto.
+     *
+     * @param catchView The CatchView to map from.
+     * @return The mapped CatchDto.
+     */
+    @Override
+    public CatchDto mapTo(CatchView catchView) {
+        TripDto tripDto = null;
+        if (catchView.tripId() != null) {
+            tripDto = tripViewMapper.mapTo(new TripView(
+                    catchView.tripId(),
+                    catchView.tripDate(),
+                    catchView.bodyOfWater(),
+                    catchView.userId(),
+                    catchView.username()));
+        }
+
+        return CatchDto.builder()
+                .catchId(catchView.catchId())
+                .time(catchView.time())
+                .latitude(catchView.latitude())
+                .longitude(catchView.longitude())
+                .species(catchView.species())
+                .lureOrBait(catchView.lureOrBait())
+                .weatherCondition(catchView.weatherCondition())
+                .airTemperature(catchView.airTemperature())
+                .waterTemperature(catchView.waterTemperature())
+                .windSpeed(catchView.windSpeed())
+                .trip(tripDto)
+                .build();
+    }
+}
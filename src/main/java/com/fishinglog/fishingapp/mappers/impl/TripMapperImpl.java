@@ -3,8 +3,8 @@ package com.fishinglog.fishingapp.mappers.impl;
 import com.fishinglog.fishingapp.domain.dto.persisted.TripDto;
 import com.fishinglog.fishingapp.domain.dto.persisted.UserDto;
 import com.fishinglog.fishingapp.domain.entities.TripEntity;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
 import com.fishinglog.fishingapp.mappers.Mapper;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -16,34 +16,39 @@ import org.springframework.stereotype.Component;
 @Component
 public class TripMapperImpl implements Mapper<TripEntity, TripDto> {
 
-    private final ModelMapper modelMapper;
+    private final Mapper<UserEntity, UserDto> userMapper;
 
     /**
-     * Constructs a TripMapper with the necessary ModelMapper.
+     * Constructs a TripMapper with the mapper used for the trip's user.
      *
-     * @param modelMapper The ModelMapper used for object mapping operations.
+     * @param userMapper The mapper used to map the trip's user back to an entity.
      */
     @Autowired
-    public TripMapperImpl(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
+    public TripMapperImpl(Mapper<UserEntity, UserDto> userMapper) {
+        this.userMapper = userMapper;
     }
 
     /**
-     * Maps a TripEntity to a TripDto.
+     * Maps a TripEntity to a TripDto. The trip's user only carries its ID and username.
      *
      * @param tripEntity The TripEntity to map from.
      * @return The mapped TripDto.
      */
     @Override
     public TripDto mapTo(TripEntity tripEntity) {
-        TripDto tripDto = modelMapper.map(tripEntity, TripDto.class);
+        if (tripEntity == null) {
+            return null;
+        }
+
+        TripDto tripDto = new TripDto();
+        tripDto.setTripId(tripEntity.getTripId());
+        tripDto.setDate(tripEntity.getDate());
+        tripDto.setBodyOfWater(tripEntity.getBodyOfWater());
 
         if (tripEntity.getUser() != null) {
             UserDto userDto = new UserDto();
             userDto.setId(tripEntity.getUser().getId());
             userDto.setUsername(tripEntity.getUser().getUsername());
-            userDto.setPassword(null);
-            userDto.setEmail(null);
 
             tripDto.setUser(userDto);
         }
@@ -58,8 +63,15 @@ public class TripMapperImpl implements Mapper<TripEntity, TripDto> {
      */
     @Override
     public TripEntity mapFrom(TripDto tripDto) {
-        return modelMapper.map(tripDto, TripEntity.class);
+        if (tripDto == null) {
+            return null;
+        }
+
+        return TripEntity.builder()
+                .tripId(tripDto.getTripId())
+                .date(tripDto.getDate())
+                .bodyOfWater(tripDto.getBodyOfWater())
+                .user(userMapper.mapFrom(tripDto.getUser()))
+                .build();
     }
 }
-
-
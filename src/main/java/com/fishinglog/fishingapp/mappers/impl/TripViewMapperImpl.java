@@ -0,0 +1,40 @@
+package com.fishinglog.fishingapp.mappers.impl;
+
+import com.fishinglog.fishingapp.domain.dto.persisted.TripDto;
+import com.fishinglog.fishingapp.domain.dto.persisted.UserDto;
+import com.fishinglog.fishingapp.domain.projections.TripView;
+import com.fishinglog.fishingapp.mappers.ProjectionMapper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper class for converting TripView projections to TripDto objects. The output matches
+ * {@link TripMapperImpl#mapTo} for the same trip.
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class TripViewMapperImpl implements ProjectionMapper<TripView, TripDto> {
+
+    /**
+     * Maps a TripView to a TripDto.
+     *
+     * @param tripView The TripView to map from.
+     * @return The mapped TripDto.
+     */
+    @Override
+    public TripDto mapTo(TripView tripView) {
+        TripDto tripDto = new TripDto();
+        tripDto.setTripId(tripView.tripId());
+        tripDto.setDate(tripView.date());
+        tripDto.setBodyOfWater(tripView.bodyOfWater());
+
+        if (tripView.userId() != null) {
+            UserDto userDto = new UserDto();
+            userDto.setId(tripView.userId());
+            userDto.setUsername(tripView.username());
+
+            tripDto.setUser(userDto);
+        }
+        return tripDto;
+    }
+}
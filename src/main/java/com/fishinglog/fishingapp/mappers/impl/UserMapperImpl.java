@@ -3,8 +3,6 @@ package com.fishinglog.fishingapp.mappers.impl;
 import com.fishinglog.fishingapp.domain.dto.persisted.UserDto;
 import com.fishinglog.fishingapp.domain.entities.UserEntity;
 import com.fishinglog.fishingapp.mappers.Mapper;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
@@ -15,18 +13,6 @@ import org.springframework.stereotype.Component;
 @Component
 public class UserMapperImpl implements Mapper<UserEntity, UserDto> {
 
-    private final ModelMapper modelMapper;
-
-    /**
-     * Constructs a UserMapper with the necessary ModelMapper.
-     *
-     * @param modelMapper The ModelMapper used for object mapping operations.
-     */
-    @Autowired
-    public UserMapperImpl(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
-    }
-
     /**
      * Maps a UserEntity to a UserDto. This mapping ensures that sensitive
      * information like passwords is not included in the UserDto.
@@ -36,13 +22,17 @@ public class UserMapperImpl implements Mapper<UserEntity, UserDto> {
      */
     @Override
     public UserDto mapTo(UserEntity userEntity) {
-        UserDto protectedUserDto = modelMapper.map(userEntity, UserDto.class);
+        if (userEntity == null) {
+            return null;
+        }
+
+        UserDto protectedUserDto = new UserDto();
+        protectedUserDto.setId(userEntity.getId());
+        protectedUserDto.setUsername(userEntity.getUsername());
 
-        if (userEntity.getId() != null) {
-            protectedUserDto.setId(userEntity.getId());
-            protectedUserDto.setUsername(userEntity.getUsername());
-            protectedUserDto.setPassword(null);
-            protectedUserDto.setEmail(null);
+        if (userEntity.getId() == null) {
+            protectedUserDto.setPassword(userEntity.getPassword());
+            protectedUserDto.setEmail(userEntity.getEmail());
         }
         return protectedUserDto;
     }
@@ -55,6 +45,15 @@ public class UserMapperImpl implements Mapper<UserEntity, UserDto> {
      */
     @Override
     public UserEntity mapFrom(UserDto userDto) {
-        return modelMapper.map(userDto, UserEntity.class);
+        if (userDto == null) {
+            return null;
+        }
+
+        return UserEntity.builder()
+                .id(userDto.getId())
+                .username(userDto.getUsername())
+                .password(userDto.getPassword())
+                .email(userDto.getEmail())
+                .build();
     }
 }
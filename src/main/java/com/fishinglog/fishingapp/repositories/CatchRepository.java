@@ -1,13 +1,23 @@
 package com.fishinglog.fishingapp.repositories;
 
 import com.fishinglog.fishingapp.domain.entities.CatchEntity;
+import com.fishinglog.fishingapp.domain.projections.CatchPointView;
+import com.fishinglog.fishingapp.domain.projections.CatchView;
+import com.fishinglog.fishingapp.stats.CatchStatsSnapshot;
+import com.fishinglog.fishingapp.stats.VersionedCatchStatsSnapshot;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for {@link CatchEntity} instances providing CRUD operations and additional
@@ -17,7 +27,7 @@ import java.util.List;
  */
 @Repository
 public interface CatchRepository extends CrudRepository<CatchEntity, Long>,
-        PagingAndSortingRepository<CatchEntity, Long> {
+        PagingAndSortingRepository<CatchEntity, Long>, CatchRepositoryCustom {
 
     /**
      * Finds all CatchEntity instances associated with a given trip ID.
@@ -28,6 +38,37 @@ public interface CatchRepository extends CrudRepository<CatchEntity, Long>,
     @Query("SELECT c FROM CatchEntity c WHERE c.trip.id = :tripId")
     List<CatchEntity> findByTripId(Long tripId);
 
+    /**
+     * Finds flat projections of all catches associated with a given trip ID, including the trip and its user,
+     * in a single statement. Only catches on a trip owned by the given user are returned.
+     *
+     * @param userId The ID of the user owning the trip.
+     * @param tripId The ID of the trip.
+     * @return A list of {@link CatchView} instances, empty if the user does not own the trip.
+     */
+    @Query("SELECT new com.fishinglog.fishingapp.domain.projections.CatchView(" +
+            "c.catchId, c.time, c.latitude, c.longitude, c.species, c.lureOrBait, c.weatherCondition, " +
+            "c.airTemperature, c.waterTemperature, c.windSpeed, t.tripId, t.date, t.bodyOfWater, u.id, u.username) " +
+            "FROM CatchEntity c JOIN c.trip t JOIN t.user u WHERE t.tripId = :tripId AND u.id = :userId")
+    List<CatchView> findViewsByUserIdAndTripId(Long userId, Long tripId);
+
+    /**
+     * Streams flat projections of all catches associated with a given trip ID, if the trip is owned by the
+     * given user. Rows are fetched from the driver in batches, so the stream must be consumed and closed
+     * inside a transaction.
+     *
+     * @param userId The ID of the user owning the trip.
+     * @param tripId The ID of the trip.
+     * @return A forward-only stream of {@link CatchView} instances, empty if the user does not own the trip.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"))
+    @Query("SELECT new com.fishinglog.fishingapp.domain.projections.CatchView(" +
+            "c.catchId, c.time, c.latitude, c.longitude, c.species, c.lureOrBait, c.weatherCondition, " +
+            "c.airTemperature, c.waterTemperature, c.windSpeed, t.tripId, t.date, t.bodyOfWater, u.id, u.username) " +
+            "FROM CatchEntity c JOIN c.trip t JOIN t.user u WHERE t.tripId = :tripId AND u.id = :userId " +
+            "ORDER BY c.catchId")
+    Stream<CatchView> streamViewsByUserIdAndTripId(Long userId, Long tripId);
+
     /**
      * Deletes all CatchEntity instances associated with a given trip ID.
      *
@@ -36,4 +77,79 @@ public interface CatchRepository extends CrudRepository<CatchEntity, Long>,
     @Modifying
     @Query("DELETE FROM CatchEntity t WHERE t.trip.id = :id")
     void deleteByTripId(Long id);
+
+    /**
+     * Deletes all CatchEntity instances on trips owned by a given user, in a single statement.
+     *
+     * @param userId The ID of the user whose catches are to be deleted.
+     */
+    @Modifying
+    @Query("DELETE FROM CatchEntity c WHERE c.trip.tripId IN (SELECT t.tripId FROM TripEntity t WHERE t.user.id = :userId)")
+    void deleteByUserId(Long userId);
+
+    /**
+     * Finds the statistics-relevant values of all catches on trips owned by a given user.
+     *
+     * @param userId The ID of the user.
+     * @return One snapshot per catch.
+     */
+    @Query("SELECT new com.fishinglog.fishingapp.stats.CatchStatsSnapshot(" +
+            "t.user.id, t.bodyOfWater, c.species, c.lureOrBait, c.weatherCondition, " +
+            "c.airTemperature, c.waterTemperature, c.windSpeed) " +
+            "FROM CatchEntity c JOIN c.trip t WHERE t.user.id = :userId")
+    List<CatchStatsSnapshot> findStatsSnapshotsByUserId(Long userId);
+
+    /**
+     * Finds the statistics-relevant values of all catches associated with a given trip ID.
+     *
+     * @param tripId The ID of the trip.
+     * @return One snapshot per catch.
+     */
+    @Query("SELECT new com.fishinglog.fishingapp.stats.CatchStatsSnapshot(" +
+            "u.id, t.bodyOfWater, c.species, c.lureOrBait, c.weatherCondition, " +
+            "c.airTemperature, c.waterTemperature, c.windSpeed) " +
+            "FROM CatchEntity c JOIN c.trip t LEFT JOIN t.user u WHERE t.tripId = :tripId")
+    List<CatchStatsSnapshot> findStatsSnapshotsByTripId(Long tripId);
+
+    /**
+     * Finds the statistics-relevant values of a catch, together with its version.
+     *
+     * @param catchId The ID of the catch.
+     * @return The snapshot, or an empty Optional if the catch or its trip does not exist.
+     */
+    @Query("SELECT new com.fishinglog.fishingapp.stats.VersionedCatchStatsSnapshot(" +
+            "c.version, u.id, t.bodyOfWater, c.species, c.lureOrBait, c.weatherCondition, " +
+            "c.airTemperature, c.waterTemperature, c.windSpeed) " +
+            "FROM CatchEntity c JOIN c.trip t LEFT JOIN t.user u WHERE c.catchId = :catchId")
+    Optional<VersionedCatchStatsSnapshot> findVersionedStatsSnapshotById(Long catchId);
+
+    /**
+     * Finds the ID of the user owning a catch's trip.
+     *
+     * @param catchId The ID of the catch.
+     * @return The user ID, or an empty Optional if the catch, its trip or the trip's user does not exist.
+     */
+    @Query("SELECT u.id FROM CatchEntity c JOIN c.trip t JOIN t.user u WHERE c.catchId = :catchId")
+    Optional<Long> findUserIdByCatchId(Long catchId);
+
+    /**
+     * Finds the distinct owners of the given catches' trips.
+     *
+     * @param catchIds The catch IDs.
+     * @return The IDs of the users owning any of the catches.
+     */
+    @Query("SELECT DISTINCT u.id FROM CatchEntity c JOIN c.trip t JOIN t.user u WHERE c.catchId IN :catchIds")
+    List<Long> findUserIdsByCatchIdIn(Collection<Long> catchIds);
+
+    /**
+     * Finds the locations of all catches with coordinates on trips owned by a given user.
+     *
+     * @param userId The ID of the user.
+     * @return One projection per catch.
+     */
+    @Query("SELECT new com.fishinglog.fishingapp.domain.projections.CatchPointView(" +
+            "c.catchId, c.latitude, c.longitude, c.species, c.lureOrBait) " +
+            "FROM CatchEntity c JOIN c.trip t " +
+            "WHERE t.user.id = :userId AND c.latitude IS NOT NULL AND c.longitude IS NOT NULL")
+    List<CatchPointView> findPointViewsByUserId(Long userId);
 }
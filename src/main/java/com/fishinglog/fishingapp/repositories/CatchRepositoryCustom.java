@@ -0,0 +1,25 @@
+package com.fishinglog.fishingapp.repositories;
+
+import com.fishinglog.fishingapp.domain.projections.CatchView;
+import com.fishinglog.fishingapp.geo.GeoBoundingBox;
+
+import java.util.List;
+
+/**
+ * Catch queries whose shape depends on their arguments, so they cannot be declared with {@code @Query}.
+ *
+ * @since 2026-10-18
+ */
+public interface CatchRepositoryCustom {
+
+    /**
+     * Finds flat projections of a user's catches whose coordinates lie in a bounding box. Rows are located
+     * through ranges of the indexed {@link com.fishinglog.fishingapp.geo.GeoCell} column, so the work done
+     * grows with the number of catches near the box rather than with the size of the table.
+     *
+     * @param userId The ID of the user.
+     * @param box The bounding box; it may cross the antimeridian.
+     * @return The catches in the box, in no particular order.
+     */
+    List<CatchView> findViewsInBoundingBox(Long userId, GeoBoundingBox box);
+}
@@ -0,0 +1,64 @@
+package com.fishinglog.fishingapp.repositories;
+
+import com.fishinglog.fishingapp.domain.projections.CatchView;
+import com.fishinglog.fishingapp.geo.GeoBoundingBox;
+import com.fishinglog.fishingapp.geo.GeoCell;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of {@link CatchRepositoryCustom}. See {@link GeoCell} for how a bounding box maps to
+ * index ranges; the coordinate comparisons then drop the rows of the covering cells that lie outside it.
+ *
+ * @since 2026-10-18
+ */
+public class CatchRepositoryCustomImpl implements CatchRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public CatchRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<CatchView> findViewsInBoundingBox(Long userId, GeoBoundingBox box) {
+        StringBuilder jpql = new StringBuilder("SELECT new com.fishinglog.fishingapp.domain.projections.CatchView(" +
+                "c.catchId, c.time, c.latitude, c.longitude, c.species, c.lureOrBait, c.weatherCondition, " +
+                "c.airTemperature, c.waterTemperature, c.windSpeed, t.tripId, t.date, t.bodyOfWater, u.id, u.username) " +
+                "FROM CatchEntity c JOIN c.trip t JOIN t.user u " +
+                "WHERE u.id = :userId AND c.latitude BETWEEN :minLatitude AND :maxLatitude AND (");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("userId", userId);
+        parameters.put("minLatitude", box.minLatitude());
+        parameters.put("maxLatitude", box.maxLatitude());
+
+        List<String> boxClauses = new ArrayList<>();
+        for (GeoBoundingBox part : box.splitAtAntimeridian()) {
+            int boxIndex = boxClauses.size();
+            parameters.put("minLongitude" + boxIndex, part.minLongitude());
+            parameters.put("maxLongitude" + boxIndex, part.maxLongitude());
+
+            List<String> rangeClauses = new ArrayList<>();
+            for (long[] range : GeoCell.coveringRanges(part)) {
+                String suffix = boxIndex + "_" + rangeClauses.size();
+                parameters.put("start" + suffix, range[0]);
+                parameters.put("end" + suffix, range[1]);
+                rangeClauses.add("(c.geoCell >= :start" + suffix + " AND c.geoCell < :end" + suffix + ")");
+            }
+            boxClauses.add("(c.longitude BETWEEN :minLongitude" + boxIndex + " AND :maxLongitude" + boxIndex
+                    + " AND (" + String.join(" OR ", rangeClauses) + "))");
+        }
+        jpql.append(String.join(" OR ", boxClauses)).append(')');
+
+        TypedQuery<CatchView> query = entityManager.createQuery(jpql.toString(), CatchView.class);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+}
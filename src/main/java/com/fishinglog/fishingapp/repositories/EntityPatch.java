@@ -0,0 +1,98 @@
+package com.fishinglog.fishingapp.repositories;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Describes a partial update of one entity row: the attributes to set and, optionally, the version the
+ * row must still have. Null values are skipped, so a patch can be built straight from an entity whose
+ * unset fields are null. See {@link PatchRepository} for the statement it becomes.
+ *
+ * @param <T> The entity type.
+ *
+ * @since 2026-10-18
+ */
+public final class EntityPatch<T> {
+
+    private final Class<T> entityClass;
+
+    private final String idAttribute;
+
+    private final Object id;
+
+    private final Map<String, Object> values = new LinkedHashMap<>();
+
+    private Long expectedVersion;
+
+    private EntityPatch(Class<T> entityClass, String idAttribute, Object id) {
+        this.entityClass = entityClass;
+        this.idAttribute = idAttribute;
+        this.id = id;
+    }
+
+    /**
+     * Starts a patch of the row with the given ID.
+     *
+     * @param entityClass The entity type.
+     * @param idAttribute The name of the entity's ID attribute.
+     * @param id The ID of the row to update.
+     * @return An empty patch.
+     */
+    public static <T> EntityPatch<T> of(Class<T> entityClass, String idAttribute, Object id) {
+        return new EntityPatch<>(entityClass, idAttribute, id);
+    }
+
+    /**
+     * Sets an attribute, unless the value is null.
+     *
+     * @param attribute The name of the entity attribute.
+     * @param value The new value, or null to leave the column unchanged.
+     * @return This patch.
+     */
+    public EntityPatch<T> set(String attribute, Object value) {
+        if(value != null) {
+            values.put(attribute, value);
+        }
+        return this;
+    }
+
+    /**
+     * Requires the row to still have a given version when the patch is applied.
+     *
+     * @param expectedVersion The version, or null to apply the patch whatever the version is.
+     * @return This patch.
+     */
+    public EntityPatch<T> expectVersion(Long expectedVersion) {
+        this.expectedVersion = expectedVersion;
+        return this;
+    }
+
+    /**
+     * @param attribute The name of an entity attribute.
+     * @return true if the patch sets the attribute.
+     */
+    public boolean sets(String attribute) {
+        return values.containsKey(attribute);
+    }
+
+    public Class<T> getEntityClass() {
+        return entityClass;
+    }
+
+    public String getIdAttribute() {
+        return idAttribute;
+    }
+
+    public Object getId() {
+        return id;
+    }
+
+    public Map<String, Object> getValues() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    public Long getExpectedVersion() {
+        return expectedVersion;
+    }
+}
@@ -0,0 +1,57 @@
+package com.fishinglog.fishingapp.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Applies {@link EntityPatch}es as a single {@code UPDATE ... SET} of the patched columns, without loading
+ * the entity first. Every patch increments the row's {@code version}, so a writer holding an older version
+ * fails instead of overwriting the change.
+ *
+ * The statement bypasses the persistence context: entity lifecycle callbacks do not run, and entities
+ * already loaded in the current transaction keep their old state.
+ *
+ * @since 2026-10-18
+ */
+@Repository
+public class PatchRepository {
+
+    private static final String VERSION_ATTRIBUTE = "version";
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public PatchRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Applies a patch.
+     *
+     * @param patch The patch to apply.
+     * @return 1 if the row was updated, or 0 if it does not exist or no longer has the expected version.
+     */
+    public <T> int update(EntityPatch<T> patch) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = criteriaBuilder.createCriteriaUpdate(patch.getEntityClass());
+        Root<T> root = update.from(patch.getEntityClass());
+        Path<Long> version = root.get(VERSION_ATTRIBUTE);
+
+        patch.getValues().forEach(update::set);
+        update.set(version, criteriaBuilder.sum(version, 1L));
+
+        Predicate where = criteriaBuilder.equal(root.get(patch.getIdAttribute()), patch.getId());
+        if(patch.getExpectedVersion() != null) {
+            where = criteriaBuilder.and(where, criteriaBuilder.equal(version, patch.getExpectedVersion()));
+        }
+        update.where(where);
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
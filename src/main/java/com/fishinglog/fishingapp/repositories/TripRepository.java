@@ -1,14 +1,21 @@
 package com.fishinglog.fishingapp.repositories;
 
 import com.fishinglog.fishingapp.domain.entities.TripEntity;
+import com.fishinglog.fishingapp.domain.projections.TripView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for {@link TripEntity}, providing an abstraction layer to perform various database operations.
@@ -55,4 +62,98 @@ public interface TripRepository extends CrudRepository<TripEntity, Long>,
      */
     @Query("SELECT t FROM TripEntity t WHERE t.user.id = :userId AND t.date >= :startDate AND t.date <= :endDate")
     List<TripEntity> findLastSixMonthsByUserIdAndDate(Long userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Finds flat projections of all trips for a user on a specific date in a single statement.
+     *
+     * @param userId The user ID.
+     * @param date The date of the trip.
+     * @return A list of {@link TripView} for the specified date.
+     */
+    @Query("SELECT new com.fishinglog.fishingapp.domain.projections.TripView(t.tripId, t.date, t.bodyOfWater, u.id, u.username) " +
+            "FROM TripEntity t JOIN t.user u WHERE u.id = :userId AND t.date = :date")
+    List<TripView> findViewsByUserIdAndDate(Long userId, LocalDate date);
+
+    /**
+     * Finds flat projections of a user's trips within a date range in a single statement.
+     *
+     * @param userId The user ID.
+     * @param startDate The start date of the range.
+     * @param endDate The end date of the range.
+     * @return A list of {@link TripView} within the range.
+     */
+    @Query("SELECT new com.fishinglog.fishingapp.domain.projections.TripView(t.tripId, t.date, t.bodyOfWater, u.id, u.username) " +
+            "FROM TripEntity t JOIN t.user u WHERE u.id = :userId AND t.date >= :startDate AND t.date <= :endDate")
+    List<TripView> findViewsByUserIdAndDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Streams flat projections of every trip for a user, newest first. Rows are fetched from the driver
+     * in batches, so the stream must be consumed and closed inside a transaction.
+     *
+     * @param userId The user ID.
+     * @return A forward-only stream of {@link TripView} instances.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"))
+    @Query("SELECT new com.fishinglog.fishingapp.domain.projections.TripView(t.tripId, t.date, t.bodyOfWater, u.id, u.username) " +
+            "FROM TripEntity t JOIN t.user u WHERE u.id = :userId ORDER BY t.date DESC, t.tripId DESC")
+    Stream<TripView> streamViewsByUserId(Long userId);
+
+    /**
+     * Finds the newest trips of a user, ordered by date and trip ID descending. Only the page size of
+     * the given {@link Pageable} is used; it should always request the first page.
+     *
+     * @param userId The user ID.
+     * @param pageable The page size.
+     * @return The first page of the user's trip history.
+     */
+    @Query("SELECT new com.fishinglog.fishingapp.domain.projections.TripView(t.tripId, t.date, t.bodyOfWater, u.id, u.username) " +
+            "FROM TripEntity t JOIN t.user u WHERE u.id = :userId " +
+            "ORDER BY t.date DESC, t.tripId DESC")
+    List<TripView> findHistoryByUserId(Long userId, Pageable pageable);
+
+    /**
+     * Finds the trips of a user that come after the given position in the history ordered by date and
+     * trip ID descending. The position is matched through the (user_id, date, trip_id) index, so the
+     * cost does not depend on how deep into the history the page is. The OR of the keyset comparison
+     * cannot bound an index range by itself; the redundant {@code t.date <= :date} conjunct gives the
+     * planner a range on the index to start the scan from.
+     *
+     * @param userId The user ID.
+     * @param date The date of the last trip of the previous page.
+     * @param tripId The ID of the last trip of the previous page.
+     * @param pageable The page size.
+     * @return The next page of the user's trip history.
+     */
+    @Query("SELECT new com.fishinglog.fishingapp.domain.projections.TripView(t.tripId, t.date, t.bodyOfWater, u.id, u.username) " +
+            "FROM TripEntity t JOIN t.user u WHERE u.id = :userId " +
+            "AND t.date <= :date AND (t.date < :date OR (t.date = :date AND t.tripId < :tripId)) " +
+            "ORDER BY t.date DESC, t.tripId DESC")
+    List<TripView> findHistoryByUserIdAfter(Long userId, LocalDate date, Long tripId, Pageable pageable);
+
+    /**
+     * Finds which of the given trip IDs belong to a user.
+     *
+     * @param userId The user ID.
+     * @param tripIds The trip IDs to check.
+     * @return The subset of the given trip IDs owned by the user.
+     */
+    @Query("SELECT t.tripId FROM TripEntity t WHERE t.user.id = :userId AND t.tripId IN :tripIds")
+    List<Long> findTripIdsByUserIdAndTripIdIn(Long userId, Collection<Long> tripIds);
+
+    /**
+     * Counts the trips of a user.
+     *
+     * @param userId The ID of the user.
+     * @return The number of trips.
+     */
+    long countByUserId(Long userId);
+
+    /**
+     * Finds the distinct owners of the given trips.
+     *
+     * @param tripIds The trip IDs.
+     * @return The IDs of the users owning any of the trips.
+     */
+    @Query("SELECT DISTINCT t.user.id FROM TripEntity t WHERE t.tripId IN :tripIds AND t.user IS NOT NULL")
+    List<Long> findUserIdsByTripIdIn(Collection<Long> tripIds);
 }
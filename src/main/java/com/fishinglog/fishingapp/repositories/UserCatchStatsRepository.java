@@ -0,0 +1,82 @@
+package com.fishinglog.fishingapp.repositories;
+
+import com.fishinglog.fishingapp.domain.entities.UserCatchStatsEntity;
+import com.fishinglog.fishingapp.domain.entities.UserCatchStatsId;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for {@link UserCatchStatsEntity} instances. Rows are adjusted in place by
+ * single-statement updates, so concurrent writers never read-modify-write a row.
+ *
+ * @since 2026-10-18
+ */
+@Repository
+public interface UserCatchStatsRepository extends CrudRepository<UserCatchStatsEntity, UserCatchStatsId> {
+
+    /**
+     * Finds every statistics row of a user.
+     *
+     * @param userId The ID of the user.
+     * @return The user's rows, in no particular order.
+     */
+    List<UserCatchStatsEntity> findByIdUserId(Long userId);
+
+    /**
+     * Adds a delta to an existing row.
+     *
+     * @return The number of updated rows, 0 if the row does not exist yet.
+     */
+    @Modifying
+    @Query(value = "UPDATE user_catch_stats SET catch_count = catch_count + :catchCount, " +
+            "air_temperature_sum = air_temperature_sum + :airTemperatureSum, " +
+            "air_temperature_count = air_temperature_count + :airTemperatureCount, " +
+            "water_temperature_sum = water_temperature_sum + :waterTemperatureSum, " +
+            "water_temperature_count = water_temperature_count + :waterTemperatureCount, " +
+            "wind_speed_sum = wind_speed_sum + :windSpeedSum, " +
+            "wind_speed_count = wind_speed_count + :windSpeedCount " +
+            "WHERE user_id = :userId AND dimension = :dimension AND dimension_value = :value",
+            nativeQuery = true)
+    int addDelta(Long userId, String dimension, String value, long catchCount,
+                 long airTemperatureSum, long airTemperatureCount,
+                 long waterTemperatureSum, long waterTemperatureCount,
+                 long windSpeedSum, long windSpeedCount);
+
+    /**
+     * Inserts a new row.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_catch_stats (user_id, dimension, dimension_value, catch_count, " +
+            "air_temperature_sum, air_temperature_count, water_temperature_sum, water_temperature_count, " +
+            "wind_speed_sum, wind_speed_count) VALUES (:userId, :dimension, :value, :catchCount, " +
+            ":airTemperatureSum, :airTemperatureCount, :waterTemperatureSum, :waterTemperatureCount, " +
+            ":windSpeedSum, :windSpeedCount)",
+            nativeQuery = true)
+    void insert(Long userId, String dimension, String value, long catchCount,
+                long airTemperatureSum, long airTemperatureCount,
+                long waterTemperatureSum, long waterTemperatureCount,
+                long windSpeedSum, long windSpeedCount);
+
+    /**
+     * Deletes the rows of the given users that no longer count any catches.
+     *
+     * @param userIds The IDs of the users.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_catch_stats WHERE user_id IN :userIds AND catch_count <= 0", nativeQuery = true)
+    void deleteEmptyByUserIdIn(Collection<Long> userIds);
+
+    /**
+     * Deletes every statistics row of a user.
+     *
+     * @param userId The ID of the user.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_catch_stats WHERE user_id = :userId", nativeQuery = true)
+    void deleteByUserId(Long userId);
+}
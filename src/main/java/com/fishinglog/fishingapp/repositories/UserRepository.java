@@ -1,9 +1,16 @@
 package com.fishinglog.fishingapp.repositories;
 
 import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -22,4 +29,44 @@ public interface UserRepository extends CrudRepository<UserEntity, Long> {
      */
     Optional<UserEntity> findByUsername(String username);
 
+    /**
+     * Deletes a user by ID in a single statement, without loading the entity first.
+     *
+     * @param id The ID of the user to delete.
+     */
+    @Modifying
+    @Query("DELETE FROM UserEntity u WHERE u.id = :id")
+    void deleteUserById(Long id);
+
+    /**
+     * Replaces the stored password hash of a user and increments the user's version, as any other update
+     * of the user does.
+     *
+     * @param username The username of the user.
+     * @param password The new encoded password.
+     * @return The number of updated rows.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.password = :password, u.version = u.version + 1 WHERE u.username = :username")
+    int updatePasswordByUsername(String username, String password);
+
+    /**
+     * Finds the IDs of every user.
+     *
+     * @return The user IDs, in ascending order.
+     */
+    @Query("SELECT u.id FROM UserEntity u ORDER BY u.id")
+    List<Long> findAllIds();
+
+    /**
+     * Locks the rows of the given users until the current transaction ends. Rows are locked in ID order
+     * so that two transactions locking overlapping sets cannot deadlock.
+     *
+     * @param ids The IDs of the users to lock.
+     * @return The locked users.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM UserEntity u WHERE u.id IN :ids ORDER BY u.id")
+    List<UserEntity> lockByIdIn(Collection<Long> ids);
 }
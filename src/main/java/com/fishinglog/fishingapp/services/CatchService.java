@@ -1,10 +1,12 @@
 package com.fishinglog.fishingapp.services;
 
 import com.fishinglog.fishingapp.domain.entities.CatchEntity;
+import com.fishinglog.fishingapp.domain.projections.CatchView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.Optional;
 
 /**
@@ -22,6 +24,25 @@ public interface CatchService {
      */
     CatchEntity save(CatchEntity catchEntity);
 
+    /**
+     * Replaces an existing catch entity.
+     *
+     * @param catchId The ID of the catch entity to replace.
+     * @param catchEntity The new state of the catch.
+     * @param expectedVersion The version the catch must still have, or null to replace any version.
+     * @return The saved catch entity, or an empty Optional if the catch does not exist.
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the catch has another version.
+     */
+    Optional<CatchEntity> update(Long catchId, CatchEntity catchEntity, Long expectedVersion);
+
+    /**
+     * Saves several catch entities in a single transaction.
+     *
+     * @param catchEntities The catch entities to save.
+     * @return The saved catch entities, in the same order.
+     */
+    List<CatchEntity> saveAll(List<CatchEntity> catchEntities);
+
     /**
      * Retrieves all catch entities.
      *
@@ -54,6 +75,37 @@ public interface CatchService {
      */
     List<CatchEntity> findByTripId(Long tripId);
 
+    /**
+     * Finds read-side projections of all catches associated with a specific trip ID, if the trip belongs to
+     * a user.
+     *
+     * @param userId The ID of the user owning the trip.
+     * @param tripId The ID of the trip.
+     * @return A list of catch projections associated with the trip, empty if the user does not own it.
+     */
+    List<CatchView> findViewsByUserIdAndTripId(Long userId, Long tripId);
+
+    /**
+     * Streams read-side projections of all catches associated with a specific trip ID to a consumer,
+     * one row at a time, if the trip belongs to a user.
+     *
+     * @param userId The ID of the user owning the trip.
+     * @param tripId The ID of the trip.
+     * @param consumer Receives each catch projection; it receives none if the user does not own the trip.
+     */
+    void streamViewsByUserIdAndTripId(Long userId, Long tripId, Consumer<CatchView> consumer);
+
+    /**
+     * Finds read-side projections of a user's catches within a distance of a point, nearest first.
+     *
+     * @param userId The ID of the user.
+     * @param latitude The latitude of the point.
+     * @param longitude The longitude of the point.
+     * @param radiusKm The distance from the point, in kilometres.
+     * @return The catches within the distance.
+     */
+    List<CatchView> findViewsNearby(Long userId, double latitude, double longitude, double radiusKm);
+
     /**
      * Checks if a catch entity exists by its ID.
      *
@@ -63,13 +115,16 @@ public interface CatchService {
     boolean isExists(Long catchId);
 
     /**
-     * Partially updates a catch entity.
+     * Partially updates a catch entity with a single {@code UPDATE} of its non-null fields. Latitude and
+     * longitude can only be updated together.
      *
      * @param catchId The ID of the catch entity to update.
      * @param catchEntity The catch entity with updated fields.
-     * @return The updated catch entity.
+     * @param expectedVersion The version the catch must still have, or null to update any version.
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the catch has another version.
+     * @throws IllegalArgumentException if only one of latitude and longitude is given.
      */
-    CatchEntity partialUpdate(Long catchId, CatchEntity catchEntity);
+    void partialUpdate(Long catchId, CatchEntity catchEntity, Long expectedVersion);
 
     /**
      * Deletes a catch entity by its ID.
@@ -0,0 +1,26 @@
+package com.fishinglog.fishingapp.services;
+
+/**
+ * Service interface for per-user change versions: numbers that change whenever any of a user's trips or
+ * catches is written, so that listings can be tagged and revalidated without querying them.
+ *
+ * @since 2026-10-18
+ */
+public interface ChangeVersionService {
+
+    /**
+     * Retrieves the current change version of a user.
+     *
+     * @param userId The ID of the user.
+     * @return The version. It differs from every version previously returned for the user while the user's
+     *         trips or catches have been written since.
+     */
+    long getVersion(Long userId);
+
+    /**
+     * Advances the change version of a user. Must be called by every write to the user's trips or catches.
+     *
+     * @param userId The ID of the user, or null if the written rows have no user.
+     */
+    void bump(Long userId);
+}
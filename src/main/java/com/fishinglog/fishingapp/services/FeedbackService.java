@@ -1,5 +1,10 @@
 package com.fishinglog.fishingapp.services;
 
+import com.fishinglog.fishingapp.domain.dto.persisted.FeedbackEntryDto;
+
+import java.time.Instant;
+import java.util.List;
+
 /**
  * Service interface for collecting user feedback.
  *
@@ -10,8 +15,19 @@ public interface FeedbackService {
     /**
      * Collects feedback from a user.
      *
+     * @param userId The ID of the user submitting the feedback.
      * @param feedback The feedback text provided by the user.
-     * @return True if the feedback is successfully collected, false otherwise.
+     * @return True if the feedback is accepted for storage, false if it cannot be accepted right now.
+     */
+    boolean collectFeedback(Long userId, String feedback);
+
+    /**
+     * Finds stored feedback submitted within a time range, oldest first.
+     *
+     * @param from The inclusive start of the range.
+     * @param to The inclusive end of the range.
+     * @param limit The maximum number of entries to return.
+     * @return The matching feedback entries.
      */
-    boolean collectFeedback(String feedback);
+    List<FeedbackEntryDto> findFeedback(Instant from, Instant to, int limit);
 }
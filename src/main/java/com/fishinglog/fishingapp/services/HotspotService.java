@@ -0,0 +1,38 @@
+package com.fishinglog.fishingapp.services;
+
+import com.fishinglog.fishingapp.domain.dto.stats.HotspotDto;
+import com.fishinglog.fishingapp.domain.entities.CatchEntity;
+
+import java.util.List;
+
+/**
+ * Service interface for the fishing hotspots of a user, found by clustering the coordinates of their catches.
+ *
+ * @since 2026-10-18
+ */
+public interface HotspotService {
+
+    /**
+     * Retrieves the hotspots of a user.
+     *
+     * @param userId The ID of the user.
+     * @return The user's hotspots, largest first.
+     */
+    List<HotspotDto> getHotspots(Long userId);
+
+    /**
+     * Adds a newly created catch to the user's cached hotspots, if any, once the current transaction commits.
+     *
+     * @param userId The ID of the user who owns the catch.
+     * @param catchEntity The saved catch.
+     */
+    void addCatch(Long userId, CatchEntity catchEntity);
+
+    /**
+     * Discards the cached hotspots of a user. Must be called after any change to the user's catches other
+     * than an addition.
+     *
+     * @param userId The ID of the user.
+     */
+    void evict(Long userId);
+}
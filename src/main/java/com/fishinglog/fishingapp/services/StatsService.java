@@ -0,0 +1,27 @@
+package com.fishinglog.fishingapp.services;
+
+import com.fishinglog.fishingapp.domain.dto.stats.StatsSummaryDto;
+
+/**
+ * Service interface for per-user trip and catch statistics.
+ *
+ * @since 2026-10-18
+ */
+public interface StatsService {
+
+    /**
+     * Retrieves the trip and catch totals of a user.
+     *
+     * @param userId The ID of the user.
+     * @return The user's summary.
+     */
+    StatsSummaryDto getSummary(Long userId);
+
+    /**
+     * Discards the cached summary of a user. Must be called after any change to the user's trip count or to
+     * the values of the user's catches that the statistics group or sum.
+     *
+     * @param userId The ID of the user, or null if the written rows have no user.
+     */
+    void evict(Long userId);
+}
@@ -1,11 +1,15 @@
 package com.fishinglog.fishingapp.services;
 
+import com.fishinglog.fishingapp.domain.dto.paging.TripHistoryCursor;
 import com.fishinglog.fishingapp.domain.entities.TripEntity;
+import com.fishinglog.fishingapp.domain.projections.TripView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.Optional;
 
 /**
@@ -23,6 +27,17 @@ public interface TripService {
      */
     TripEntity save(TripEntity tripEntity);
 
+    /**
+     * Replaces an existing trip entity.
+     *
+     * @param tripId The ID of the trip entity to replace.
+     * @param tripEntity The new state of the trip.
+     * @param expectedVersion The version the trip must still have, or null to replace any version.
+     * @return The saved trip entity, or an empty Optional if the trip does not exist.
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the trip has another version.
+     */
+    Optional<TripEntity> update(Long tripId, TripEntity tripEntity, Long expectedVersion);
+
     /**
      * Retrieves all trip entities.
      *
@@ -71,6 +86,50 @@ public interface TripService {
      */
     List<TripEntity> findLastSixMonthsByUserIdAndDate(Long userId);
 
+    /**
+     * Finds read-side projections of a user's trips on a specific date.
+     *
+     * @param userId The user ID.
+     * @param date The date for which trips are retrieved.
+     * @return A list of trip projections for the specified date.
+     */
+    List<TripView> findViewsByUserIdAndDate(Long userId, LocalDate date);
+
+    /**
+     * Finds read-side projections of a user's trips within the last six months.
+     *
+     * @param userId The user ID.
+     * @return A list of trip projections for the last six months.
+     */
+    List<TripView> findViewsLastSixMonthsByUserId(Long userId);
+
+    /**
+     * Streams read-side projections of every trip for a user to a consumer, newest first, one row at a time.
+     *
+     * @param userId The user ID.
+     * @param consumer Receives each trip projection.
+     */
+    void streamViewsByUserId(Long userId, Consumer<TripView> consumer);
+
+    /**
+     * Finds one page of a user's trip history, newest first.
+     *
+     * @param userId The user ID.
+     * @param after The position after which the page starts, or null for the first page.
+     * @param limit The maximum number of trips to return.
+     * @return Up to {@code limit} trip projections.
+     */
+    List<TripView> findHistoryByUserId(Long userId, TripHistoryCursor after, int limit);
+
+    /**
+     * Checks whether every one of the given trips belongs to a user.
+     *
+     * @param userId The user ID.
+     * @param tripIds The trip IDs to check.
+     * @return true if the user owns all of the trips, false otherwise.
+     */
+    boolean areAllOwnedByUser(Long userId, Collection<Long> tripIds);
+
     /**
      * Checks if a trip entity exists by its ID.
      *
@@ -80,13 +139,14 @@ public interface TripService {
     boolean isExists(Long tripId);
 
     /**
-     * Performs a partial update on a trip entity.
+     * Performs a partial update on a trip entity with a single {@code UPDATE} of its non-null fields.
      *
      * @param tripId The ID of the trip entity to update.
      * @param tripEntity The trip entity with updated fields.
-     * @return The updated trip entity.
+     * @param expectedVersion The version the trip must still have, or null to update any version.
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the trip has another version.
      */
-    TripEntity partialUpdate(Long tripId, TripEntity tripEntity);
+    void partialUpdate(Long tripId, TripEntity tripEntity, Long expectedVersion);
 
     /**
      * Deletes a trip entity by its ID.
@@ -52,13 +52,14 @@ public interface UserService {
     boolean isExists(Long id);
 
     /**
-     * Performs a partial update on a user entity.
+     * Performs a partial update on a user entity with a single {@code UPDATE} of its non-null fields.
      *
      * @param id The ID of the user entity to update.
      * @param userEntity The user entity with updated fields.
-     * @return The updated user entity.
+     * @param expectedVersion The version the user must still have, or null to update any version.
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the user has another version.
      */
-    UserEntity partialUpdate(Long id, UserEntity userEntity);
+    void partialUpdate(Long id, UserEntity userEntity, Long expectedVersion);
 
     /**
      * Deletes a user entity by its ID.
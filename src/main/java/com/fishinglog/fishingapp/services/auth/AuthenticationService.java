@@ -4,6 +4,9 @@ import com.fishinglog.fishingapp.domain.dto.auth.AuthenticationRequestDto;
 import com.fishinglog.fishingapp.domain.dto.auth.AuthenticationResponseDto;
 import com.fishinglog.fishingapp.domain.dto.auth.RegisterRequestDto;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
 /**
  * Interface defining service operations for handling authentication and registration logic.
  *
@@ -14,15 +17,18 @@ public interface AuthenticationService {
      * Registers a new user with the provided credentials.
      *
      * @param registerRequestDto The registration request containing the user's credentials.
-     * @return An {@link AuthenticationResponseDto} containing the new user's JWT token.
+     * @return A future of an {@link AuthenticationResponseDto} containing the new user's JWT token.
+     * @throws RejectedExecutionException If password hashing is saturated.
      */
-    AuthenticationResponseDto register(RegisterRequestDto registerRequestDto);
+    CompletableFuture<AuthenticationResponseDto> register(RegisterRequestDto registerRequestDto);
 
     /**
      * Authenticates a user based on the provided credentials.
      *
      * @param authenticationRequestDto The authentication request containing the user's credentials.
-     * @return An {@link AuthenticationResponseDto} containing the user's JWT token along with user details.
+     * @return A future of an {@link AuthenticationResponseDto} containing the user's JWT token along with
+     *         user details. It completes exceptionally if the credentials are rejected.
+     * @throws RejectedExecutionException If password hashing is saturated.
      */
-    AuthenticationResponseDto authenticate(AuthenticationRequestDto authenticationRequestDto);
+    CompletableFuture<AuthenticationResponseDto> authenticate(AuthenticationRequestDto authenticationRequestDto);
 }
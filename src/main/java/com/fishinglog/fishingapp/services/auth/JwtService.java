@@ -29,6 +29,14 @@ public interface JwtService {
      */
     <T> T extractClaim(String token, Function<Claims, T> claimsResolver);
 
+    /**
+     * Builds the user principal described by the identity claims of a JWT token, without loading the user.
+     *
+     * @param token The JWT token from which the principal is built.
+     * @return The user details described by the token, or null if the token carries no identity claims.
+     */
+    UserDetails extractPrincipal(String token);
+
     /**
      * Generates a new JWT token for a user.
      *
@@ -10,11 +10,11 @@ import jakarta.servlet.http.HttpServletRequest;
 public interface OwnershipService {
 
     /**
-     * Checks if the username in the JWT token matches the username of the user identified by the provided user ID.
+     * Checks if the authenticated user of the current request is the user identified by the provided user ID.
      *
      * @param userId The ID of the user to verify ownership against.
      * @param request The HTTP servlet request containing the JWT token.
-     * @return true if the username in the token matches the user's username, false otherwise.
+     * @return true if the authenticated user is the identified user, false otherwise.
      */
     boolean doesRequestUsernameMatchTokenUsername(Long userId, HttpServletRequest request);
 }
@@ -0,0 +1,27 @@
+package com.fishinglog.fishingapp.services.auth;
+
+import java.util.Date;
+
+/**
+ * Interface for tracking users whose previously issued JWT tokens must no longer be accepted.
+ *
+ * @since 2026-10-18
+ */
+public interface TokenRevocationService {
+
+    /**
+     * Revokes every token issued to a user up to now.
+     *
+     * @param userId The ID of the user whose tokens are revoked.
+     */
+    void revokeUser(Long userId);
+
+    /**
+     * Checks if a token issued to a user at the given time has been revoked.
+     *
+     * @param userId The ID of the user the token was issued to.
+     * @param issuedAt The time the token was issued.
+     * @return true if the token has been revoked, false otherwise.
+     */
+    boolean isRevoked(Long userId, Date issuedAt);
+}
@@ -1,5 +1,6 @@
 package com.fishinglog.fishingapp.services.auth.impl;
 
+import com.fishinglog.fishingapp.auth.PasswordHashingExecutor;
 import com.fishinglog.fishingapp.domain.Role;
 import com.fishinglog.fishingapp.domain.dto.auth.AuthenticationRequestDto;
 import com.fishinglog.fishingapp.domain.dto.auth.AuthenticationResponseDto;
@@ -8,62 +9,128 @@ import com.fishinglog.fishingapp.domain.entities.UserEntity;
 import com.fishinglog.fishingapp.repositories.UserRepository;
 import com.fishinglog.fishingapp.services.auth.AuthenticationService;
 import com.fishinglog.fishingapp.services.auth.JwtService;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * Service class for handling authentication and registration logic.
  * See {@link AuthenticationService}.
  *
+ * Only password hashing and verification run on the {@link PasswordHashingExecutor}, never on the calling
+ * thread. The user is looked up on the calling thread, and the saves that follow a hash run on a virtual
+ * thread of their own, so the hashing threads never wait on the database and the calling thread never
+ * waits on a hash.
+ *
  * @since 2024-10-15
  */
 @Service
 public class AuthenticationServiceImpl implements AuthenticationService {
 
+    private static final String BAD_CREDENTIALS = "Bad credentials";
+
     private final UserRepository repository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
-    private final AuthenticationManager authenticationManager;
+    private final UserDetailsPasswordService passwordService;
+    private final PasswordHashingExecutor hashingExecutor;
+    private final AccountStatusUserDetailsChecker accountStatusChecker = new AccountStatusUserDetailsChecker();
+
+    /**
+     * Runs the database work that follows a hash.
+     */
+    private final ExecutorService continuations = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Verified against when the username is unknown, so that such logins take as long as any other.
+     */
+    private final String unknownUserPassword;
 
     @Autowired
-    public AuthenticationServiceImpl(UserRepository repository, PasswordEncoder passwordEncoder, JwtService jwtService, AuthenticationManager authenticationManager) {
+    public AuthenticationServiceImpl(UserRepository repository, PasswordEncoder passwordEncoder, JwtService jwtService,
+                                     UserDetailsPasswordService passwordService, PasswordHashingExecutor hashingExecutor) {
         this.repository = repository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
-        this.authenticationManager = authenticationManager;
+        this.passwordService = passwordService;
+        this.hashingExecutor = hashingExecutor;
+        this.unknownUserPassword = passwordEncoder.encode("unknown-user-password");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        continuations.shutdownNow();
+    }
+
+    public CompletableFuture<AuthenticationResponseDto> register(RegisterRequestDto request) {
+        return hashingExecutor.submit(() -> passwordEncoder.encode(request.getPassword()))
+                .thenApplyAsync(encodedPassword -> {
+                    var user = UserEntity.builder()
+                            .username(request.getUsername())
+                            .password(encodedPassword)
+                            .email(request.getEmail())
+                            .role(Role.USER)
+                            .build();
+                    repository.save(user);
+                    var jwtToken = jwtService.generateToken(user);
+                    return AuthenticationResponseDto.builder()
+                            .token(jwtToken)
+                            .build();
+                }, continuations);
+    }
+
+    public CompletableFuture<AuthenticationResponseDto> authenticate(AuthenticationRequestDto request) {
+        Optional<UserEntity> user = repository.findByUsername(request.getUsername());
+        String storedPassword = user.map(UserEntity::getPassword).orElse(unknownUserPassword);
+
+        return hashingExecutor.submit(() -> verify(request.getPassword(), storedPassword))
+                .thenApplyAsync(verification -> {
+                    if(user.isEmpty() || !verification.matches()) {
+                        throw new BadCredentialsException(BAD_CREDENTIALS);
+                    }
+                    UserEntity userEntity = user.get();
+                    accountStatusChecker.check(userEntity);
+                    if(verification.upgradedPassword() != null) {
+                        passwordService.updatePassword(userEntity, verification.upgradedPassword());
+                    }
+                    var jwtToken = jwtService.generateToken(userEntity);
+                    return AuthenticationResponseDto.builder()
+                            .token(jwtToken)
+                            .username(userEntity.getUsername())
+                            .id(userEntity.getId())
+                            .build();
+                }, continuations);
     }
 
-    public AuthenticationResponseDto register(RegisterRequestDto request) {
-        var user = UserEntity.builder()
-                .username(request.getUsername())
-                .password(passwordEncoder.encode((request.getPassword())))
-                .email(request.getEmail())
-                .role(Role.USER)
-                .build();
-        repository.save(user);
-        var jwtToken = jwtService.generateToken(user);
-        return AuthenticationResponseDto.builder()
-                .token(jwtToken)
-                .build();
+    /**
+     * Checks a password against its stored hash and, if it matches a hash of an outdated strength,
+     * re-encodes it. Runs on the hashing pool.
+     */
+    private Verification verify(String rawPassword, String storedPassword) {
+        if(rawPassword == null || !passwordEncoder.matches(rawPassword, storedPassword)) {
+            return new Verification(false, null);
+        }
+        String upgradedPassword = passwordEncoder.upgradeEncoding(storedPassword)
+                ? passwordEncoder.encode(rawPassword)
+                : null;
+        return new Verification(true, upgradedPassword);
     }
 
-    public AuthenticationResponseDto authenticate(AuthenticationRequestDto request) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getUsername(),
-                        request.getPassword()
-                )
-        );
-        var user = repository.findByUsername(request.getUsername())
-                .orElseThrow(); // TODO: should catch and handle exception
-        var jwtToken = jwtService.generateToken(user);
-        return AuthenticationResponseDto.builder()
-                .token(jwtToken)
-                .username(user.getUsername())
-                .id(user.getId())
-                .build();
+    /**
+     * The outcome of a password check.
+     *
+     * @param matches Whether the password matched.
+     * @param upgradedPassword The password re-encoded at the current strength, or null if no upgrade is due.
+     */
+    private record Verification(boolean matches, String upgradedPassword) {
     }
-}
\ No newline at end of file
+}
@@ -1,16 +1,18 @@
 package com.fishinglog.fishingapp.services.auth.impl;
 
+import com.fishinglog.fishingapp.auth.JwtClaimsCache;
+import com.fishinglog.fishingapp.auth.JwtKeyRing;
+import com.fishinglog.fishingapp.domain.Role;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
 import com.fishinglog.fishingapp.services.auth.JwtService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -25,8 +27,19 @@ import java.util.function.Function;
 @Service
 public class JwtServiceImpl implements JwtService {
 
-    @Value("${jwt.key}")
-    private String jwtKey;
+    private static final String USER_ID_CLAIM = "uid";
+
+    private static final String ROLE_CLAIM = "role";
+
+    private final JwtKeyRing keyRing;
+
+    private final JwtClaimsCache claimsCache;
+
+    @Autowired
+    public JwtServiceImpl(JwtKeyRing keyRing, JwtClaimsCache claimsCache) {
+        this.keyRing = keyRing;
+        this.claimsCache = claimsCache;
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -37,8 +50,40 @@ public class JwtServiceImpl implements JwtService {
         return claimsResolver.apply(claims);
     }
 
+    public UserDetails extractPrincipal(String token) {
+        final Claims claims = extractAllClaims(token);
+        final Long userId = claims.get(USER_ID_CLAIM, Long.class);
+
+        if(userId == null) {
+            return null;
+        }
+
+        final String role = claims.get(ROLE_CLAIM, String.class);
+        return UserEntity.builder()
+                .id(userId)
+                .username(claims.getSubject())
+                .role(role == null ? null : Role.valueOf(role))
+                .build();
+    }
+
+    /**
+     * Generates a token for a user. Tokens issued to a {@link UserEntity} also carry the user's ID and
+     * role, so that the principal can be rebuilt from the token alone.
+     *
+     * @param userDetails The user details for which the token is generated.
+     * @return The generated JWT token.
+     */
     public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+        Map<String, Object> claims = new HashMap<>();
+
+        if(userDetails instanceof UserEntity userEntity && userEntity.getId() != null) {
+            claims.put(USER_ID_CLAIM, userEntity.getId());
+            if(userEntity.getRole() != null) {
+                claims.put(ROLE_CLAIM, userEntity.getRole().name());
+            }
+        }
+
+        return generateToken(claims, userDetails);
     }
 
     public String generateToken(
@@ -46,11 +91,12 @@ public class JwtServiceImpl implements JwtService {
             UserDetails userDetails) {
         return Jwts
                 .builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getSigningKeyId())
                 .setClaims(extractClaims)
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24)) // 24 hours
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(keyRing.getSigningKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -67,17 +113,21 @@ public class JwtServiceImpl implements JwtService {
         return extractClaim(token, Claims::getExpiration);
     }
 
+    /**
+     * Returns the verified claims of a token. A token is parsed and its signature checked only on
+     * the first call; later calls for the same token are served from the {@link JwtClaimsCache}.
+     *
+     * @param token The JWT token to parse.
+     * @return The verified claims.
+     */
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return claimsCache.get(token, this::parseClaims);
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private Claims parseClaims(String token) {
+        return keyRing
+                .getParser()
+                .parseClaimsJws(token)
+                .getBody();
     }
 }
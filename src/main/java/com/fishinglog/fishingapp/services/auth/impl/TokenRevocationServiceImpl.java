@@ -0,0 +1,44 @@
+package com.fishinglog.fishingapp.services.auth.impl;
+
+import com.fishinglog.fishingapp.services.auth.TokenRevocationService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory revocation list keyed by user ID. An entry only has to outlive the tokens it revokes,
+ * so entries are dropped once the retention period (the token lifetime) has passed.
+ * See {@link TokenRevocationService}.
+ *
+ * A token's {@code iat} claim only has whole-second precision, so revocation times are kept in whole
+ * seconds too: tokens issued in an earlier second are revoked, while a token issued in the same second
+ * (such as the one returned by logging in again right after the change) is still accepted.
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    private final Cache<Long, Long> revokedAtSeconds;
+
+    public TokenRevocationServiceImpl(@Value("${jwt.revocation.retention:24h}") Duration retention) {
+        this.revokedAtSeconds = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .build();
+    }
+
+    public void revokeUser(Long userId) {
+        revokedAtSeconds.put(userId, TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()));
+    }
+
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        Long revokedAt = revokedAtSeconds.getIfPresent(userId);
+        return revokedAt != null
+                && (issuedAt == null || TimeUnit.MILLISECONDS.toSeconds(issuedAt.getTime()) < revokedAt);
+    }
+}
@@ -0,0 +1,96 @@
+package com.fishinglog.fishingapp.services.impl;
+
+import com.fishinglog.fishingapp.domain.dto.weather.WeatherDto;
+import com.fishinglog.fishingapp.services.WeatherService;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Caching decorator for {@link WeatherServiceImpl}. Coordinates are snapped to a square grid and
+ * every location in a cell shares the weather of the cell's center, so anglers on the same lake share
+ * one upstream lookup.
+ *
+ * Entries expire after a fixed time and the cache is bounded in size. Concurrent misses for the same
+ * cell wait for a single upstream call instead of each making their own. Failed lookups are not cached.
+ *
+ * Upstream calls run on virtual threads outside the cache's internal locks, so a slow lookup never
+ * holds a monitor and callers on virtual threads are not pinned while they wait.
+ *
+ * @since 2026-10-18
+ */
+@Service
+@Primary
+public class CachingWeatherServiceImpl implements WeatherService {
+
+    private final WeatherService delegate;
+
+    private final double gridDegrees;
+
+    private final ExecutorService loader = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AsyncCache<GridCell, WeatherDto> cache;
+
+    @Autowired
+    public CachingWeatherServiceImpl(@Qualifier("weatherServiceImpl") WeatherService delegate,
+                                     @Value("${weather.cache.grid-degrees:0.05}") double gridDegrees,
+                                     @Value("${weather.cache.ttl:10m}") Duration ttl,
+                                     @Value("${weather.cache.maximum-size:10000}") long maximumSize) {
+        if(!(gridDegrees > 0)) {
+            throw new IllegalArgumentException("weather.cache.grid-degrees must be positive");
+        }
+        this.delegate = delegate;
+        this.gridDegrees = gridDegrees;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .executor(loader)
+                .buildAsync();
+    }
+
+    /**
+     * Retrieves the current weather for the grid cell containing the given coordinates.
+     *
+     * @param latitude The latitude of the location.
+     * @param longitude The longitude of the location.
+     * @return A WeatherDto object containing the current weather conditions of the cell.
+     */
+    @Override
+    public WeatherDto getCurrentWeather(double latitude, double longitude) {
+        GridCell cell = new GridCell((long) Math.floor(latitude / gridDegrees), (long) Math.floor(longitude / gridDegrees));
+        try {
+            return cache.get(cell, key -> delegate.getCurrentWeather(
+                    (key.latitudeIndex() + 0.5) * gridDegrees,
+                    (key.longitudeIndex() + 0.5) * gridDegrees)).join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stops the threads that run upstream lookups.
+     */
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdownNow();
+    }
+
+    /**
+     * Index of a grid cell along each axis.
+     */
+    private record GridCell(long latitudeIndex, long longitudeIndex) {
+    }
+}
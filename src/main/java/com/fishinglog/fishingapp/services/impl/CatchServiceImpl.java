@@ -1,36 +1,97 @@
 package com.fishinglog.fishingapp.services.impl;
 
 import com.fishinglog.fishingapp.domain.entities.CatchEntity;
+import com.fishinglog.fishingapp.domain.entities.TripEntity;
+import com.fishinglog.fishingapp.domain.projections.CatchView;
+import com.fishinglog.fishingapp.geo.GeoBoundingBox;
+import com.fishinglog.fishingapp.geo.GeoCell;
 import com.fishinglog.fishingapp.repositories.CatchRepository;
+import com.fishinglog.fishingapp.repositories.EntityPatch;
+import com.fishinglog.fishingapp.repositories.PatchRepository;
+import com.fishinglog.fishingapp.repositories.TripRepository;
 import com.fishinglog.fishingapp.services.CatchService;
+import com.fishinglog.fishingapp.services.ChangeVersionService;
+import com.fishinglog.fishingapp.services.HotspotService;
+import com.fishinglog.fishingapp.services.StatsService;
+import com.fishinglog.fishingapp.stats.CatchStatsDelta;
+import com.fishinglog.fishingapp.stats.CatchStatsSnapshot;
+import com.fishinglog.fishingapp.stats.UserCatchStatsMaintainer;
+import com.fishinglog.fishingapp.stats.VersionedCatchStatsSnapshot;
+import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
- * Service implementation for managing catch entities.
+ * Service implementation for managing catch entities. Every write updates the owning user's materialized
+ * statistics in the same transaction, through the {@link UserCatchStatsMaintainer}, and evicts the user's
+ * cached summary from the {@link StatsService}, and locks the owning users' statistics before reading the
+ * catches and trips it computes them from. New catches are added to the user's cached hotspots in place;
+ * other writes make the {@link HotspotService} rebuild them. Every write advances the owning user's change
+ * version in the {@link ChangeVersionService}.
  *
  * @since 2023-11-05
  */
 @Service
 public class CatchServiceImpl implements CatchService {
 
+    /**
+     * The attributes whose values contribute to the materialized statistics.
+     */
+    private static final List<String> STATS_ATTRIBUTES = List.of(
+            "species", "lureOrBait", "weatherCondition", "airTemperature", "waterTemperature", "windSpeed");
+
     private final CatchRepository catchRepository;
 
+    private final TripRepository tripRepository;
+
+    private final StatsService statsService;
+
+    private final UserCatchStatsMaintainer statsMaintainer;
+
+    private final HotspotService hotspotService;
+
+    private final PatchRepository patchRepository;
+
+    private final ChangeVersionService changeVersionService;
+
     /**
      * Constructs a service instance with the necessary catch repository.
      *
      * @param catchRepository The repository used for catch entity persistence.
+     * @param tripRepository The repository used to resolve the trip, and so the user, of a catch.
+     * @param statsService The service whose cached statistics are evicted on writes.
+     * @param statsMaintainer The maintainer of the materialized statistics.
+     * @param hotspotService The service whose cached hotspots are updated on writes.
+     * @param patchRepository The repository that applies partial updates.
+     * @param changeVersionService The service whose per-user change versions are advanced on writes.
      */
     @Autowired
-    public CatchServiceImpl(CatchRepository catchRepository) {
+    public CatchServiceImpl(CatchRepository catchRepository, TripRepository tripRepository,
+                            StatsService statsService, UserCatchStatsMaintainer statsMaintainer,
+                            HotspotService hotspotService, PatchRepository patchRepository,
+                            ChangeVersionService changeVersionService) {
         this.catchRepository = catchRepository;
+        this.tripRepository = tripRepository;
+        this.statsService = statsService;
+        this.statsMaintainer = statsMaintainer;
+        this.hotspotService = hotspotService;
+        this.patchRepository = patchRepository;
+        this.changeVersionService = changeVersionService;
     }
 
     /**
@@ -40,8 +101,104 @@ public class CatchServiceImpl implements CatchService {
      * @return The saved catch entity.
      */
     @Override
+    @Transactional
     public CatchEntity save(CatchEntity catchEntity) {
-        return catchRepository.save(catchEntity);
+        lockOwners(catchEntity.getCatchId() == null ? List.of() : List.of(catchEntity.getCatchId()),
+                List.of(catchEntity));
+        Optional<CatchEntity> existingCatch = catchEntity.getCatchId() == null
+                ? Optional.empty()
+                : catchRepository.findById(catchEntity.getCatchId());
+        existingCatch.ifPresent(existing -> catchEntity.setVersion(existing.getVersion()));
+        return saveOver(existingCatch, catchEntity);
+    }
+
+    /**
+     * Replaces an existing catch entity. The catch is loaded once, both to check that it exists and has the
+     * expected version and to serve the merge; the version is checked again when the update is flushed.
+     *
+     * @param catchId The ID of the catch entity to replace.
+     * @param catchEntity The new state of the catch.
+     * @param expectedVersion The version the catch must still have, or null to replace any version.
+     * @return The saved catch entity, or an empty Optional if the catch does not exist.
+     */
+    @Override
+    @Transactional
+    public Optional<CatchEntity> update(Long catchId, CatchEntity catchEntity, Long expectedVersion) {
+        lockOwners(List.of(catchId), List.of(catchEntity));
+        Optional<CatchEntity> existingCatch = catchRepository.findById(catchId);
+        if(existingCatch.isEmpty()) {
+            return Optional.empty();
+        }
+        long version = existingCatch.get().getVersion();
+        if(expectedVersion != null && expectedVersion != version) {
+            throw new ObjectOptimisticLockingFailureException(CatchEntity.class, catchId);
+        }
+        catchEntity.setCatchId(catchId);
+        catchEntity.setVersion(version);
+        return Optional.of(saveOver(existingCatch, catchEntity));
+    }
+
+    /**
+     * Saves a catch entity in place of the catch it replaces, if any, and updates the derived statistics
+     * and hotspots.
+     */
+    private CatchEntity saveOver(Optional<CatchEntity> existingCatch, CatchEntity catchEntity) {
+        Optional<CatchStatsSnapshot> before = existingCatch.flatMap(this::snapshotOf);
+        CatchEntity savedCatchEntity = catchRepository.save(catchEntity);
+        Optional<CatchStatsSnapshot> after = snapshotOf(savedCatchEntity);
+
+        CatchStatsDelta delta = new CatchStatsDelta();
+        before.ifPresent(delta::subtract);
+        after.ifPresent(delta::add);
+        statsMaintainer.apply(delta);
+        evictStats(Stream.concat(before.stream(), after.stream()));
+        updateHotspots(before, after, savedCatchEntity);
+        bumpChangeVersions(Stream.concat(before.stream(), after.stream()));
+        return savedCatchEntity;
+    }
+
+    /**
+     * Saves several catch entities in a single transaction. IDs come from a pooled sequence, so the
+     * inserts are sent to the database in JDBC batches.
+     *
+     * @param catchEntities The catch entities to save.
+     * @return The saved catch entities, in the same order.
+     */
+    @Override
+    @Transactional
+    public List<CatchEntity> saveAll(List<CatchEntity> catchEntities) {
+        Map<Long, CatchStatsSnapshot> before = new HashMap<>();
+        List<Long> existingCatchIds = catchEntities.stream()
+                .map(CatchEntity::getCatchId)
+                .filter(Objects::nonNull)
+                .toList();
+        lockOwners(existingCatchIds, catchEntities);
+        if(!existingCatchIds.isEmpty()) {
+            Map<Long, Long> versions = new HashMap<>();
+            catchRepository.findAllById(existingCatchIds).forEach(existingCatch -> {
+                versions.put(existingCatch.getCatchId(), existingCatch.getVersion());
+                snapshotOf(existingCatch).ifPresent(snapshot -> before.put(existingCatch.getCatchId(), snapshot));
+            });
+            catchEntities.stream()
+                    .filter(catchEntity -> versions.containsKey(catchEntity.getCatchId()))
+                    .forEach(catchEntity -> catchEntity.setVersion(versions.get(catchEntity.getCatchId())));
+        }
+        List<CatchEntity> savedCatchEntities = StreamSupport.stream(catchRepository.saveAll(catchEntities).spliterator(), false)
+                .collect(Collectors.toList());
+
+        CatchStatsDelta delta = new CatchStatsDelta();
+        before.values().forEach(delta::subtract);
+        List<CatchStatsSnapshot> afterSnapshots = new ArrayList<>();
+        for (CatchEntity savedCatch : savedCatchEntities) {
+            Optional<CatchStatsSnapshot> after = snapshotOf(savedCatch);
+            after.ifPresent(delta::add);
+            after.ifPresent(afterSnapshots::add);
+            updateHotspots(Optional.ofNullable(before.get(savedCatch.getCatchId())), after, savedCatch);
+        }
+        statsMaintainer.apply(delta);
+        evictStats(Stream.concat(before.values().stream(), afterSnapshots.stream()));
+        bumpChangeVersions(Stream.concat(before.values().stream(), afterSnapshots.stream()));
+        return savedCatchEntities;
     }
 
     /**
@@ -91,6 +248,58 @@ public class CatchServiceImpl implements CatchService {
     @Override
     public List<CatchEntity> findByTripId(Long tripId) { return catchRepository.findByTripId(tripId); }
 
+    /**
+     * Finds read-side projections of the catches associated with a specific trip ID, if the trip belongs to
+     * the user.
+     *
+     * @param userId The ID of the user owning the trip.
+     * @param tripId The ID of the trip associated with the catches.
+     * @return A list of catch projections for the specified trip.
+     */
+    @Override
+    public List<CatchView> findViewsByUserIdAndTripId(Long userId, Long tripId) {
+        return catchRepository.findViewsByUserIdAndTripId(userId, tripId);
+    }
+
+    /**
+     * Streams read-side projections of the catches associated with a specific trip ID, if the trip belongs
+     * to the user. The transaction keeps the underlying cursor open until every row has been handed to the
+     * consumer.
+     *
+     * @param userId The ID of the user owning the trip.
+     * @param tripId The ID of the trip associated with the catches.
+     * @param consumer Receives each catch projection.
+     */
+    @Override
+    @Transactional
+    public void streamViewsByUserIdAndTripId(Long userId, Long tripId, Consumer<CatchView> consumer) {
+        try (Stream<CatchView> catches = catchRepository.streamViewsByUserIdAndTripId(userId, tripId)) {
+            catches.forEach(consumer);
+        }
+    }
+
+    /**
+     * Finds read-side projections of a user's catches within a distance of a point, nearest first. The
+     * repository narrows the catches down to the bounding box of the circle using the geo-cell index; the
+     * exact great-circle distance is then checked only for those.
+     *
+     * @param userId The ID of the user.
+     * @param latitude The latitude of the point.
+     * @param longitude The longitude of the point.
+     * @param radiusKm The distance from the point, in kilometres.
+     * @return The catches within the distance.
+     */
+    @Override
+    public List<CatchView> findViewsNearby(Long userId, double latitude, double longitude, double radiusKm) {
+        GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radiusKm);
+        Comparator<CatchView> byDistance = Comparator.comparingDouble(view ->
+                GeoBoundingBox.distanceKm(latitude, longitude, view.latitude(), view.longitude()));
+        return catchRepository.findViewsInBoundingBox(userId, box).stream()
+                .filter(view -> GeoBoundingBox.distanceKm(latitude, longitude, view.latitude(), view.longitude()) <= radiusKm)
+                .sorted(byDistance)
+                .toList();
+    }
+
     /**
      * Checks if a catch entity exists by its ID.
      *
@@ -103,28 +312,80 @@ public class CatchServiceImpl implements CatchService {
     }
 
     /**
-     * Performs a partial update on a catch entity.
+     * Performs a partial update on a catch entity, as one {@code UPDATE} of the non-null fields that also
+     * checks and increments the catch's version. The geo-cell is recomputed in the same statement when the
+     * coordinates change.
+     *
+     * The statistics and hotspots derived from the catch need its old values only when the patch changes
+     * one of them; only then are the owner's statistics locked and a snapshot of the catch read first. The
+     * update then requires the version the snapshot was read at, so the snapshot is known to describe the
+     * values that were replaced. Other patches, such as a new time, are the {@code UPDATE} plus one lookup
+     * of the owner's ID afterwards, to advance the owner's change version; the statistics and hotspots are
+     * left alone.
      *
      * @param catchId The ID of the catch entity to update.
      * @param catchEntity The catch entity with updated fields.
-     * @return The updated catch entity.
+     * @param expectedVersion The version the catch must still have, or null to update any version.
      */
     @Override
-    public CatchEntity partialUpdate(Long catchId, CatchEntity catchEntity) {
-        catchEntity.setCatchId(catchId);
+    @Transactional
+    public void partialUpdate(Long catchId, CatchEntity catchEntity, Long expectedVersion) {
+        if((catchEntity.getLatitude() == null) != (catchEntity.getLongitude() == null)) {
+            throw new IllegalArgumentException("Latitude and longitude must be updated together");
+        }
+
+        EntityPatch<CatchEntity> patch = EntityPatch.of(CatchEntity.class, "catchId", catchId)
+                .set("time", catchEntity.getTime())
+                .set("latitude", catchEntity.getLatitude())
+                .set("longitude", catchEntity.getLongitude())
+                .set("geoCell", catchEntity.getLatitude() == null
+                        ? null
+                        : GeoCell.encode(catchEntity.getLatitude(), catchEntity.getLongitude()))
+                .set("species", catchEntity.getSpecies())
+                .set("lureOrBait", catchEntity.getLureOrBait())
+                .set("weatherCondition", catchEntity.getWeatherCondition())
+                .set("airTemperature", catchEntity.getAirTemperature())
+                .set("waterTemperature", catchEntity.getWaterTemperature())
+                .set("windSpeed", catchEntity.getWindSpeed())
+                .expectVersion(expectedVersion);
+
+        boolean statsChanged = STATS_ATTRIBUTES.stream().anyMatch(patch::sets);
+        Optional<VersionedCatchStatsSnapshot> before = Optional.empty();
+        if(statsChanged || patch.sets("latitude")) {
+            lockOwners(List.of(catchId), List.of());
+            before = catchRepository.findVersionedStatsSnapshotById(catchId);
+        }
+        if(before.isPresent()) {
+            long version = before.get().version();
+            if(expectedVersion != null && expectedVersion != version) {
+                throw new ObjectOptimisticLockingFailureException(CatchEntity.class, catchId);
+            }
+            patch.expectVersion(version);
+        }
 
-        return catchRepository.findById(catchId).map(existingCatch -> {
-            Optional.ofNullable(catchEntity.getTime()).ifPresent(existingCatch::setTime);
-            Optional.ofNullable(catchEntity.getLatitude()).ifPresent(existingCatch::setLatitude);
-            Optional.ofNullable(catchEntity.getLongitude()).ifPresent(existingCatch::setLongitude);
-            Optional.ofNullable(catchEntity.getSpecies()).ifPresent(existingCatch::setSpecies);
-            Optional.ofNullable(catchEntity.getLureOrBait()).ifPresent(existingCatch::setLureOrBait);
-            Optional.ofNullable(catchEntity.getWeatherCondition()).ifPresent(existingCatch::setWeatherCondition);
-            Optional.ofNullable(catchEntity.getAirTemperature()).ifPresent(existingCatch::setAirTemperature);
-            Optional.ofNullable(catchEntity.getWaterTemperature()).ifPresent(existingCatch::setWaterTemperature);
-            Optional.ofNullable(catchEntity.getWindSpeed()).ifPresent(existingCatch::setWindSpeed);
-            return catchRepository.save(existingCatch);
-        }).orElseThrow(() -> new RuntimeException("Catch does not exist"));
+        if(patchRepository.update(patch) == 0) {
+            if(!catchRepository.existsById(catchId)) {
+                throw new RuntimeException("Catch does not exist");
+            }
+            throw new ObjectOptimisticLockingFailureException(CatchEntity.class, catchId);
+        }
+
+        Long userId = before.isPresent()
+                ? before.get().snapshot().userId()
+                : catchRepository.findUserIdByCatchId(catchId).orElse(null);
+        changeVersionService.bump(userId);
+        if(userId == null || before.isEmpty()) {
+            return;
+        }
+        if(statsChanged) {
+            CatchStatsSnapshot snapshot = before.get().snapshot();
+            CatchStatsDelta delta = new CatchStatsDelta();
+            delta.subtract(snapshot);
+            delta.add(snapshot.patchedWith(catchEntity));
+            statsMaintainer.apply(delta);
+            statsService.evict(userId);
+        }
+        hotspotService.evict(userId);
     }
 
     /**
@@ -133,7 +394,79 @@ public class CatchServiceImpl implements CatchService {
      * @param catchId The ID of the catch entity to delete.
      */
     @Override
+    @Transactional
     public void delete(Long catchId) {
-        catchRepository.deleteById(catchId);
+        lockOwners(List.of(catchId), List.of());
+        catchRepository.findById(catchId).ifPresent(existingCatch -> {
+            CatchStatsDelta delta = new CatchStatsDelta();
+            Optional<CatchStatsSnapshot> before = snapshotOf(existingCatch);
+            before.ifPresent(delta::subtract);
+            catchRepository.delete(existingCatch);
+            statsMaintainer.apply(delta);
+            evictStats(before.stream());
+            before.ifPresent(snapshot -> hotspotService.evict(snapshot.userId()));
+            bumpChangeVersions(before.stream());
+        });
+    }
+
+    /**
+     * Locks the statistics of the users owning the existing catches and the trips the catches are saved
+     * to. Owners are looked up by ID only, so no catch or trip is loaded before the lock is held.
+     */
+    private void lockOwners(List<Long> existingCatchIds, List<CatchEntity> catchEntities) {
+        List<Long> userIds = new ArrayList<>();
+        if(!existingCatchIds.isEmpty()) {
+            userIds.addAll(catchRepository.findUserIdsByCatchIdIn(existingCatchIds));
+        }
+        List<Long> tripIds = catchEntities.stream()
+                .map(CatchEntity::getTrip)
+                .filter(Objects::nonNull)
+                .map(TripEntity::getTripId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if(!tripIds.isEmpty()) {
+            userIds.addAll(tripRepository.findUserIdsByTripIdIn(tripIds));
+        }
+        statsMaintainer.lockUsers(userIds);
+    }
+
+    /**
+     * Adds a new catch to its user's hotspots. A replaced catch may have moved, so the hotspots of its old
+     * and new users are rebuilt instead.
+     */
+    private void updateHotspots(Optional<CatchStatsSnapshot> before, Optional<CatchStatsSnapshot> after,
+                                CatchEntity savedCatchEntity) {
+        if(before.isPresent()) {
+            hotspotService.evict(before.get().userId());
+            after.ifPresent(snapshot -> hotspotService.evict(snapshot.userId()));
+        } else {
+            after.ifPresent(snapshot -> hotspotService.addCatch(snapshot.userId(), savedCatchEntity));
+        }
+    }
+
+    /**
+     * Captures the statistics-relevant values of a catch. The trip is looked up by ID because a catch
+     * being created may only carry its trip's ID; a trip already in the persistence context is not reloaded.
+     */
+    private Optional<CatchStatsSnapshot> snapshotOf(CatchEntity catchEntity) {
+        TripEntity tripEntity = catchEntity.getTrip();
+        if(tripEntity == null || tripEntity.getTripId() == null) {
+            return Optional.empty();
+        }
+        return tripRepository.findById(tripEntity.getTripId())
+                .map(trip -> CatchStatsSnapshot.of(trip, catchEntity));
+    }
+
+    private void bumpChangeVersions(Stream<CatchStatsSnapshot> snapshots) {
+        snapshots.map(CatchStatsSnapshot::userId)
+                .distinct()
+                .forEach(changeVersionService::bump);
+    }
+
+    private void evictStats(Stream<CatchStatsSnapshot> snapshots) {
+        snapshots.map(CatchStatsSnapshot::userId)
+                .distinct()
+                .forEach(statsService::evict);
     }
 }
@@ -0,0 +1,64 @@
+package com.fishinglog.fishingapp.services.impl;
+
+import com.fishinglog.fishingapp.services.ChangeVersionService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the change versions of recently active users in memory. Every version, for any user, is drawn from
+ * one sequence seeded with the start time, so a version is never handed out twice: not after a user's entry
+ * is evicted and recreated, and not across restarts. An evicted user merely gets a new version, which costs
+ * their clients one full response.
+ *
+ * A write bumps the version immediately and again once its transaction completes, so a listing read before
+ * the commit is never tagged with the version that follows it. Versions live in this instance only; like
+ * the statistics and hotspot caches, they assume every write goes through it.
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class ChangeVersionServiceImpl implements ChangeVersionService {
+
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() << 20);
+
+    private final Cache<Long, Long> versions;
+
+    @Autowired
+    public ChangeVersionServiceImpl(@Value("${listings.change-versions.maximum-size:100000}") long maximumSize) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    @Override
+    public long getVersion(Long userId) {
+        return versions.get(userId, key -> sequence.incrementAndGet());
+    }
+
+    @Override
+    public void bump(Long userId) {
+        if(userId != null) {
+            advance(List.of(userId));
+        }
+    }
+
+    private void advance(List<Long> userIds) {
+        userIds.forEach(userId -> versions.put(userId, sequence.incrementAndGet()));
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    userIds.forEach(userId -> versions.put(userId, sequence.incrementAndGet()));
+                }
+            });
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.fishinglog.fishingapp.services.impl;
 
+import com.fishinglog.fishingapp.domain.dto.persisted.FeedbackEntryDto;
+import com.fishinglog.fishingapp.feedback.FeedbackLogWriter;
+import com.fishinglog.fishingapp.feedback.FeedbackSegmentLog;
 import com.fishinglog.fishingapp.services.FeedbackService;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.List;
 
 /**
  * Service implementation for handling feedback collection.
@@ -16,25 +20,48 @@ import java.io.PrintWriter;
 @Service
 public class FeedbackServiceImpl implements FeedbackService {
 
-    private static final String FEEDBACK_FILE_PATH = "feedback.txt";
+    private final FeedbackLogWriter feedbackLogWriter;
+
+    private final FeedbackSegmentLog feedbackSegmentLog;
+
+    @Autowired
+    public FeedbackServiceImpl(FeedbackLogWriter feedbackLogWriter, FeedbackSegmentLog feedbackSegmentLog) {
+        this.feedbackLogWriter = feedbackLogWriter;
+        this.feedbackSegmentLog = feedbackSegmentLog;
+    }
+
     /**
-     * Collects and stores feedback in a text file.
+     * Queues feedback to be appended to the feedback log by the background {@link FeedbackLogWriter}.
      *
+     * @param userId The ID of the user submitting the feedback.
      * @param feedback The feedback string provided by the user.
-     * @return True if the feedback is successfully stored, false otherwise.
+     * @return True if the feedback is accepted, false if the writer is saturated or has been stopped.
      */
     @Override
-    public boolean collectFeedback(String feedback) {
-        try (FileWriter fileWriter = new FileWriter(FEEDBACK_FILE_PATH, true);
-             BufferedWriter bufferedWriter = new BufferedWriter(fileWriter);
-             PrintWriter printWriter = new PrintWriter(bufferedWriter)) {
-
-            printWriter.println(feedback);
+    public boolean collectFeedback(Long userId, String feedback) {
+        return feedbackLogWriter.offer(userId, feedback);
+    }
 
+    /**
+     * Reads feedback from the {@link FeedbackSegmentLog}. Entries still queued in the writer are not included.
+     *
+     * @param from The inclusive start of the range.
+     * @param to The inclusive end of the range.
+     * @param limit The maximum number of entries to return.
+     * @return The matching feedback entries.
+     */
+    @Override
+    public List<FeedbackEntryDto> findFeedback(Instant from, Instant to, int limit) {
+        try {
+            return feedbackSegmentLog.read(from.toEpochMilli(), to.toEpochMilli(), limit).stream()
+                    .map(record -> FeedbackEntryDto.builder()
+                            .timestamp(Instant.ofEpochMilli(record.timestamp()))
+                            .userId(record.userId())
+                            .feedback(record.feedback())
+                            .build())
+                    .toList();
         } catch (IOException e) {
-            e.printStackTrace();
-            return false;
+            throw new UncheckedIOException("Failed to read the feedback log", e);
         }
-        return true;
     }
 }
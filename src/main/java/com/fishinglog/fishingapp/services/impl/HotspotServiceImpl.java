@@ -0,0 +1,151 @@
+package com.fishinglog.fishingapp.services.impl;
+
+import com.fishinglog.fishingapp.domain.dto.stats.HotspotDto;
+import com.fishinglog.fishingapp.domain.entities.CatchEntity;
+import com.fishinglog.fishingapp.domain.projections.CatchPointView;
+import com.fishinglog.fishingapp.geo.HotspotIndex;
+import com.fishinglog.fishingapp.repositories.CatchRepository;
+import com.fishinglog.fishingapp.services.HotspotService;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Service implementation keeping one {@link HotspotIndex} per user in memory. An index is built from the
+ * database on first use; new catches are then added to it in place once their transaction commits, and any
+ * other change to the user's catches discards it.
+ *
+ * The cache is bounded by the total number of indexed catches, {@code hotspots.cache.maximum-catches}. An
+ * index is weighed when it is loaded, so catches added to it later are not counted until it is reloaded.
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class HotspotServiceImpl implements HotspotService {
+
+    private final CatchRepository catchRepository;
+
+    private final double cellKm;
+
+    private final int minCatches;
+
+    private final int maxHotspots;
+
+    private final ExecutorService loader = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AsyncCache<Long, HotspotIndex> indexes;
+
+    @Autowired
+    public HotspotServiceImpl(CatchRepository catchRepository,
+                              @Value("${hotspots.cell-km:0.25}") double cellKm,
+                              @Value("${hotspots.min-catches:3}") int minCatches,
+                              @Value("${hotspots.max-results:50}") int maxHotspots,
+                              @Value("${hotspots.cache.maximum-catches:2000000}") long maximumCatches,
+                              @Value("${hotspots.cache.ttl:1h}") Duration ttl) {
+        this.catchRepository = catchRepository;
+        this.cellKm = cellKm;
+        this.minCatches = minCatches;
+        this.maxHotspots = maxHotspots;
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(maximumCatches)
+                .weigher((Long userId, HotspotIndex index) -> Math.max(1, index.size()))
+                .expireAfterAccess(ttl)
+                .executor(loader)
+                .buildAsync();
+    }
+
+    @Override
+    public List<HotspotDto> getHotspots(Long userId) {
+        return indexes.get(userId, this::loadIndex).join().hotspots();
+    }
+
+    /**
+     * Adds a catch to the cached index after commit. An index that is still loading may or may not have
+     * read the catch, so it is discarded instead; a finished index ignores a catch it already holds.
+     */
+    @Override
+    public void addCatch(Long userId, CatchEntity catchEntity) {
+        if(userId == null || catchEntity.getCatchId() == null
+                || catchEntity.getLatitude() == null || catchEntity.getLongitude() == null) {
+            return;
+        }
+
+        long catchId = catchEntity.getCatchId();
+        double latitude = catchEntity.getLatitude();
+        double longitude = catchEntity.getLongitude();
+        String species = catchEntity.getSpecies();
+        String lureOrBait = catchEntity.getLureOrBait();
+        Runnable add = () -> {
+            CompletableFuture<HotspotIndex> index = indexes.getIfPresent(userId);
+            if(index == null) {
+                return;
+            }
+            if(index.isDone() && !index.isCompletedExceptionally()) {
+                index.join().addIfAbsent(catchId, latitude, longitude, species, lureOrBait);
+            } else {
+                indexes.synchronous().invalidate(userId);
+            }
+        };
+
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add.run();
+                }
+            });
+        } else {
+            add.run();
+        }
+    }
+
+    @Override
+    public void evict(Long userId) {
+        if(userId != null) {
+            invalidate(List.of(userId));
+        }
+    }
+
+    /**
+     * Stops the threads that build indexes.
+     */
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdownNow();
+    }
+
+    /**
+     * Evicts now and, inside a transaction, again once it has completed, so that a load which read the
+     * uncommitted state in between is not left in the cache.
+     */
+    private void invalidate(List<Long> userIds) {
+        indexes.synchronous().invalidateAll(userIds);
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    indexes.synchronous().invalidateAll(userIds);
+                }
+            });
+        }
+    }
+
+    private HotspotIndex loadIndex(Long userId) {
+        HotspotIndex index = new HotspotIndex(cellKm, minCatches, maxHotspots);
+        for (CatchPointView point : catchRepository.findPointViewsByUserId(userId)) {
+            index.append(point.catchId(), point.latitude(), point.longitude(), point.species(), point.lureOrBait());
+        }
+        return index;
+    }
+}
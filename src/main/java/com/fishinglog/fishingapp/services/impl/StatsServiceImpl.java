@@ -0,0 +1,145 @@
+package com.fishinglog.fishingapp.services.impl;
+
+import com.fishinglog.fishingapp.domain.dto.stats.CountDto;
+import com.fishinglog.fishingapp.domain.StatsDimension;
+import com.fishinglog.fishingapp.domain.dto.stats.StatsSummaryDto;
+import com.fishinglog.fishingapp.domain.entities.UserCatchStatsEntity;
+import com.fishinglog.fishingapp.repositories.TripRepository;
+import com.fishinglog.fishingapp.repositories.UserCatchStatsRepository;
+import com.fishinglog.fishingapp.services.StatsService;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Service implementation reading per-user statistics from the 'user_catch_stats' table, which the catch and
+ * trip services maintain incrementally, so building a summary costs the same however many catches a user
+ * has logged. Summaries are cached per user until a write to the user's trips or catches evicts them; {@code stats.cache.ttl}
+ * only bounds how long a missed eviction could go unnoticed.
+ *
+ * Misses load on a virtual thread outside the cache's lock, and an eviction during a load discards that
+ * load's result.
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class StatsServiceImpl implements StatsService {
+
+    private final UserCatchStatsRepository userCatchStatsRepository;
+
+    private final TripRepository tripRepository;
+
+    private final ExecutorService loader = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AsyncCache<Long, StatsSummaryDto> summaries;
+
+    @Autowired
+    public StatsServiceImpl(UserCatchStatsRepository userCatchStatsRepository, TripRepository tripRepository,
+                            @Value("${stats.cache.maximum-size:10000}") long maximumSize,
+                            @Value("${stats.cache.ttl:1h}") Duration ttl) {
+        this.userCatchStatsRepository = userCatchStatsRepository;
+        this.tripRepository = tripRepository;
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .executor(loader)
+                .buildAsync();
+    }
+
+    /**
+     * Retrieves the summary of a user, computing it on a cache miss.
+     *
+     * @param userId The ID of the user.
+     * @return The user's summary.
+     */
+    @Override
+    public StatsSummaryDto getSummary(Long userId) {
+        return summaries.get(userId, this::loadSummary).join();
+    }
+
+    @Override
+    public void evict(Long userId) {
+        if(userId != null) {
+            invalidate(List.of(userId));
+        }
+    }
+
+    /**
+     * Stops the threads that compute summaries.
+     */
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdownNow();
+    }
+
+    /**
+     * Evicts now and, inside a transaction, again once it has completed, so that a load which read the
+     * uncommitted state in between is not left in the cache.
+     */
+    private void invalidate(List<Long> userIds) {
+        summaries.synchronous().invalidateAll(userIds);
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    summaries.synchronous().invalidateAll(userIds);
+                }
+            });
+        }
+    }
+
+    private StatsSummaryDto loadSummary(Long userId) {
+        Map<StatsDimension, List<UserCatchStatsEntity>> rows = new EnumMap<>(StatsDimension.class);
+        for (UserCatchStatsEntity row : userCatchStatsRepository.findByIdUserId(userId)) {
+            rows.computeIfAbsent(row.getId().getDimension(), dimension -> new ArrayList<>()).add(row);
+        }
+        UserCatchStatsEntity total = rows.getOrDefault(StatsDimension.TOTAL, List.of()).stream()
+                .findFirst()
+                .orElseGet(UserCatchStatsEntity::new);
+
+        return StatsSummaryDto.builder()
+                .userId(userId)
+                .tripCount(tripRepository.countByUserId(userId))
+                .catchCount(total.getCatchCount())
+                .bySpecies(toDtos(rows.get(StatsDimension.SPECIES)))
+                .byLureOrBait(toDtos(rows.get(StatsDimension.LURE_OR_BAIT)))
+                .byWeatherCondition(toDtos(rows.get(StatsDimension.WEATHER_CONDITION)))
+                .byBodyOfWater(toDtos(rows.get(StatsDimension.BODY_OF_WATER)))
+                .averageAirTemperature(average(total.getAirTemperatureSum(), total.getAirTemperatureCount()))
+                .averageWaterTemperature(average(total.getWaterTemperatureSum(), total.getWaterTemperatureCount()))
+                .averageWindSpeed(average(total.getWindSpeedSum(), total.getWindSpeedCount()))
+                .build();
+    }
+
+    /**
+     * Orders a dimension's rows by count, highest first, and maps the stored empty value back to null.
+     */
+    private static List<CountDto> toDtos(List<UserCatchStatsEntity> rows) {
+        if(rows == null) {
+            return List.of();
+        }
+        return rows.stream()
+                .map(row -> new CountDto(row.getId().getValue().isEmpty() ? null : row.getId().getValue(), row.getCatchCount()))
+                .sorted(Comparator.comparingLong(CountDto::getCount).reversed()
+                        .thenComparing(CountDto::getValue, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+    }
+
+    private static Double average(long sum, long count) {
+        return count == 0 ? null : (double) sum / count;
+    }
+}
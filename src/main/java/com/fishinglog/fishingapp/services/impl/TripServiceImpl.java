@@ -1,23 +1,46 @@
 package com.fishinglog.fishingapp.services.impl;
 
+import com.fishinglog.fishingapp.domain.dto.paging.TripHistoryCursor;
 import com.fishinglog.fishingapp.domain.entities.TripEntity;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.domain.projections.TripView;
 import com.fishinglog.fishingapp.repositories.CatchRepository;
+import com.fishinglog.fishingapp.repositories.EntityPatch;
+import com.fishinglog.fishingapp.repositories.PatchRepository;
 import com.fishinglog.fishingapp.repositories.TripRepository;
+import com.fishinglog.fishingapp.services.ChangeVersionService;
+import com.fishinglog.fishingapp.services.HotspotService;
+import com.fishinglog.fishingapp.services.StatsService;
 import com.fishinglog.fishingapp.services.TripService;
+import com.fishinglog.fishingapp.stats.CatchStatsDelta;
+import com.fishinglog.fishingapp.stats.UserCatchStatsMaintainer;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
  * Implementation of the TripService interface, handling business logic for trip-related operations.
+ * Writes that add, remove or regroup a user's trips evict the owning users' cached statistics from the
+ * {@link StatsService}, and writes that regroup or remove catches update the materialized statistics through
+ * the {@link UserCatchStatsMaintainer}. Writes that read a trip's catches lock the owning users' statistics
+ * first. Every write also advances the owning users' change versions in the {@link ChangeVersionService}.
+ * The owners are looked up once per write and handed to each of these services.
  *
  * @since 2024-03-15
  */
@@ -28,27 +51,106 @@ public class TripServiceImpl implements TripService {
 
     private final CatchRepository catchRepository;
 
+    private final StatsService statsService;
+
+    private final UserCatchStatsMaintainer statsMaintainer;
+
+    private final HotspotService hotspotService;
+
+    private final PatchRepository patchRepository;
+
+    private final ChangeVersionService changeVersionService;
+
     /**
      * Constructs a TripServiceImpl with the necessary trip repository.
      *
      * @param tripRepository  The repository used for trip entity persistence.
      * @param catchRepository The repository used for catch entity persistence.
+     * @param statsService    The service whose cached statistics are evicted on writes.
+     * @param statsMaintainer The maintainer of the materialized statistics.
+     * @param hotspotService  The service whose cached hotspots are evicted when catches change owner or are deleted.
+     * @param patchRepository The repository that applies partial updates.
+     * @param changeVersionService The service whose per-user change versions are advanced on writes.
      */
     @Autowired
-    public TripServiceImpl(TripRepository tripRepository, CatchRepository catchRepository) {
+    public TripServiceImpl(TripRepository tripRepository, CatchRepository catchRepository, StatsService statsService,
+                           UserCatchStatsMaintainer statsMaintainer, HotspotService hotspotService,
+                           PatchRepository patchRepository, ChangeVersionService changeVersionService) {
         this.tripRepository = tripRepository;
         this.catchRepository = catchRepository;
+        this.statsService = statsService;
+        this.statsMaintainer = statsMaintainer;
+        this.hotspotService = hotspotService;
+        this.patchRepository = patchRepository;
+        this.changeVersionService = changeVersionService;
     }
 
     /**
-     * Saves a trip entity to the database.
+     * Saves a trip entity to the database. Replacing an existing trip moves its catches to the statistics
+     * groups of the new body of water and user.
      *
      * @param tripEntity The trip entity to be saved.
      * @return The saved trip entity.
      */
     @Override
+    @Transactional
     public TripEntity save(TripEntity tripEntity) {
-        return tripRepository.save(tripEntity);
+        lockOwners(tripEntity.getTripId(), tripEntity.getUser());
+        Optional<TripEntity> existingTrip = tripEntity.getTripId() == null
+                ? Optional.empty()
+                : tripRepository.findById(tripEntity.getTripId());
+        existingTrip.ifPresent(existing -> tripEntity.setVersion(existing.getVersion()));
+        return saveOver(existingTrip, tripEntity);
+    }
+
+    /**
+     * Replaces an existing trip entity. The trip is loaded once, both to check that it exists and has the
+     * expected version and to serve the merge; the version is checked again when the update is flushed.
+     *
+     * @param tripId The ID of the trip entity to replace.
+     * @param tripEntity The new state of the trip.
+     * @param expectedVersion The version the trip must still have, or null to replace any version.
+     * @return The saved trip entity, or an empty Optional if the trip does not exist.
+     */
+    @Override
+    @Transactional
+    public Optional<TripEntity> update(Long tripId, TripEntity tripEntity, Long expectedVersion) {
+        lockOwners(tripId, tripEntity.getUser());
+        Optional<TripEntity> existingTrip = tripRepository.findById(tripId);
+        if(existingTrip.isEmpty()) {
+            return Optional.empty();
+        }
+        long version = existingTrip.get().getVersion();
+        if(expectedVersion != null && expectedVersion != version) {
+            throw new ObjectOptimisticLockingFailureException(TripEntity.class, tripId);
+        }
+        tripEntity.setTripId(tripId);
+        tripEntity.setVersion(version);
+        return Optional.of(saveOver(existingTrip, tripEntity));
+    }
+
+    /**
+     * Saves a trip entity in place of the trip it replaces, if any. Its catches are moved to other statistics
+     * groups only when the body of water or the user changes; the replaced trip is compared before the save,
+     * since the save merges the new values into it.
+     */
+    private TripEntity saveOver(Optional<TripEntity> existingTrip, TripEntity tripEntity) {
+        Long previousUserId = existingTrip.map(TripServiceImpl::userIdOf).orElse(null);
+        Long userId = userIdOf(tripEntity);
+        boolean regroups = existingTrip.filter(existing -> regroupsCatches(existing, tripEntity)).isPresent();
+        CatchStatsDelta delta = regroups ? subtractCatches(tripEntity.getTripId()) : new CatchStatsDelta();
+        TripEntity savedTripEntity = tripRepository.save(tripEntity);
+        addCatchesAndApply(savedTripEntity.getTripId(), delta);
+
+        List<Long> userIds = Stream.of(previousUserId, userId).filter(Objects::nonNull).distinct().toList();
+        if(existingTrip.isEmpty() || regroups) {
+            userIds.forEach(statsService::evict);
+        }
+        if(!Objects.equals(previousUserId, userId)) {
+            userIds.forEach(hotspotService::evict);
+        }
+        userIds.forEach(changeVersionService::bump);
+        return savedTripEntity;
     }
 
     /**
@@ -119,6 +221,80 @@ public class TripServiceImpl implements TripService {
         return tripRepository.findLastSixMonthsByUserIdAndDate(userId, startDate, endDate);
     }
 
+    /**
+     * Finds read-side projections of a user's trips on a given date.
+     *
+     * @param userId The user ID.
+     * @param date The date for which to find trips.
+     * @return A list of trip projections matching the criteria.
+     */
+    @Override
+    public List<TripView> findViewsByUserIdAndDate(Long userId, LocalDate date) {
+        return tripRepository.findViewsByUserIdAndDate(userId, date);
+    }
+
+    /**
+     * Finds read-side projections of a user's trips within the last six months.
+     *
+     * @param userId The user ID.
+     * @return A list of trip projections within the last six months.
+     */
+    @Override
+    public List<TripView> findViewsLastSixMonthsByUserId(Long userId) {
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusMonths(6).plusDays(1);
+        return tripRepository.findViewsByUserIdAndDateBetween(userId, startDate, endDate);
+    }
+
+    /**
+     * Streams read-side projections of every trip for a user, newest first. The transaction keeps the
+     * underlying cursor open until every row has been handed to the consumer.
+     *
+     * @param userId The user ID.
+     * @param consumer Receives each trip projection.
+     */
+    @Override
+    @Transactional
+    public void streamViewsByUserId(Long userId, Consumer<TripView> consumer) {
+        try (Stream<TripView> trips = tripRepository.streamViewsByUserId(userId)) {
+            trips.forEach(consumer);
+        }
+    }
+
+    /**
+     * Finds one page of a user's trip history, newest first. Pages are located by keyset on
+     * (date, tripId) rather than by offset.
+     *
+     * @param userId The user ID.
+     * @param after The position after which the page starts, or null for the first page.
+     * @param limit The maximum number of trips to return.
+     * @return Up to {@code limit} trip projections.
+     */
+    @Override
+    public List<TripView> findHistoryByUserId(Long userId, TripHistoryCursor after, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        if(after == null) {
+            return tripRepository.findHistoryByUserId(userId, pageRequest);
+        }
+        return tripRepository.findHistoryByUserIdAfter(userId, after.date(), after.tripId(), pageRequest);
+    }
+
+    /**
+     * Checks whether every one of the given trips belongs to a user, using a single query.
+     *
+     * @param userId The user ID.
+     * @param tripIds The trip IDs to check.
+     * @return true if the user owns all of the trips, false otherwise.
+     */
+    @Override
+    public boolean areAllOwnedByUser(Long userId, Collection<Long> tripIds) {
+        if(tripIds.isEmpty()) {
+            return true;
+        }
+        Set<Long> distinctTripIds = Set.copyOf(tripIds);
+        return tripRepository.findTripIdsByUserIdAndTripIdIn(userId, distinctTripIds).size() == distinctTripIds.size();
+    }
+
     /**
      * Checks whether a trip entity exists in the database.
      *
@@ -131,21 +307,40 @@ public class TripServiceImpl implements TripService {
     }
 
     /**
-     * Performs a partial update on a trip entity.
+     * Performs a partial update on a trip entity, as one {@code UPDATE} of the non-null fields that also
+     * checks and increments the trip's version. The trip's catches are read, after locking the owner's
+     * statistics, only when the body of water changes, since that moves them to other statistics groups;
+     * only then is the owner's cached summary evicted. Any other patch, such as a new date, is the
+     * {@code UPDATE} plus one lookup of the owner's ID, to advance the owner's change version.
      *
      * @param tripId The ID of the trip to update.
      * @param tripEntity The trip entity with updated fields.
-     * @return The updated trip entity.
+     * @param expectedVersion The version the trip must still have, or null to update any version.
      */
     @Override
-    public TripEntity partialUpdate(Long tripId, TripEntity tripEntity) {
-        tripEntity.setTripId(tripId);
+    @Transactional
+    public void partialUpdate(Long tripId, TripEntity tripEntity, Long expectedVersion) {
+        EntityPatch<TripEntity> patch = EntityPatch.of(TripEntity.class, "tripId", tripId)
+                .set("date", tripEntity.getDate())
+                .set("bodyOfWater", tripEntity.getBodyOfWater())
+                .expectVersion(expectedVersion);
 
-        return tripRepository.findById(tripId).map(existingTrip -> {
-            Optional.ofNullable(tripEntity.getDate()).ifPresent(existingTrip::setDate);
-            Optional.ofNullable(tripEntity.getBodyOfWater()).ifPresent(existingTrip::setBodyOfWater);
-            return tripRepository.save(existingTrip);
-        }).orElseThrow(() -> new RuntimeException("Trip does not exist"));
+        boolean regroups = patch.sets("bodyOfWater");
+        List<Long> userIds = regroups ? lockOwners(tripId, null) : List.of();
+        CatchStatsDelta delta = regroups ? subtractCatches(tripId) : new CatchStatsDelta();
+        if(patchRepository.update(patch) == 0) {
+            if(!tripRepository.existsById(tripId)) {
+                throw new RuntimeException("Trip does not exist");
+            }
+            throw new ObjectOptimisticLockingFailureException(TripEntity.class, tripId);
+        }
+        if(regroups) {
+            addCatchesAndApply(tripId, delta);
+            userIds.forEach(statsService::evict);
+        } else {
+            userIds = tripRepository.findUserIdsByTripIdIn(List.of(tripId));
+        }
+        userIds.forEach(changeVersionService::bump);
     }
 
     /**
@@ -156,7 +351,66 @@ public class TripServiceImpl implements TripService {
     @Override
     @Transactional
     public void delete(Long tripId) {
+        List<Long> userIds = lockOwners(tripId, null);
+        userIds.forEach(statsService::evict);
+        userIds.forEach(hotspotService::evict);
+        userIds.forEach(changeVersionService::bump);
+        statsMaintainer.apply(subtractCatches(tripId));
         catchRepository.deleteByTripId(tripId);
         tripRepository.deleteById(tripId);
     }
+
+    /**
+     * Locks the statistics of an existing trip's owner and of the user it is being given to, before any of
+     * its catches are read. A new trip has no catches, so nothing is locked for it.
+     *
+     * @return The IDs of the existing trip's owners, so that callers need not look them up again.
+     */
+    private List<Long> lockOwners(Long tripId, UserEntity newOwner) {
+        if(tripId == null) {
+            return List.of();
+        }
+        List<Long> ownerIds = tripRepository.findUserIdsByTripIdIn(List.of(tripId));
+        List<Long> userIds = new ArrayList<>(ownerIds);
+        if(newOwner != null) {
+            userIds.add(newOwner.getId());
+        }
+        statsMaintainer.lockUsers(userIds);
+        return ownerIds;
+    }
+
+    /**
+     * Checks whether replacing a trip moves its catches to other statistics groups.
+     */
+    private static boolean regroupsCatches(TripEntity existingTrip, TripEntity tripEntity) {
+        return !Objects.equals(existingTrip.getBodyOfWater(), tripEntity.getBodyOfWater())
+                || !Objects.equals(userIdOf(existingTrip), userIdOf(tripEntity));
+    }
+
+    private static Long userIdOf(TripEntity tripEntity) {
+        return tripEntity.getUser() == null ? null : tripEntity.getUser().getId();
+    }
+
+    /**
+     * Starts a delta that removes the catches of a trip from the statistics groups they are in now.
+     */
+    private CatchStatsDelta subtractCatches(Long tripId) {
+        CatchStatsDelta delta = new CatchStatsDelta();
+        if(tripId != null) {
+            catchRepository.findStatsSnapshotsByTripId(tripId).forEach(delta::subtract);
+        }
+        return delta;
+    }
+
+    /**
+     * Adds the catches of a trip back under the trip's current values and applies the delta. Catches whose
+     * groups did not change cancel out; when nothing was subtracted the trip had no catches to regroup.
+     */
+    private void addCatchesAndApply(Long tripId, CatchStatsDelta delta) {
+        if(delta.isEmpty()) {
+            return;
+        }
+        catchRepository.findStatsSnapshotsByTripId(tripId).forEach(delta::add);
+        statsMaintainer.apply(delta);
+    }
 }
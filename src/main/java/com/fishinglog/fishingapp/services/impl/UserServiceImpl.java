@@ -1,13 +1,19 @@
 package com.fishinglog.fishingapp.services.impl;
 
-import com.fishinglog.fishingapp.domain.entities.TripEntity;
 import com.fishinglog.fishingapp.domain.entities.UserEntity;
 import com.fishinglog.fishingapp.repositories.CatchRepository;
+import com.fishinglog.fishingapp.repositories.EntityPatch;
+import com.fishinglog.fishingapp.repositories.PatchRepository;
 import com.fishinglog.fishingapp.repositories.TripRepository;
 import com.fishinglog.fishingapp.repositories.UserRepository;
+import com.fishinglog.fishingapp.services.ChangeVersionService;
+import com.fishinglog.fishingapp.services.HotspotService;
+import com.fishinglog.fishingapp.services.StatsService;
 import com.fishinglog.fishingapp.services.UserService;
+import com.fishinglog.fishingapp.services.auth.TokenRevocationService;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -29,11 +35,29 @@ public class UserServiceImpl implements UserService {
 
     private final CatchRepository catchRepository;
 
+    private final TokenRevocationService tokenRevocationService;
+
+    private final StatsService statsService;
+
+    private final HotspotService hotspotService;
+
+    private final PatchRepository patchRepository;
+
+    private final ChangeVersionService changeVersionService;
+
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, TripRepository tripRepository, CatchRepository catchRepository) {
+    public UserServiceImpl(UserRepository userRepository, TripRepository tripRepository, CatchRepository catchRepository,
+                           TokenRevocationService tokenRevocationService, StatsService statsService,
+                           HotspotService hotspotService,
+                           PatchRepository patchRepository, ChangeVersionService changeVersionService) {
         this.userRepository = userRepository;
         this.tripRepository = tripRepository;
         this.catchRepository = catchRepository;
+        this.tokenRevocationService = tokenRevocationService;
+        this.statsService = statsService;
+        this.hotspotService = hotspotService;
+        this.patchRepository = patchRepository;
+        this.changeVersionService = changeVersionService;
     }
 
     /**
@@ -44,7 +68,14 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public UserEntity save(UserEntity userEntity) {
-        return userRepository.save(userEntity);
+        if(userEntity.getId() != null) {
+            userRepository.findById(userEntity.getId())
+                    .ifPresent(existingUser -> userEntity.setVersion(existingUser.getVersion()));
+        }
+        UserEntity savedUser = userRepository.save(userEntity);
+        // Trip listings embed the user.
+        changeVersionService.bump(savedUser.getId());
+        return savedUser;
     }
 
     /**
@@ -93,38 +124,52 @@ public class UserServiceImpl implements UserService {
     }
 
     /**
-     * Performs a partial update on a user entity.
+     * Performs a partial update on a user entity, as one {@code UPDATE} of the non-null fields that also
+     * checks and increments the user's version. The old username is not read, so tokens already issued
+     * to the user are revoked whenever the patch sets a username.
      *
      * @param id The ID of the user entity to update.
      * @param userEntity The user entity with updated fields.
-     * @return The updated user entity.
+     * @param expectedVersion The version the user must still have, or null to update any version.
      */
     @Override
-    public UserEntity partialUpdate(Long id, UserEntity userEntity) {
-        userEntity.setId(id);
-
-        return userRepository.findById(id).map(existingUser -> {
-            Optional.ofNullable(userEntity.getUsername()).ifPresent(existingUser::setUsername);
-            Optional.ofNullable(userEntity.getPassword()).ifPresent(existingUser::setPassword);
-            Optional.ofNullable(userEntity.getEmail()).ifPresent(existingUser::setEmail);
-            return userRepository.save(existingUser);
-        }).orElseThrow(() -> new RuntimeException("User does not exist"));
+    @Transactional
+    public void partialUpdate(Long id, UserEntity userEntity, Long expectedVersion) {
+        EntityPatch<UserEntity> patch = EntityPatch.of(UserEntity.class, "id", id)
+                .set("username", userEntity.getUsername())
+                .set("password", userEntity.getPassword())
+                .set("email", userEntity.getEmail())
+                .expectVersion(expectedVersion);
+
+        if(patchRepository.update(patch) == 0) {
+            if(!userRepository.existsById(id)) {
+                throw new RuntimeException("User does not exist");
+            }
+            throw new ObjectOptimisticLockingFailureException(UserEntity.class, id);
+        }
+        if(patch.sets("username")) {
+            // Issued tokens may still name the old username.
+            tokenRevocationService.revokeUser(id);
+        }
+        changeVersionService.bump(id);
     }
 
     /**
-     * Deletes a user entity and its associated trips and catches by the user's ID.
+     * Deletes a user entity and its associated trips and catches by the user's ID, using one set-based
+     * statement per table regardless of how many trips the user has.
+     * Tokens already issued to the user are revoked.
      *
      * @param id The ID of the user entity to delete.
      */
     @Override
     @Transactional
     public void delete(Long id) {
-        List<TripEntity> trips = tripRepository.findByUserId(id);
-        for(TripEntity trip : trips) {
-            catchRepository.deleteByTripId(trip.getTripId());
-            tripRepository.deleteById(trip.getTripId());
-        }
-
-        userRepository.deleteById(id);
+        catchRepository.deleteByUserId(id);
+        tripRepository.deleteByUserId(id);
+        userRepository.deleteUserById(id);
+        tokenRevocationService.revokeUser(id);
+        statsService.evict(id);
+        hotspotService.evict(id);
+        changeVersionService.bump(id);
     }
 }
@@ -4,15 +4,23 @@ import com.fishinglog.fishingapp.domain.dto.weather.MarineResponseDto;
 import com.fishinglog.fishingapp.domain.dto.weather.WeatherDto;
 import com.fishinglog.fishingapp.domain.dto.weather.WeatherResponseDto;
 import com.fishinglog.fishingapp.services.WeatherService;
+import com.fishinglog.fishingapp.weather.WeatherConditionClassifier;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
- * Service implementation to fetch weather data from an external API.
+ * Service implementation to fetch weather data from an external API. The current conditions and the
+ * marine forecast are requested concurrently on virtual threads, so the latency of a lookup is that of
+ * the slower call rather than the sum of both.
  *
  * @since 2024-03-16
  */
@@ -21,12 +29,31 @@ public class WeatherServiceImpl implements WeatherService {
 
     private final RestTemplate restTemplate;
 
-    @Value("${api.key}")
-    private String apiKey;
+    private final WeatherConditionClassifier conditionClassifier;
+
+    private final String apiKey;
+
+    private final String baseUrl;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
 
     @Autowired
-    public WeatherServiceImpl(RestTemplate restTemplate) {
+    public WeatherServiceImpl(RestTemplate restTemplate,
+                              WeatherConditionClassifier conditionClassifier,
+                              @Value("${api.key}") String apiKey,
+                              @Value("${weather.api.base-url:http://api.weatherapi.com/v1}") String baseUrl) {
         this.restTemplate = restTemplate;
+        this.conditionClassifier = conditionClassifier;
+        this.apiKey = apiKey;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Stops accepting new upstream calls when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
     }
 
     /**
@@ -39,19 +66,25 @@ public class WeatherServiceImpl implements WeatherService {
     @Override
     public WeatherDto getCurrentWeather(double latitude, double longitude) {
 
-        final String weatherUrl = "http://api.weatherapi.com/v1/current.json?key=" + apiKey + "&q=" + latitude + "," + longitude;
+        final String query = "?key=" + apiKey + "&q=" + latitude + "," + longitude;
+        final String weatherUrl = baseUrl + "/current.json" + query;
+        final String marineUrl = baseUrl + "/marine.json" + query;
+
+        CompletableFuture<WeatherResponseDto> weatherFuture = CompletableFuture.supplyAsync(
+                () -> restTemplate.getForObject(weatherUrl, WeatherResponseDto.class), executor);
+        CompletableFuture<MarineResponseDto> marineFuture = CompletableFuture.supplyAsync(
+                () -> restTemplate.getForObject(marineUrl, MarineResponseDto.class), executor);
+
+        WeatherResponseDto weatherResponse = join(weatherFuture);
+        MarineResponseDto marineResponse = join(marineFuture);
 
-        WeatherResponseDto weatherResponse = restTemplate.getForObject(weatherUrl, WeatherResponseDto.class);
         WeatherResponseDto.Current currentWeather = weatherResponse.getCurrent();
 
-        String weatherCondition = getWeatherCondition(currentWeather);
+        String weatherCondition = conditionClassifier.classify(currentWeather.getCondition().getCode()).getLabel();
 
         double airTemperature = currentWeather.getTemp_f();
         double windSpeed = currentWeather.getWind_mph();
 
-        final String marineUrl = "http://api.weatherapi.com/v1/marine.json?key=" + apiKey + "&q=" + latitude + "," + longitude;
-
-        MarineResponseDto marineResponse = restTemplate.getForObject(marineUrl, MarineResponseDto.class);
         List<MarineResponseDto.ForecastDay> forecastDays = marineResponse.getForecast().getForecastday();
 
         double waterTemperature = -900;
@@ -66,31 +99,20 @@ public class WeatherServiceImpl implements WeatherService {
     }
 
     /**
-     * Determines the weather condition based on the weather code.
+     * Waits for an upstream call and rethrows its failure unwrapped, as the sequential calls did.
      *
-     * @param currentWeather The current weather data.
-     * @return A string describing the weather condition.
+     * @param future The pending upstream call.
+     * @param <T> The response type.
+     * @return The response.
      */
-    private static String getWeatherCondition(WeatherResponseDto.Current currentWeather) {
-        int code = currentWeather.getCondition().getCode();
-        String weatherCondition;
-        if(code == 1000) {
-            weatherCondition = "clear";
-        } else if(code == 1003) {
-            weatherCondition = "partly cloudy";
-        } else if(code == 1006) {
-            weatherCondition = "cloudy";
-        } else if(code == 1009 || code == 1030 || code == 1063 || code == 1066 || code == 1069 || code == 1072 || code == 1087 || code == 1135 || code == 1147) {
-            weatherCondition = "overcast";
-        } else if(code == 1150 || code == 1153 || code == 1168 || code == 1180 || code == 1183 || code == 1198 || code == 1204 || code == 1210 || code == 1213 || code == 1240 || code == 1249 || code == 1255 || code == 1261 || code == 1273 || code == 1279) {
-            weatherCondition = "light precipitation";
-        } else if(code == 1186 || code == 1189 || code == 1201 || code == 1207 || code == 1216 || code == 1219 || code == 1243 || code == 1252 || code == 1258 || code == 1264 || code == 1276 || code == 1282) {
-            weatherCondition = "moderate precipitation";
-        } else if(code == 1114 || code == 1117 || code == 1171 || code == 1192 || code == 1195 || code == 1222 || code == 1225 || code == 1237 || code == 1246) {
-            weatherCondition = "heavy precipitation";
-        } else {
-            weatherCondition = "unknown";
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
-        return weatherCondition;
     }
 }
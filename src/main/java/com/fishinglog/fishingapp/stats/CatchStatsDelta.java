@@ -0,0 +1,114 @@
+package com.fishinglog.fishingapp.stats;
+
+import com.fishinglog.fishingapp.domain.StatsDimension;
+import com.fishinglog.fishingapp.domain.entities.UserCatchStatsEntity;
+import com.fishinglog.fishingapp.domain.entities.UserCatchStatsId;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Accumulates the changes that a set of catch writes makes to the statistics rows of their users. A catch
+ * that is updated is subtracted with its old values and added with its new ones, so the groups it stays
+ * in cancel out and are not written at all.
+ *
+ * Not thread-safe; a delta belongs to the transaction that builds it.
+ *
+ * @since 2026-10-18
+ */
+public class CatchStatsDelta {
+
+    private static final Comparator<UserCatchStatsId> ID_ORDER = Comparator
+            .comparing(UserCatchStatsId::getUserId)
+            .thenComparing(UserCatchStatsId::getDimension)
+            .thenComparing(UserCatchStatsId::getValue);
+
+    private final Map<UserCatchStatsId, UserCatchStatsEntity> rows = new HashMap<>();
+
+    /**
+     * Adds a catch to every group it belongs to. Catches on trips without a user are ignored.
+     *
+     * @param snapshot The values of the catch.
+     */
+    public void add(CatchStatsSnapshot snapshot) {
+        apply(snapshot, 1);
+    }
+
+    /**
+     * Removes a catch from every group it belongs to. Catches on trips without a user are ignored.
+     *
+     * @param snapshot The values the catch had.
+     */
+    public void subtract(CatchStatsSnapshot snapshot) {
+        apply(snapshot, -1);
+    }
+
+    /**
+     * @return true if applying the delta would not change any row.
+     */
+    public boolean isEmpty() {
+        return rows().isEmpty();
+    }
+
+    /**
+     * @return The IDs of the users with changed rows, in ascending order.
+     */
+    public List<Long> userIds() {
+        return rows().stream()
+                .map(row -> row.getId().getUserId())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Returns the non-zero changes, one per row, ordered by key so that every writer touches rows in the
+     * same order.
+     *
+     * @return The changes, as rows holding the amounts to add.
+     */
+    public List<UserCatchStatsEntity> rows() {
+        return rows.values().stream()
+                .filter(row -> !isZero(row))
+                .sorted(Comparator.comparing(UserCatchStatsEntity::getId, ID_ORDER))
+                .toList();
+    }
+
+    private void apply(CatchStatsSnapshot snapshot, int sign) {
+        if(snapshot.userId() == null) {
+            return;
+        }
+        apply(snapshot, StatsDimension.TOTAL, null, sign);
+        apply(snapshot, StatsDimension.SPECIES, snapshot.species(), sign);
+        apply(snapshot, StatsDimension.LURE_OR_BAIT, snapshot.lureOrBait(), sign);
+        apply(snapshot, StatsDimension.WEATHER_CONDITION, snapshot.weatherCondition(), sign);
+        apply(snapshot, StatsDimension.BODY_OF_WATER, snapshot.bodyOfWater(), sign);
+    }
+
+    private void apply(CatchStatsSnapshot snapshot, StatsDimension dimension, String value, int sign) {
+        UserCatchStatsId id = new UserCatchStatsId(snapshot.userId(), dimension, value == null ? "" : value);
+        UserCatchStatsEntity row = rows.computeIfAbsent(id, key -> UserCatchStatsEntity.builder().id(key).build());
+
+        row.setCatchCount(row.getCatchCount() + sign);
+        if(snapshot.airTemperature() != null) {
+            row.setAirTemperatureSum(row.getAirTemperatureSum() + (long) sign * snapshot.airTemperature());
+            row.setAirTemperatureCount(row.getAirTemperatureCount() + sign);
+        }
+        if(snapshot.waterTemperature() != null) {
+            row.setWaterTemperatureSum(row.getWaterTemperatureSum() + (long) sign * snapshot.waterTemperature());
+            row.setWaterTemperatureCount(row.getWaterTemperatureCount() + sign);
+        }
+        if(snapshot.windSpeed() != null) {
+            row.setWindSpeedSum(row.getWindSpeedSum() + (long) sign * snapshot.windSpeed());
+            row.setWindSpeedCount(row.getWindSpeedCount() + sign);
+        }
+    }
+
+    private static boolean isZero(UserCatchStatsEntity row) {
+        return row.getCatchCount() == 0
+                && row.getAirTemperatureSum() == 0 && row.getAirTemperatureCount() == 0
+                && row.getWaterTemperatureSum() == 0 && row.getWaterTemperatureCount() == 0
+                && row.getWindSpeedSum() == 0 && row.getWindSpeedCount() == 0;
+    }
+}
@@ -0,0 +1,62 @@
+package com.fishinglog.fishingapp.stats;
+
+import com.fishinglog.fishingapp.domain.entities.CatchEntity;
+import com.fishinglog.fishingapp.domain.entities.TripEntity;
+
+/**
+ * The values of a catch, and of its trip, that contribute to the owning user's statistics.
+ *
+ * @param userId The ID of the user who owns the catch's trip, or null if the trip has no user.
+ * @param bodyOfWater The body of water of the catch's trip.
+ * @param species The species caught.
+ * @param lureOrBait The lure or bait used.
+ * @param weatherCondition The weather condition at the time of the catch.
+ * @param airTemperature The air temperature, or null if unknown.
+ * @param waterTemperature The water temperature, or null if unknown.
+ * @param windSpeed The wind speed, or null if unknown.
+ *
+ * @since 2026-10-18
+ */
+public record CatchStatsSnapshot(Long userId, String bodyOfWater, String species, String lureOrBait,
+                                 String weatherCondition, Integer airTemperature, Integer waterTemperature,
+                                 Integer windSpeed) {
+
+    /**
+     * Captures the current values of a catch. Since the snapshot is immutable, it can be taken before the
+     * entity is modified and still describe the old state afterwards.
+     *
+     * @param tripEntity The trip of the catch.
+     * @param catchEntity The catch.
+     * @return The snapshot.
+     */
+    public static CatchStatsSnapshot of(TripEntity tripEntity, CatchEntity catchEntity) {
+        return new CatchStatsSnapshot(
+                tripEntity.getUser() == null ? null : tripEntity.getUser().getId(),
+                tripEntity.getBodyOfWater(),
+                catchEntity.getSpecies(),
+                catchEntity.getLureOrBait(),
+                catchEntity.getWeatherCondition(),
+                catchEntity.getAirTemperature(),
+                catchEntity.getWaterTemperature(),
+                catchEntity.getWindSpeed());
+    }
+
+    /**
+     * Returns the snapshot a catch has after a partial update. Null fields of the patch leave the
+     * corresponding values unchanged.
+     *
+     * @param patch The catch holding the updated fields.
+     * @return The updated snapshot.
+     */
+    public CatchStatsSnapshot patchedWith(CatchEntity patch) {
+        return new CatchStatsSnapshot(
+                userId,
+                bodyOfWater,
+                patch.getSpecies() == null ? species : patch.getSpecies(),
+                patch.getLureOrBait() == null ? lureOrBait : patch.getLureOrBait(),
+                patch.getWeatherCondition() == null ? weatherCondition : patch.getWeatherCondition(),
+                patch.getAirTemperature() == null ? airTemperature : patch.getAirTemperature(),
+                patch.getWaterTemperature() == null ? waterTemperature : patch.getWaterTemperature(),
+                patch.getWindSpeed() == null ? windSpeed : patch.getWindSpeed());
+    }
+}
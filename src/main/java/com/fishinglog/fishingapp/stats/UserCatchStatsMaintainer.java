@@ -0,0 +1,126 @@
+package com.fishinglog.fishingapp.stats;
+
+import com.fishinglog.fishingapp.domain.entities.UserCatchStatsEntity;
+import com.fishinglog.fishingapp.repositories.CatchRepository;
+import com.fishinglog.fishingapp.repositories.UserCatchStatsRepository;
+import com.fishinglog.fishingapp.repositories.UserRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keeps the 'user_catch_stats' table in step with the catches it aggregates. Catch and trip writes apply a
+ * {@link CatchStatsDelta} in their own transaction, so the statistics commit or roll back with the write;
+ * {@link #rebuild(Long)} recomputes a user's rows from scratch to detect and repair drift.
+ *
+ * Both run under a lock on the affected users' rows. Writers of the same user are therefore serialized,
+ * which keeps the insert of a new group from racing another insert of the same group. Writers take the lock
+ * through {@link #lockUsers(Collection)} before they read the snapshots a delta is computed from, so the
+ * catches and trips behind those snapshots cannot change until the delta has been applied; a rebuild
+ * takes it itself.
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class UserCatchStatsMaintainer {
+
+    private final UserCatchStatsRepository userCatchStatsRepository;
+
+    private final CatchRepository catchRepository;
+
+    private final UserRepository userRepository;
+
+    @Autowired
+    public UserCatchStatsMaintainer(UserCatchStatsRepository userCatchStatsRepository,
+                                    CatchRepository catchRepository, UserRepository userRepository) {
+        this.userCatchStatsRepository = userCatchStatsRepository;
+        this.catchRepository = catchRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Locks the rows of the users whose statistics a write is about to change, until the transaction ends.
+     * Must be called before the write reads the catches or trips its delta is computed from.
+     *
+     * @param userIds The IDs of the users; nulls and duplicates are ignored.
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void lockUsers(Collection<Long> userIds) {
+        List<Long> distinctUserIds = userIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if(!distinctUserIds.isEmpty()) {
+            userRepository.lockByIdIn(distinctUserIds);
+        }
+    }
+
+    /**
+     * Applies a delta to the statistics rows, inserting groups that are new and deleting groups that no
+     * longer count any catches. Must be called inside the transaction that made the catch writes, after
+     * that transaction has locked the delta's users through {@link #lockUsers(Collection)}; the rows are not
+     * locked again here.
+     *
+     * @param delta The changes to apply.
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void apply(CatchStatsDelta delta) {
+        List<UserCatchStatsEntity> rows = delta.rows();
+        if(rows.isEmpty()) {
+            return;
+        }
+
+        for (UserCatchStatsEntity row : rows) {
+            if(addDelta(row) == 0) {
+                insert(row);
+            }
+        }
+        userCatchStatsRepository.deleteEmptyByUserIdIn(delta.userIds());
+    }
+
+    /**
+     * Recomputes a user's statistics from their catches and replaces the stored rows if they differ.
+     *
+     * @param userId The ID of the user.
+     * @return true if the stored rows had drifted and were replaced, false if they were correct.
+     */
+    @Transactional
+    public boolean rebuild(Long userId) {
+        userRepository.lockByIdIn(List.of(userId));
+
+        CatchStatsDelta expected = new CatchStatsDelta();
+        catchRepository.findStatsSnapshotsByUserId(userId).forEach(expected::add);
+        List<UserCatchStatsEntity> expectedRows = expected.rows();
+
+        if(new HashSet<>(expectedRows).equals(new HashSet<>(userCatchStatsRepository.findByIdUserId(userId)))) {
+            return false;
+        }
+
+        userCatchStatsRepository.deleteByUserId(userId);
+        expectedRows.forEach(this::insert);
+        return true;
+    }
+
+    private int addDelta(UserCatchStatsEntity row) {
+        return userCatchStatsRepository.addDelta(
+                row.getId().getUserId(), row.getId().getDimension().name(), row.getId().getValue(),
+                row.getCatchCount(),
+                row.getAirTemperatureSum(), row.getAirTemperatureCount(),
+                row.getWaterTemperatureSum(), row.getWaterTemperatureCount(),
+                row.getWindSpeedSum(), row.getWindSpeedCount());
+    }
+
+    private void insert(UserCatchStatsEntity row) {
+        userCatchStatsRepository.insert(
+                row.getId().getUserId(), row.getId().getDimension().name(), row.getId().getValue(),
+                row.getCatchCount(),
+                row.getAirTemperatureSum(), row.getAirTemperatureCount(),
+                row.getWaterTemperatureSum(), row.getWaterTemperatureCount(),
+                row.getWindSpeedSum(), row.getWindSpeedCount());
+    }
+}
@@ -0,0 +1,56 @@
+package com.fishinglog.fishingapp.stats;
+
+import com.fishinglog.fishingapp.repositories.UserRepository;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.logging.Level;
+
+/**
+ * Periodically checks every user's incrementally maintained statistics against a full recomputation and
+ * repairs any that have drifted, e.g. after catches were changed directly in the database. Each user is
+ * rebuilt in a separate transaction, so the job never holds more than one user's lock.
+ *
+ * Runs on {@code stats.rebuild.cron}; the job is disabled when the expression is {@code -}.
+ *
+ * @since 2026-10-18
+ */
+@Log
+@Component
+public class UserCatchStatsRebuildJob {
+
+    private final UserCatchStatsMaintainer maintainer;
+
+    private final UserRepository userRepository;
+
+    @Autowired
+    public UserCatchStatsRebuildJob(UserCatchStatsMaintainer maintainer,
+                                    UserRepository userRepository) {
+        this.maintainer = maintainer;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Rebuilds the statistics of every user.
+     *
+     * @return The number of users whose statistics had drifted.
+     */
+    @Scheduled(cron = "${stats.rebuild.cron:-}")
+    public int run() {
+        int drifted = 0;
+        for (Long userId : userRepository.findAllIds()) {
+            try {
+                if(maintainer.rebuild(userId)) {
+                    drifted++;
+                    log.warning("Repaired drifted catch statistics of user " + userId);
+                }
+            } catch (RuntimeException e) {
+                log.log(Level.WARNING, "Failed to rebuild catch statistics of user " + userId, e);
+            }
+        }
+        log.info("Checked catch statistics; " + drifted + " user(s) had drifted");
+        return drifted;
+    }
+}
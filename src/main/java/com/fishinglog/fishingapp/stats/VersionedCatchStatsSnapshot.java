@@ -0,0 +1,24 @@
+package com.fishinglog.fishingapp.stats;
+
+/**
+ * A {@link CatchStatsSnapshot} together with the version of the catch it was read from. Applying an
+ * update only if the catch still has that version guarantees that the snapshot described the values
+ * being replaced.
+ *
+ * @param version The version of the catch.
+ * @param snapshot The statistics-relevant values of the catch.
+ *
+ * @since 2026-10-18
+ */
+public record VersionedCatchStatsSnapshot(long version, CatchStatsSnapshot snapshot) {
+
+    /**
+     * Flat constructor for JPQL constructor expressions.
+     */
+    public VersionedCatchStatsSnapshot(long version, Long userId, String bodyOfWater, String species,
+                                       String lureOrBait, String weatherCondition, Integer airTemperature,
+                                       Integer waterTemperature, Integer windSpeed) {
+        this(version, new CatchStatsSnapshot(userId, bodyOfWater, species, lureOrBait, weatherCondition,
+                airTemperature, waterTemperature, windSpeed));
+    }
+}
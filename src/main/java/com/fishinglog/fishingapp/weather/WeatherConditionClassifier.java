@@ -0,0 +1,76 @@
+package com.fishinglog.fishingapp.weather;
+
+import com.fishinglog.fishingapp.domain.WeatherCondition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * Maps weatherapi.com condition codes to a {@link WeatherCondition}. Codes start at 1000 and are
+ * dense, so the mapping is a byte table indexed by {@code code - 1000} holding enum ordinals.
+ *
+ * The table is loaded from a properties file of {@code code=CONDITION} lines, so new codes only need
+ * a new line in that file. Codes that are not listed classify as {@link WeatherCondition#UNKNOWN}.
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class WeatherConditionClassifier {
+
+    private static final int FIRST_CODE = 1000;
+
+    private static final WeatherCondition[] CONDITIONS = WeatherCondition.values();
+
+    private final byte[] table;
+
+    public WeatherConditionClassifier(
+            @Value("${weather.condition-codes:classpath:weather/condition-codes.properties}") Resource codes) {
+        Properties properties = new Properties();
+        try (InputStream inputStream = codes.getInputStream()) {
+            properties.load(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read weather condition codes from " + codes, e);
+        }
+
+        int lastCode = FIRST_CODE - 1;
+        for (String key : properties.stringPropertyNames()) {
+            lastCode = Math.max(lastCode, parseCode(key));
+        }
+
+        byte[] table = new byte[lastCode - FIRST_CODE + 1];
+        Arrays.fill(table, (byte) WeatherCondition.UNKNOWN.ordinal());
+        for (String key : properties.stringPropertyNames()) {
+            WeatherCondition condition = WeatherCondition.valueOf(properties.getProperty(key).trim());
+            table[parseCode(key) - FIRST_CODE] = (byte) condition.ordinal();
+        }
+        this.table = table;
+    }
+
+    /**
+     * Classifies a condition code.
+     *
+     * @param code The weatherapi.com condition code.
+     * @return The matching weather condition, or UNKNOWN for unlisted codes.
+     */
+    public WeatherCondition classify(int code) {
+        int index = code - FIRST_CODE;
+        if (index < 0 || index >= table.length) {
+            return WeatherCondition.UNKNOWN;
+        }
+        return CONDITIONS[table[index]];
+    }
+
+    private static int parseCode(String key) {
+        int code = Integer.parseInt(key.trim());
+        if (code < FIRST_CODE) {
+            throw new IllegalArgumentException("Weather condition codes start at " + FIRST_CODE + ": " + code);
+        }
+        return code;
+    }
+}
@@ -0,0 +1,75 @@
+package com.fishinglog.fishingapp.web;
+
+/**
+ * Builds and compares HTTP entity tags. A persisted entity's tag is its optimistic-locking version, which
+ * changes exactly when the entity does; a listing's tag is derived from a version of everything it covers.
+ *
+ * @since 2026-10-18
+ */
+public final class EntityTags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private EntityTags() {
+    }
+
+    /**
+     * @param version The version of an entity.
+     * @return The strong entity tag for the version.
+     */
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Builds a weak entity tag for one view of a changing collection, such as a filtered listing.
+     *
+     * @param version The version of the collection.
+     * @param scope The parameters selecting the view, so that different views get different tags.
+     * @return The weak entity tag.
+     */
+    public static String weakOf(long version, Object scope) {
+        return WEAK_PREFIX + "\"" + version + "-" + scope + "\"";
+    }
+
+    /**
+     * Reads the version back from a strong entity tag.
+     *
+     * @param entityTag The entity tag, for example from an {@code If-Match} header.
+     * @return The version, or null if the tag is weak or was not built by {@link #of(long)}.
+     */
+    public static Long version(String entityTag) {
+        String tag = entityTag.trim();
+        if(tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            return null;
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header against the current entity tag, using the weak comparison
+     * that header calls for.
+     *
+     * @param ifNoneMatch The header value: {@code *} or a comma-separated list of entity tags.
+     * @param entityTag The current entity tag.
+     * @return true if the header lists the tag, so the client's copy is current.
+     */
+    public static boolean matchesAny(String ifNoneMatch, String entityTag) {
+        String current = opaqueTag(entityTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if(tag.equals("*") || opaqueTag(tag).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String entityTag) {
+        return entityTag.startsWith(WEAK_PREFIX) ? entityTag.substring(WEAK_PREFIX.length()) : entityTag;
+    }
+}
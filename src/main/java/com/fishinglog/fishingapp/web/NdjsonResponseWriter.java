@@ -0,0 +1,72 @@
+package com.fishinglog.fishingapp.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Writes a sequence of rows as newline-delimited JSON. Each row is serialized and written as soon as it
+ * is produced, so the response never holds more than one row in memory.
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class NdjsonResponseWriter {
+
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final int FLUSH_INTERVAL = 256;
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectWriter rowWriter;
+
+    @Autowired
+    public NdjsonResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Builds a response body that pulls rows from a source and writes each one mapped as a JSON line.
+     *
+     * @param source Pushes every row to the consumer it is given, for example a streaming service call.
+     * @param mapper Converts a row to the object that is serialized.
+     * @param <R> The row type produced by the source.
+     * @param <D> The serialized type.
+     * @return A StreamingResponseBody that writes the rows.
+     */
+    public <R, D> StreamingResponseBody write(Consumer<Consumer<R>> source, Function<R, D> mapper) {
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                int[] written = {0};
+
+                source.accept(row -> {
+                    try {
+                        rowWriter.writeValue(generator, mapper.apply(row));
+                        generator.writeRaw('\n');
+                        if(++written[0] % FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+}
@@ -0,0 +1,38 @@
+-- Schema previously created by spring.jpa.hibernate.ddl-auto=update.
+-- Databases that already hold these tables are baselined at this version and skip this script.
+
+CREATE SEQUENCE IF NOT EXISTS user_id_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT NOT NULL,
+    username VARCHAR(255),
+    password VARCHAR(255),
+    email VARCHAR(255),
+    role SMALLINT,
+    CONSTRAINT pk_users PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS trips (
+    trip_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    date DATE,
+    body_of_water VARCHAR(255),
+    user_id BIGINT,
+    CONSTRAINT pk_trips PRIMARY KEY (trip_id),
+    CONSTRAINT fk_trips_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS catches (
+    catch_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    time TIME,
+    latitude DOUBLE PRECISION,
+    longitude DOUBLE PRECISION,
+    species VARCHAR(255),
+    lure_or_bait VARCHAR(255),
+    weather_condition VARCHAR(255),
+    air_temperature INTEGER,
+    water_temperature INTEGER,
+    wind_speed INTEGER,
+    trip_id BIGINT,
+    CONSTRAINT pk_catches PRIMARY KEY (catch_id),
+    CONSTRAINT fk_catches_trip_id FOREIGN KEY (trip_id) REFERENCES trips (trip_id)
+);
@@ -0,0 +1,8 @@
+-- Trip listings filter by user and date and page by (date, trip_id).
+CREATE INDEX IF NOT EXISTS idx_trips_user_id_date_trip_id ON trips (user_id, date, trip_id);
+
+-- Catch listings and trip deletion look catches up by trip.
+CREATE INDEX IF NOT EXISTS idx_catches_trip_id ON catches (trip_id);
+
+-- Authentication looks users up by username, which must be unique.
+CREATE UNIQUE INDEX IF NOT EXISTS uq_users_username ON users (username);
@@ -0,0 +1,51 @@
+-- Per-user catch statistics, maintained incrementally by the catch and trip services.
+-- Each row aggregates one user's catches that share a value of one dimension; the TOTAL row
+-- covers all of them. Null values are stored as ''. Averages are kept as sums and counts so
+-- that they can be adjusted by deltas. The rows are derived data, so they go with their user.
+CREATE TABLE IF NOT EXISTS user_catch_stats (
+    user_id BIGINT NOT NULL,
+    dimension VARCHAR(32) NOT NULL,
+    dimension_value VARCHAR(255) NOT NULL,
+    catch_count BIGINT NOT NULL,
+    air_temperature_sum BIGINT NOT NULL,
+    air_temperature_count BIGINT NOT NULL,
+    water_temperature_sum BIGINT NOT NULL,
+    water_temperature_count BIGINT NOT NULL,
+    wind_speed_sum BIGINT NOT NULL,
+    wind_speed_count BIGINT NOT NULL,
+    CONSTRAINT pk_user_catch_stats PRIMARY KEY (user_id, dimension, dimension_value),
+    CONSTRAINT fk_user_catch_stats_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+-- Backfill from the catches already recorded.
+INSERT INTO user_catch_stats (user_id, dimension, dimension_value, catch_count,
+                              air_temperature_sum, air_temperature_count,
+                              water_temperature_sum, water_temperature_count,
+                              wind_speed_sum, wind_speed_count)
+SELECT s.user_id, s.dimension, s.dimension_value, COUNT(*),
+       COALESCE(SUM(s.air_temperature), 0), COUNT(s.air_temperature),
+       COALESCE(SUM(s.water_temperature), 0), COUNT(s.water_temperature),
+       COALESCE(SUM(s.wind_speed), 0), COUNT(s.wind_speed)
+FROM (
+    SELECT t.user_id, 'TOTAL' AS dimension, '' AS dimension_value,
+           c.air_temperature, c.water_temperature, c.wind_speed
+    FROM catches c JOIN trips t ON t.trip_id = c.trip_id
+    UNION ALL
+    SELECT t.user_id, 'SPECIES', COALESCE(c.species, ''),
+           c.air_temperature, c.water_temperature, c.wind_speed
+    FROM catches c JOIN trips t ON t.trip_id = c.trip_id
+    UNION ALL
+    SELECT t.user_id, 'LURE_OR_BAIT', COALESCE(c.lure_or_bait, ''),
+           c.air_temperature, c.water_temperature, c.wind_speed
+    FROM catches c JOIN trips t ON t.trip_id = c.trip_id
+    UNION ALL
+    SELECT t.user_id, 'WEATHER_CONDITION', COALESCE(c.weather_condition, ''),
+           c.air_temperature, c.water_temperature, c.wind_speed
+    FROM catches c JOIN trips t ON t.trip_id = c.trip_id
+    UNION ALL
+    SELECT t.user_id, 'BODY_OF_WATER', COALESCE(t.body_of_water, ''),
+           c.air_temperature, c.water_temperature, c.wind_speed
+    FROM catches c JOIN trips t ON t.trip_id = c.trip_id
+) s
+WHERE s.user_id IS NOT NULL
+GROUP BY s.user_id, s.dimension, s.dimension_value;
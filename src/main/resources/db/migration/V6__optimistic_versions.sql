@@ -0,0 +1,5 @@
+-- Optimistic locking: every update increments the row's version, and writers that read an older
+-- version are rejected instead of overwriting the newer row.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE trips ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE catches ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
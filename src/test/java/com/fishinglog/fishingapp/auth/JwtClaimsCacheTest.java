@@ -0,0 +1,103 @@
+package com.fishinglog.fishingapp.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JwtClaimsCacheTest {
+
+    private static final String KEY = "dGhpcyBpcyBhIHRlc3Qga2V5IGZvciB0aGUgZmlzaGluZyBhcHAgMTIzNDU2Nzg=";
+
+    private static final String OTHER_KEY = "YW5vdGhlciB0ZXN0IGtleSBmb3IgdGhlIGZpc2hpbmcgYXBwIDEyMzQ1Njc4OTA=";
+
+    private final JwtKeyRing keyRing = new JwtKeyRing(KEY, "primary", "");
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final AtomicInteger parses = new AtomicInteger();
+
+    private final JwtClaimsCache underTest = new JwtClaimsCache(100, nanos::get);
+
+    private final Function<String, Claims> parser = token -> {
+        parses.incrementAndGet();
+        return keyRing.getParser().parseClaimsJws(token).getBody();
+    };
+
+    @Test
+    public void testThatRepeatedLookupsParseTheTokenOnce() {
+        String token = token(keyRing, "jdoe2023", TimeUnit.HOURS.toMillis(1));
+
+        Claims first = underTest.get(token, parser);
+        Claims second = underTest.get(token, parser);
+
+        assertThat(first.getSubject()).isEqualTo("jdoe2023");
+        assertThat(second).isSameAs(first);
+        assertThat(parses).hasValue(1);
+    }
+
+    @Test
+    public void testThatEntriesExpireWhenTheirTokenExpires() {
+        String token = token(keyRing, "jdoe2023", TimeUnit.MINUTES.toMillis(10));
+        underTest.get(token, parser);
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(9));
+        underTest.get(token, parser);
+        assertThat(parses).hasValue(1);
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(1) + TimeUnit.SECONDS.toNanos(1));
+        underTest.get(token, parser);
+        assertThat(parses).hasValue(2);
+    }
+
+    @Test
+    public void testThatTamperedAndForeignTokensAreRejectedEveryTime() {
+        String token = token(keyRing, "jdoe2023", TimeUnit.HOURS.toMillis(1));
+        underTest.get(token, parser);
+        String[] parts = token.split("\\.");
+        String forgedPayload = Jwts.builder().setSubject("admin").setExpiration(new Date(System.currentTimeMillis()
+                + TimeUnit.HOURS.toMillis(1))).signWith(keyRing.getSigningKey(), SignatureAlgorithm.HS256)
+                .compact().split("\\.")[1];
+        String tampered = parts[0] + "." + forgedPayload + "." + parts[2];
+        String foreign = token(new JwtKeyRing(OTHER_KEY, "primary", ""), "jdoe2023", TimeUnit.HOURS.toMillis(1));
+
+        assertThatThrownBy(() -> underTest.get(tampered, parser)).isInstanceOf(SignatureException.class);
+        assertThatThrownBy(() -> underTest.get(tampered, parser)).isInstanceOf(SignatureException.class);
+        assertThatThrownBy(() -> underTest.get(foreign, parser)).isInstanceOf(SignatureException.class);
+
+        assertThat(parses).hasValue(4);
+        assertThat(underTest.get(token, parser).getSubject()).isEqualTo("jdoe2023");
+        assertThat(parses).hasValue(4);
+    }
+
+    @Test
+    public void testThatTokensWithoutExpirationAreNotCached() {
+        String token = Jwts.builder().setSubject("jdoe2023")
+                .signWith(keyRing.getSigningKey(), SignatureAlgorithm.HS256).compact();
+
+        underTest.get(token, parser);
+        underTest.get(token, parser);
+
+        assertThat(parses).hasValue(2);
+    }
+
+    private static String token(JwtKeyRing keyRing, String subject, long lifetimeMillis) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(subject)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + lifetimeMillis))
+                .signWith(keyRing.getSigningKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
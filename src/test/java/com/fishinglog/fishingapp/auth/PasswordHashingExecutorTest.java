@@ -0,0 +1,45 @@
+package com.fishinglog.fishingapp.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PasswordHashingExecutorTest {
+
+    @Test
+    public void testThatTasksAreRejectedOnceThreadsAndQueueAreFull() throws Exception {
+        PasswordHashingExecutor underTest = new PasswordHashingExecutor(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> running = underTest.submit(() -> {
+            started.countDown();
+            await(release);
+            return "running";
+        });
+        started.await();
+        CompletableFuture<String> queued = underTest.submit(() -> "queued");
+
+        assertThatThrownBy(() -> underTest.submit(() -> "rejected"))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        assertThat(running.join()).isEqualTo("running");
+        assertThat(queued.join()).isEqualTo("queued");
+        assertThat(underTest.submit(() -> "accepted again").join()).isEqualTo("accepted again");
+        underTest.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.fishinglog.fishingapp.auth;
+
+import com.fishinglog.fishingapp.TestDataUtil;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.repositories.UserRepository;
+import com.fishinglog.fishingapp.services.UserService;
+import com.fishinglog.fishingapp.services.auth.JwtService;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.Date;
+import java.util.Map;
+
+@SpringBootTest(properties = "jwt.stateless=true")
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class StatelessJwtAuthenticationIntegrationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private JwtKeyRing keyRing;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testThatThePrincipalIsBuiltFromTheTokenWithoutLoadingTheUser() throws Exception {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        String token = jwtService.generateToken(userEntity);
+        // Without the user row, only a principal built from the token's claims can authenticate the request.
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userEntity.getId());
+
+        mockMvc.perform(getMissingTrip(userEntity.getId(), token))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+        mockMvc.perform(getMissingTrip(userEntity.getId() + 1, token))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+    }
+
+    @Test
+    public void testThatRenamingAUserRevokesEarlierTokensButNotNewOnes() throws Exception {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        String earlierToken = issuedAt(userEntity, new Date(System.currentTimeMillis() - 5_000));
+
+        userService.partialUpdate(userEntity.getId(), UserEntity.builder().username("jdoe2024").build(), null);
+        userEntity.setUsername("jdoe2024");
+        String renewedToken = jwtService.generateToken(userEntity);
+
+        mockMvc.perform(getMissingTrip(userEntity.getId(), earlierToken))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+        mockMvc.perform(getMissingTrip(userEntity.getId(), renewedToken))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    private String issuedAt(UserEntity userEntity, Date issuedAt) {
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getSigningKeyId())
+                .setClaims(Map.of("uid", userEntity.getId()))
+                .setSubject(userEntity.getUsername())
+                .setIssuedAt(issuedAt)
+                .setExpiration(new Date(issuedAt.getTime() + 60 * 60 * 1000))
+                .signWith(keyRing.getSigningKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static MockHttpServletRequestBuilder getMissingTrip(Long userId, String token) {
+        return MockMvcRequestBuilders.get("/trips/999")
+                .param("userId", userId.toString())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+}
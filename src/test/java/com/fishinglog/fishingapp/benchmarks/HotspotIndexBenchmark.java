@@ -0,0 +1,87 @@
+package com.fishinglog.fishingapp.benchmarks;
+
+import com.fishinglog.fishingapp.domain.dto.stats.HotspotDto;
+import com.fishinglog.fishingapp.geo.HotspotIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link HotspotIndex} for a heavy user: building an index from scratch, computing hotspots from
+ * a built index, and adding one catch and recomputing, which is what a read after a save costs.
+ *
+ * Run with {@code mvn test-compile} followed by this class's main method on the test classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HotspotIndexBenchmark {
+
+    private static final String[] SPECIES = {"Striped Bass", "Channel Catfish", "Largemouth Bass", "Crappie", "Bluegill"};
+
+    private static final String[] LURES = {"Blue Herring", "Nightcrawler", "Jig", "Crankbait"};
+
+    @Param({"50000"})
+    private int catchCount;
+
+    private double[] latitudes;
+    private double[] longitudes;
+    private HotspotIndex built;
+    private long nextCatchId;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        latitudes = new double[catchCount];
+        longitudes = new double[catchCount];
+        for (int i = 0; i < catchCount; i++) {
+            // A few dozen favourite spots spread over a region, plus scattered one-off catches.
+            int spot = random.nextInt(40);
+            double spread = i % 10 == 0 ? 0.5 : 0.003;
+            latitudes[i] = 34 + (spot % 8) * 0.1 + random.nextGaussian() * spread;
+            longitudes[i] = -81 + (spot / 8) * 0.1 + random.nextGaussian() * spread;
+        }
+        built = build();
+        nextCatchId = catchCount;
+    }
+
+    @Benchmark
+    public HotspotIndex buildIndex() {
+        return build();
+    }
+
+    @Benchmark
+    public List<HotspotDto> buildAndCompute() {
+        return build().hotspots();
+    }
+
+    @Benchmark
+    public List<HotspotDto> addAndRecompute() {
+        long catchId = nextCatchId++;
+        int i = (int) (catchId % catchCount);
+        built.append(catchId, latitudes[i], longitudes[i], SPECIES[i % SPECIES.length], LURES[i % LURES.length]);
+        return built.hotspots();
+    }
+
+    private HotspotIndex build() {
+        HotspotIndex index = new HotspotIndex(0.25, 3, 50);
+        for (int i = 0; i < catchCount; i++) {
+            index.append(i, latitudes[i], longitudes[i], SPECIES[i % SPECIES.length], LURES[i % LURES.length]);
+        }
+        return index;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(HotspotIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,98 @@
+package com.fishinglog.fishingapp.benchmarks;
+
+import com.fishinglog.fishingapp.TestDataUtil;
+import com.fishinglog.fishingapp.auth.JwtClaimsCache;
+import com.fishinglog.fishingapp.auth.JwtKeyRing;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.services.auth.impl.JwtServiceImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares token generation and validation before and after the key material was moved into
+ * {@link JwtKeyRing}. The {@code legacy*} benchmarks reproduce the previous per-call key decoding
+ * and parser construction.
+ *
+ * Run with {@code mvn test-compile} followed by this class's main method on the test classpath.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private static final String JWT_KEY = "dGhpcyBpcyBhIHRlc3Qga2V5IGZvciB0aGUgZmlzaGluZyBhcHAgMTIzNDU2Nzg=";
+
+    private JwtKeyRing keyRing;
+    private JwtServiceImpl jwtService;
+    private UserEntity user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        keyRing = new JwtKeyRing(JWT_KEY, "primary", "");
+        jwtService = new JwtServiceImpl(keyRing, new JwtClaimsCache(10_000));
+        user = TestDataUtil.createTestUserEntityA();
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String legacyGenerate() {
+        return Jwts
+                .builder()
+                .setSubject(user.getUsername())
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24))
+                .signWith(legacySignInKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public Claims legacyValidate() {
+        return Jwts
+                .parserBuilder()
+                .setSigningKey(legacySignInKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims validate() {
+        return keyRing.getParser().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public boolean validateWithClaimsCache() {
+        return jwtService.isTokenValid(token, user);
+    }
+
+    private static Key legacySignInKey() {
+        byte[] keyBytes = Decoders.BASE64.decode(JWT_KEY);
+        return Keys.hmacShaKeyFor(keyBytes);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtServiceBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,163 @@
+package com.fishinglog.fishingapp.benchmarks;
+
+import com.fishinglog.fishingapp.FishingAppApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures {@code GET /trips} latency while other clients hammer {@code /auth/authenticate}. With
+ * {@code bounded} set, password hashing uses the configured pool of one thread per core and a short queue,
+ * so excess logins get 429 and CPU stays available for other endpoints. Without it, the pool is as
+ * large as Tomcat's, which reproduces the previous behaviour of hashing on every request thread. The
+ * {@code stormClients=0} runs give the baseline latency, and the {@code rejectedLogins} counter reports how
+ * many storm logins got 429 in each iteration.
+ *
+ * Run with {@code mvn test-compile} followed by this class's main method on the test classpath.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoginStormBenchmark {
+
+    private static final String PASSWORD = "password@1";
+
+    @Param({"0", "64"})
+    private int stormClients;
+
+    @Param({"true", "false"})
+    private boolean bounded;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private ObjectMapper objectMapper;
+    private String baseUrl;
+    private String token;
+    private long userId;
+
+    private volatile boolean storming;
+    private final List<Thread> stormThreads = new ArrayList<>();
+    private final AtomicLong rejectedLogins = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // Command-line arguments take precedence over the placeholders in application.properties.
+        context = new SpringApplicationBuilder(FishingAppApplication.class).run(
+                "--server.port=0",
+                "--spring.docker.compose.enabled=false",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--api.key=benchmark",
+                "--jwt.key=dGhpcyBpcyBhIHRlc3Qga2V5IGZvciB0aGUgZmlzaGluZyBhcHAgMTIzNDU2Nzg=",
+                "--feedback.directory=target/benchmark-feedback",
+                "--auth.bcrypt.strength=10",
+                bounded ? "--auth.password-hashing.threads=0" : "--auth.password-hashing.threads=200",
+                bounded ? "--auth.password-hashing.queue-capacity=64" : "--auth.password-hashing.queue-capacity=10000");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port;
+        client = HttpClient.newHttpClient();
+        objectMapper = new ObjectMapper();
+
+        post("/auth/register", "{\"username\":\"storm01\",\"password\":\"" + PASSWORD + "\",\"email\":\"storm@email.com\"}");
+        JsonNode login = objectMapper.readTree(post("/auth/authenticate", loginBody()).body());
+        token = login.get("token").asText();
+        userId = login.get("id").asLong();
+
+        storming = true;
+        for (int i = 0; i < stormClients; i++) {
+            stormThreads.add(Thread.ofVirtual().start(this::storm));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetRejectedLogins() {
+        rejectedLogins.set(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        storming = false;
+        for (Thread thread : stormThreads) {
+            thread.join();
+        }
+        context.close();
+    }
+
+    @Benchmark
+    public int listTrips(LoginCounters counters) throws Exception {
+        counters.rejectedLogins += rejectedLogins.getAndSet(0);
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create(baseUrl + "/trips?userId=" + userId + "&date=" + LocalDate.now()))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * Per-iteration counters that JMH reports next to the latency results.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class LoginCounters {
+
+        public long rejectedLogins;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rejectedLogins = 0;
+        }
+    }
+
+    private void storm() {
+        while (storming) {
+            try {
+                if (post("/auth/authenticate", loginBody()).statusCode() == 429) {
+                    rejectedLogins.incrementAndGet();
+                    // Honour Retry-After loosely so rejected clients do not spin.
+                    Thread.sleep(50);
+                }
+            } catch (Exception e) {
+                return;
+            }
+        }
+    }
+
+    private String loginBody() {
+        return "{\"username\":\"storm01\",\"password\":\"" + PASSWORD + "\"}";
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LoginStormBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
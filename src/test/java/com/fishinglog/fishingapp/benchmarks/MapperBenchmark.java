@@ -0,0 +1,90 @@
+package com.fishinglog.fishingapp.benchmarks;
+
+import com.fishinglog.fishingapp.TestDataUtil;
+import com.fishinglog.fishingapp.domain.dto.persisted.CatchDto;
+import com.fishinglog.fishingapp.domain.dto.persisted.TripDto;
+import com.fishinglog.fishingapp.domain.dto.persisted.UserDto;
+import com.fishinglog.fishingapp.domain.entities.CatchEntity;
+import com.fishinglog.fishingapp.domain.entities.TripEntity;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.mappers.impl.CatchMapperImpl;
+import com.fishinglog.fishingapp.mappers.impl.TripMapperImpl;
+import com.fishinglog.fishingapp.mappers.impl.UserMapperImpl;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-object cost of the hand-written mappers against the LOOSE ModelMapper
+ * configuration they replaced.
+ *
+ * Run with {@code mvn test-compile} followed by this class's main method on the test classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private CatchMapperImpl catchMapper;
+    private CatchEntity catchEntity;
+    private CatchDto catchDto;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.LOOSE);
+        catchMapper = new CatchMapperImpl(new TripMapperImpl(new UserMapperImpl()));
+
+        UserEntity userEntity = TestDataUtil.createTestUserEntityA();
+        userEntity.setId(1L);
+        TripEntity tripEntity = TestDataUtil.createTestTripEntityA(userEntity);
+        tripEntity.setTripId(2L);
+        catchEntity = TestDataUtil.createTestCatchEntityA(tripEntity);
+        catchEntity.setCatchId(3L);
+
+        UserDto userDto = TestDataUtil.createTestUserDtoA();
+        userDto.setId(1L);
+        TripDto tripDto = TestDataUtil.createTestTripDtoA(userDto);
+        tripDto.setTripId(2L);
+        catchDto = TestDataUtil.createTestCatchDtoA(tripDto);
+        catchDto.setCatchId(3L);
+    }
+
+    @Benchmark
+    public CatchDto modelMapperMapTo() {
+        CatchDto mapped = modelMapper.map(catchEntity, CatchDto.class);
+        mapped.getTrip().getUser().setPassword(null);
+        mapped.getTrip().getUser().setEmail(null);
+        return mapped;
+    }
+
+    @Benchmark
+    public CatchDto mapTo() {
+        return catchMapper.mapTo(catchEntity);
+    }
+
+    @Benchmark
+    public CatchEntity modelMapperMapFrom() {
+        return modelMapper.map(catchDto, CatchEntity.class);
+    }
+
+    @Benchmark
+    public CatchEntity mapFrom() {
+        return catchMapper.mapFrom(catchDto);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
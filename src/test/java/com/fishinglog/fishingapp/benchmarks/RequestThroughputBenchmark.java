@@ -0,0 +1,181 @@
+package com.fishinglog.fishingapp.benchmarks;
+
+import com.fishinglog.fishingapp.FishingAppApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares request throughput with {@code spring.threads.virtual.enabled} on and off while 1,000
+ * clients have a request in flight at once. {@code trips} is a database read; {@code weather} waits on a
+ * stub upstream that answers after 50 ms, which is where Tomcat's 200 platform threads run out.
+ *
+ * Each invocation sends one request per client and waits for all of them, so the score is requests
+ * per second.
+ *
+ * Run with {@code mvn test-compile} followed by this class's main method on the test classpath.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestThroughputBenchmark {
+
+    private static final int CLIENTS = 1000;
+
+    private static final long UPSTREAM_DELAY_MILLIS = 50;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param({"trips", "weather"})
+    private String endpoint;
+
+    private HttpServer upstream;
+    private ExecutorService upstreamExecutor;
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private ExecutorService clients;
+    private List<HttpRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), CLIENTS);
+        upstream.createContext("/v1/current.json", exchange -> respond(exchange,
+                "{\"current\":{\"temp_f\":71.5,\"wind_mph\":8.1,\"precip_in\":0.0,\"cloud\":25,\"condition\":{\"code\":1003}}}"));
+        upstream.createContext("/v1/marine.json", exchange -> respond(exchange,
+                "{\"forecast\":{\"forecastday\":[{\"hour\":[{\"water_temp_f\":64.2}]}]}}"));
+        upstreamExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        upstream.setExecutor(upstreamExecutor);
+        upstream.start();
+
+        // Command-line arguments take precedence over the placeholders in application.properties.
+        context = new SpringApplicationBuilder(FishingAppApplication.class).run(
+                "--server.port=0",
+                "--server.tomcat.accept-count=" + CLIENTS,
+                "--spring.docker.compose.enabled=false",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--api.key=benchmark",
+                "--jwt.key=dGhpcyBpcyBhIHRlc3Qga2V5IGZvciB0aGUgZmlzaGluZyBhcHAgMTIzNDU2Nzg=",
+                "--feedback.directory=target/benchmark-feedback",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--weather.enabled=true",
+                "--weather.api.base-url=http://127.0.0.1:" + upstream.getAddress().getPort() + "/v1",
+                // Every lookup goes upstream.
+                "--weather.cache.ttl=1ms",
+                "--http.client.max-connections=" + 2 * CLIENTS);
+        String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+        clients = Executors.newVirtualThreadPerTaskExecutor();
+
+        String credentials = "{\"username\":\"through1\",\"password\":\"password@1\",\"email\":\"through@email.com\"}";
+        send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(credentials)).build());
+        JsonNode login = new ObjectMapper().readTree(send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/authenticate"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(credentials)).build()).body());
+        String token = login.get("token").asText();
+        long userId = login.get("id").asLong();
+
+        requests = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            String path = endpoint.equals("trips")
+                    ? "/trips?userId=" + userId + "&date=" + LocalDate.now()
+                    : "/weather?userId=" + userId + "&latitude=" + (i % 90) + ".5&longitude=" + (i % 180) + ".5";
+            requests.add(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clients.shutdownNow();
+        context.close();
+        upstream.stop(0);
+        upstreamExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CLIENTS)
+    public int concurrentRequests() {
+        List<CompletableFuture<Integer>> responses = new ArrayList<>(CLIENTS);
+        for (HttpRequest request : requests) {
+            responses.add(CompletableFuture.supplyAsync(() -> send(request).statusCode(), clients));
+        }
+        int ok = 0;
+        for (CompletableFuture<Integer> response : responses) {
+            if (response.join() == 200) {
+                ok++;
+            }
+        }
+        if (ok != CLIENTS) {
+            throw new IllegalStateException((CLIENTS - ok) + " requests failed");
+        }
+        return ok;
+    }
+
+    private HttpResponse<String> send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        try {
+            Thread.sleep(UPSTREAM_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        // The JDK server drops idle keep-alive connections beyond a small limit; never offer them for reuse.
+        exchange.getResponseHeaders().add("Connection", "close");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RequestThroughputBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
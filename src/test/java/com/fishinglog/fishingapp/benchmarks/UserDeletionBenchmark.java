@@ -0,0 +1,115 @@
+package com.fishinglog.fishingapp.benchmarks;
+
+import com.fishinglog.fishingapp.FishingAppApplication;
+import com.fishinglog.fishingapp.TestDataUtil;
+import com.fishinglog.fishingapp.domain.entities.TripEntity;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.repositories.CatchRepository;
+import com.fishinglog.fishingapp.repositories.TripRepository;
+import com.fishinglog.fishingapp.repositories.UserRepository;
+import com.fishinglog.fishingapp.services.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes a user owning 10,000 trips, each with one catch, against the in-memory test database. The
+ * {@code legacy} benchmark reproduces the previous per-trip loop; {@code setBased} calls
+ * {@link UserService#delete}, which issues one statement per table.
+ *
+ * Run with {@code mvn test-compile} followed by this class's main method on the test classpath.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserDeletionBenchmark {
+
+    private static final long CATCH_ID_OFFSET = 1_000_000_000L;
+
+    @Param({"10000"})
+    private int tripCount;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private UserRepository userRepository;
+    private TripRepository tripRepository;
+    private CatchRepository catchRepository;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        // Command-line arguments take precedence over the placeholders in application.properties.
+        context = new SpringApplicationBuilder(FishingAppApplication.class).run(
+                "--server.port=0",
+                "--spring.docker.compose.enabled=false",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--api.key=benchmark",
+                "--jwt.key=dGhpcyBpcyBhIHRlc3Qga2V5IGZvciB0aGUgZmlzaGluZyBhcHAgMTIzNDU2Nzg=");
+        userService = context.getBean(UserService.class);
+        userRepository = context.getBean(UserRepository.class);
+        tripRepository = context.getBean(TripRepository.class);
+        catchRepository = context.getBean(CatchRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void seedUser() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        userId = userEntity.getId();
+
+        List<Object[]> trips = new ArrayList<>(tripCount);
+        for (int i = 0; i < tripCount; i++) {
+            trips.add(new Object[]{Date.valueOf(LocalDate.of(2023, 1, 1).plusDays(i % 365)), "Lake Fantasy", userId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO trips (date, body_of_water, user_id) VALUES (?, ?, ?)", trips);
+        jdbcTemplate.update("INSERT INTO catches (catch_id, species, trip_id) " +
+                "SELECT trip_id + ?, 'Largemouth Bass', trip_id FROM trips WHERE user_id = ?", CATCH_ID_OFFSET, userId);
+    }
+
+    @Benchmark
+    public void legacy() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (TripEntity trip : tripRepository.findByUserId(userId)) {
+                catchRepository.deleteByTripId(trip.getTripId());
+                tripRepository.deleteById(trip.getTripId());
+            }
+            userRepository.deleteById(userId);
+        });
+    }
+
+    @Benchmark
+    public void setBased() {
+        userService.delete(userId);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserDeletionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
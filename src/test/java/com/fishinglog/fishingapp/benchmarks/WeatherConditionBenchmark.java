@@ -0,0 +1,65 @@
+package com.fishinglog.fishingapp.benchmarks;
+
+import com.fishinglog.fishingapp.weather.LegacyWeatherConditions;
+import com.fishinglog.fishingapp.weather.WeatherConditionClassifier;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the table-driven {@link WeatherConditionClassifier} with the comparison chain it replaced,
+ * over a mix of known and unknown condition codes.
+ *
+ * Run with {@code mvn test-compile} followed by this class's main method on the test classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WeatherConditionBenchmark {
+
+    private static final int CODE_COUNT = 1024;
+
+    private WeatherConditionClassifier classifier;
+    private int[] codes;
+
+    @Setup
+    public void setUp() {
+        classifier = new WeatherConditionClassifier(new ClassPathResource("weather/condition-codes.properties"));
+        Random random = new Random(42);
+        codes = new int[CODE_COUNT];
+        for (int i = 0; i < CODE_COUNT; i++) {
+            codes[i] = 1000 + random.nextInt(300);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CODE_COUNT)
+    public void legacy(Blackhole blackhole) {
+        for (int code : codes) {
+            blackhole.consume(LegacyWeatherConditions.classify(code));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CODE_COUNT)
+    public void table(Blackhole blackhole) {
+        for (int code : codes) {
+            blackhole.consume(classifier.classify(code).getLabel());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(WeatherConditionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
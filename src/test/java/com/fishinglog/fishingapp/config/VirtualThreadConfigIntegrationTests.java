@@ -0,0 +1,49 @@
+package com.fishinglog.fishingapp.config;
+
+import org.apache.catalina.connector.Connector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true")
+@ExtendWith(SpringExtension.class)
+@DirtiesContext
+public class VirtualThreadConfigIntegrationTests {
+
+    private final ServletWebServerApplicationContext context;
+
+    private final AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    public VirtualThreadConfigIntegrationTests(ServletWebServerApplicationContext context,
+                                               @Qualifier("applicationTaskExecutor") AsyncTaskExecutor applicationTaskExecutor) {
+        this.context = context;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+    }
+
+    @Test
+    public void testThatTomcatRunsRequestsOnVirtualThreads() {
+        Connector connector = ((TomcatWebServer) context.getWebServer()).getTomcat().getConnector();
+        Executor executor = connector.getProtocolHandler().getExecutor();
+
+        assertThat(CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), executor).join()).isTrue();
+    }
+
+    @Test
+    public void testThatTheApplicationTaskExecutorUsesVirtualThreads() throws Exception {
+        assertThat(applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual()).get()).isTrue();
+    }
+}
@@ -0,0 +1,223 @@
+package com.fishinglog.fishingapp.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fishinglog.fishingapp.TestDataUtil;
+import com.fishinglog.fishingapp.auth.PasswordHashingExecutor;
+import com.fishinglog.fishingapp.domain.dto.auth.AuthenticationRequestDto;
+import com.fishinglog.fishingapp.domain.dto.auth.RegisterRequestDto;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.repositories.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "auth.bcrypt.strength=4",
+        "auth.password-hashing.threads=1",
+        "auth.password-hashing.queue-capacity=1"
+})
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class AuthenticationControllerIntegrationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PasswordHashingExecutor hashingExecutor;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    public void testThatAuthenticateReturnsATokenForValidCredentials() throws Exception {
+        UserEntity userEntity = saveUserWithPassword("password@1");
+
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.post("/auth/authenticate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new AuthenticationRequestDto(userEntity.getUsername(), "password@1")))
+        ).andExpect(
+                MockMvcResultMatchers.request().asyncStarted()
+        ).andReturn();
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.asyncDispatch(mvcResult)
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.id").value(userEntity.getId())
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.token").isNotEmpty()
+        );
+    }
+
+    @Test
+    public void testThatAuthenticateReturnsHttpStatus403ForBadCredentials() throws Exception {
+        UserEntity userEntity = saveUserWithPassword("password@1");
+
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.post("/auth/authenticate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new AuthenticationRequestDto(userEntity.getUsername(), "wrong@1")))
+        ).andExpect(
+                MockMvcResultMatchers.request().asyncStarted()
+        ).andReturn();
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.asyncDispatch(mvcResult)
+        ).andExpect(
+                MockMvcResultMatchers.status().isForbidden()
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.token").doesNotExist()
+        );
+    }
+
+    @Test
+    public void testThatAuthenticateReturnsHttpStatus403ForAnUnknownUsername() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.post("/auth/authenticate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new AuthenticationRequestDto("nobody", "password@1")))
+        ).andExpect(
+                MockMvcResultMatchers.request().asyncStarted()
+        ).andReturn();
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.asyncDispatch(mvcResult)
+        ).andExpect(
+                MockMvcResultMatchers.status().isForbidden()
+        );
+    }
+
+    @Test
+    public void testThatAuthenticateReturnsHttpStatus429WhenHashingIsSaturated() throws Exception {
+        UserEntity userEntity = saveUserWithPassword("password@1");
+        CountDownLatch release = saturateHashingPool();
+        try {
+            MvcResult mvcResult = mockMvc.perform(
+                    MockMvcRequestBuilders.post("/auth/authenticate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new AuthenticationRequestDto(userEntity.getUsername(), "password@1")))
+            ).andExpect(
+                    MockMvcResultMatchers.request().asyncStarted()
+            ).andReturn();
+
+            mockMvc.perform(
+                    MockMvcRequestBuilders.asyncDispatch(mvcResult)
+            ).andExpect(
+                    MockMvcResultMatchers.status().isTooManyRequests()
+            ).andExpect(
+                    MockMvcResultMatchers.header().string(HttpHeaders.RETRY_AFTER, "1")
+            );
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testThatRegisterReturnsHttpStatus429WhenHashingIsSaturated() throws Exception {
+        CountDownLatch release = saturateHashingPool();
+        try {
+            MvcResult mvcResult = mockMvc.perform(
+                    MockMvcRequestBuilders.post("/auth/register")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new RegisterRequestDto("jdoe2023", "password@1", "jdoe2023@email.com")))
+            ).andExpect(
+                    MockMvcResultMatchers.request().asyncStarted()
+            ).andReturn();
+
+            mockMvc.perform(
+                    MockMvcRequestBuilders.asyncDispatch(mvcResult)
+            ).andExpect(
+                    MockMvcResultMatchers.status().isTooManyRequests()
+            ).andExpect(
+                    MockMvcResultMatchers.header().string(HttpHeaders.RETRY_AFTER, "1")
+            );
+        } finally {
+            release.countDown();
+        }
+        assertThat(userRepository.count()).isZero();
+    }
+
+    @Test
+    public void testThatRegisterSavesTheUserAndReturnsAToken() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new RegisterRequestDto("jdoe2023", "password@1", "jdoe2023@email.com")))
+        ).andExpect(
+                MockMvcResultMatchers.request().asyncStarted()
+        ).andReturn();
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.asyncDispatch(mvcResult)
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.token").isNotEmpty()
+        );
+
+        UserEntity saved = userRepository.findByUsername("jdoe2023").orElseThrow();
+        assertThat(passwordEncoder.matches("password@1", saved.getPassword())).isTrue();
+    }
+
+    private UserEntity saveUserWithPassword(String password) {
+        UserEntity userEntity = TestDataUtil.createTestUserEntityA();
+        userEntity.setPassword(passwordEncoder.encode(password));
+        return userRepository.save(userEntity);
+    }
+
+    /**
+     * Occupies the single hashing thread and the single queue slot until the returned latch is released.
+     */
+    private CountDownLatch saturateHashingPool() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        hashingExecutor.submit(() -> {
+            running.countDown();
+            return await(release);
+        });
+        running.await();
+        hashingExecutor.submit(() -> await(release));
+        return release;
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -2,24 +2,36 @@ package com.fishinglog.fishingapp.controllers;
 
 import com.fishinglog.fishingapp.TestDataUtil;
 import com.fishinglog.fishingapp.domain.dto.persisted.CatchDto;
+import com.fishinglog.fishingapp.domain.dto.persisted.TripDto;
 import com.fishinglog.fishingapp.domain.entities.CatchEntity;
 import com.fishinglog.fishingapp.domain.entities.TripEntity;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.repositories.CatchRepository;
+import com.fishinglog.fishingapp.repositories.UserRepository;
 import com.fishinglog.fishingapp.services.CatchService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fishinglog.fishingapp.services.TripService;
+import com.fishinglog.fishingapp.services.auth.JwtService;
+import com.fishinglog.fishingapp.web.EntityTags;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 @ExtendWith(SpringExtension.class)
@@ -39,6 +51,15 @@ public class CatchControllerIntegrationTests {
     @Autowired
     private TripService tripService;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CatchRepository catchRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
     @Test
     public void testThatCreateCatchReturnsHttpStatus201Created() throws Exception {
         CatchDto testCatchA = TestDataUtil.createTestCatchDtoA(null);
@@ -345,4 +366,261 @@ public class CatchControllerIntegrationTests {
                         .contentType(MediaType.APPLICATION_JSON)
         ).andExpect(MockMvcResultMatchers.status().isNoContent());
     }
+
+    @Test
+    public void testThatCreateCatchesReturnsHttpStatus400WhenACatchIdIsGiven() throws Exception {
+        UserEntity owner = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity ownerTrip = tripService.save(TestDataUtil.createTestTripEntityA(owner));
+        CatchEntity ownerCatch = catchService.save(TestDataUtil.createTestCatchEntityA(ownerTrip));
+        UserEntity attacker = userRepository.save(TestDataUtil.createTestUserB());
+        TripEntity attackerTrip = tripService.save(TestDataUtil.createTestTripB(attacker));
+
+        TripDto attackerTripDto = TripDto.builder().tripId(attackerTrip.getTripId()).build();
+        CatchDto overwrite = TestDataUtil.createTestCatchDtoA(attackerTripDto);
+        overwrite.setCatchId(ownerCatch.getCatchId());
+        overwrite.setSpecies("Overwritten");
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.post("/catches/batch?userId=" + attacker.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearer(attacker))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(overwrite)))
+        ).andExpect(
+                MockMvcResultMatchers.status().isBadRequest()
+        );
+
+        CatchEntity stored = catchRepository.findById(ownerCatch.getCatchId()).orElseThrow();
+        assertThat(stored.getSpecies()).isEqualTo("Striped Bass");
+        assertThat(stored.getTrip().getTripId()).isEqualTo(ownerTrip.getTripId());
+        assertThat(stored.getVersion()).isEqualTo(ownerCatch.getVersion());
+    }
+
+    @Test
+    public void testThatUpdateCatchReturnsHttpStatus412WhenIfMatchIsStale() throws Exception {
+        UserEntity owner = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity trip = tripService.save(TestDataUtil.createTestTripEntityA(owner));
+        CatchEntity saved = catchService.save(TestDataUtil.createTestCatchEntityA(trip));
+        catchService.partialUpdate(saved.getCatchId(), CatchEntity.builder().species("Walleye").build(), null);
+
+        mockMvc.perform(
+                putCatch(owner, trip, saved.getCatchId())
+                        .header(HttpHeaders.IF_MATCH, EntityTags.of(saved.getVersion()))
+        ).andExpect(
+                MockMvcResultMatchers.status().isPreconditionFailed()
+        );
+
+        assertThat(catchRepository.findById(saved.getCatchId()).orElseThrow().getSpecies()).isEqualTo("Walleye");
+    }
+
+    @Test
+    public void testThatUpdateCatchReturnsHttpStatus412WhenIfMatchIsWeakOrMalformed() throws Exception {
+        UserEntity owner = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity trip = tripService.save(TestDataUtil.createTestTripEntityA(owner));
+        CatchEntity saved = catchService.save(TestDataUtil.createTestCatchEntityA(trip));
+
+        for (String ifMatch : new String[] {"W/" + EntityTags.of(saved.getVersion()), "abc", "\"\""}) {
+            mockMvc.perform(
+                    putCatch(owner, trip, saved.getCatchId())
+                            .header(HttpHeaders.IF_MATCH, ifMatch)
+            ).andExpect(
+                    MockMvcResultMatchers.status().isPreconditionFailed()
+            );
+        }
+
+        assertThat(catchRepository.findById(saved.getCatchId()).orElseThrow().getVersion()).isEqualTo(saved.getVersion());
+    }
+
+    @Test
+    public void testThatUpdateCatchReturnsTheNewETagWhenIfMatchMatches() throws Exception {
+        UserEntity owner = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity trip = tripService.save(TestDataUtil.createTestTripEntityA(owner));
+        CatchEntity saved = catchService.save(TestDataUtil.createTestCatchEntityA(trip));
+
+        mockMvc.perform(
+                putCatch(owner, trip, saved.getCatchId())
+                        .header(HttpHeaders.IF_MATCH, EntityTags.of(saved.getVersion()))
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andExpect(
+                MockMvcResultMatchers.header().string(HttpHeaders.ETAG, EntityTags.of(saved.getVersion() + 1))
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.species").value("Channel Catfish")
+        );
+    }
+
+    @Test
+    public void testThatUpdateCatchWithIfMatchAnyReplacesAStaleCatch() throws Exception {
+        UserEntity owner = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity trip = tripService.save(TestDataUtil.createTestTripEntityA(owner));
+        CatchEntity saved = catchService.save(TestDataUtil.createTestCatchEntityA(trip));
+        catchService.partialUpdate(saved.getCatchId(), CatchEntity.builder().species("Walleye").build(), null);
+
+        mockMvc.perform(
+                putCatch(owner, trip, saved.getCatchId())
+                        .header(HttpHeaders.IF_MATCH, "*")
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andExpect(
+                MockMvcResultMatchers.header().string(HttpHeaders.ETAG, EntityTags.of(saved.getVersion() + 2))
+        );
+
+        assertThat(catchRepository.findById(saved.getCatchId()).orElseThrow().getSpecies()).isEqualTo("Channel Catfish");
+    }
+
+    @Test
+    public void testThatGetCatchReturnsHttpStatus304WhenIfNoneMatchListsTheETag() throws Exception {
+        UserEntity owner = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity trip = tripService.save(TestDataUtil.createTestTripEntityA(owner));
+        CatchEntity saved = catchService.save(TestDataUtil.createTestCatchEntityA(trip));
+        String entityTag = EntityTags.of(saved.getVersion());
+
+        mockMvc.perform(
+                getCatch(owner, saved.getCatchId())
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andExpect(
+                MockMvcResultMatchers.header().string(HttpHeaders.ETAG, entityTag)
+        );
+
+        mockMvc.perform(
+                getCatch(owner, saved.getCatchId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"99\", " + entityTag)
+        ).andExpect(
+                MockMvcResultMatchers.status().isNotModified()
+        ).andExpect(
+                MockMvcResultMatchers.header().string(HttpHeaders.ETAG, entityTag)
+        ).andExpect(
+                MockMvcResultMatchers.content().string("")
+        );
+
+        mockMvc.perform(
+                getCatch(owner, saved.getCatchId())
+                        .header(HttpHeaders.IF_NONE_MATCH, EntityTags.of(saved.getVersion() + 1))
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        );
+    }
+
+    @Test
+    public void testThatListCatchesReturnsHttpStatus304UntilTheUsersDataChanges() throws Exception {
+        UserEntity owner = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity trip = tripService.save(TestDataUtil.createTestTripEntityA(owner));
+        CatchEntity saved = catchService.save(TestDataUtil.createTestCatchEntityA(trip));
+
+        String initial = listCatchesETag(owner, trip.getTripId(), null, 200);
+        assertThat(initial).startsWith("W/");
+        assertThat(listCatchesETag(owner, trip.getTripId(), initial, 304)).isEqualTo(initial);
+
+        catchService.save(TestDataUtil.createTestCatchB(trip));
+        String afterCatchSave = listCatchesETag(owner, trip.getTripId(), initial, 200);
+        assertThat(afterCatchSave).isNotEqualTo(initial);
+        assertThat(listCatchesETag(owner, trip.getTripId(), afterCatchSave, 304)).isEqualTo(afterCatchSave);
+
+        tripService.partialUpdate(trip.getTripId(), TripEntity.builder().bodyOfWater("Lake Erie").build(), null);
+        String afterTripSave = listCatchesETag(owner, trip.getTripId(), afterCatchSave, 200);
+        assertThat(afterTripSave).isNotEqualTo(afterCatchSave);
+
+        catchService.delete(saved.getCatchId());
+        assertThat(listCatchesETag(owner, trip.getTripId(), afterTripSave, 200)).isNotEqualTo(afterTripSave);
+    }
+
+    @Test
+    public void testThatListCatchesETagDoesNotMatchAnotherTrip() throws Exception {
+        UserEntity owner = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity trip = tripService.save(TestDataUtil.createTestTripEntityA(owner));
+        TripEntity otherTrip = tripService.save(TestDataUtil.createTestTripB(owner));
+
+        String entityTag = listCatchesETag(owner, trip.getTripId(), null, 200);
+
+        assertThat(listCatchesETag(owner, otherTrip.getTripId(), entityTag, 200)).isNotEqualTo(entityTag);
+    }
+
+    @Test
+    public void testThatListCatchesOmitsTheCatchesOfAnotherUsersTrip() throws Exception {
+        UserEntity owner = userRepository.save(TestDataUtil.createTestUserEntityA());
+        UserEntity otherUser = userRepository.save(TestDataUtil.createTestUserB());
+        TripEntity trip = tripService.save(TestDataUtil.createTestTripEntityA(owner));
+        catchService.save(TestDataUtil.createTestCatchEntityA(trip));
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/catches?userId=" + otherUser.getId() + "&tripId=" + trip.getTripId())
+                        .header(HttpHeaders.AUTHORIZATION, bearer(otherUser))
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$").isEmpty()
+        );
+    }
+
+    @Test
+    public void testThatStreamCatchesStreamsTheCatchesOfTheUsersTrip() throws Exception {
+        UserEntity owner = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity trip = tripService.save(TestDataUtil.createTestTripEntityA(owner));
+        catchService.save(TestDataUtil.createTestCatchEntityA(trip));
+        catchService.save(TestDataUtil.createTestCatchB(trip));
+
+        assertThat(streamCatches(owner, trip.getTripId()).lines()).hasSize(2);
+    }
+
+    @Test
+    public void testThatStreamCatchesOmitsTheCatchesOfAnotherUsersTrip() throws Exception {
+        UserEntity owner = userRepository.save(TestDataUtil.createTestUserEntityA());
+        UserEntity otherUser = userRepository.save(TestDataUtil.createTestUserB());
+        TripEntity trip = tripService.save(TestDataUtil.createTestTripEntityA(owner));
+        catchService.save(TestDataUtil.createTestCatchEntityA(trip));
+
+        assertThat(streamCatches(otherUser, trip.getTripId())).isEmpty();
+    }
+
+    /**
+     * Streams the catches of a trip as a user, expects 200 and returns the body.
+     */
+    private String streamCatches(UserEntity userEntity, Long tripId) throws Exception {
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.get("/catches/stream?userId=" + userEntity.getId() + "&tripId=" + tripId)
+                        .header(HttpHeaders.AUTHORIZATION, bearer(userEntity))
+        ).andExpect(
+                MockMvcResultMatchers.request().asyncStarted()
+        ).andReturn();
+
+        return mockMvc.perform(
+                MockMvcRequestBuilders.asyncDispatch(mvcResult)
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andReturn().getResponse().getContentAsString();
+    }
+
+    /**
+     * Lists the catches of a trip, expects the given status and returns the response's entity tag.
+     */
+    private String listCatchesETag(UserEntity owner, Long tripId, String ifNoneMatch, int expectedStatus) throws Exception {
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders.get("/catches?userId=" + owner.getId() + "&tripId=" + tripId)
+                .header(HttpHeaders.AUTHORIZATION, bearer(owner));
+        if(ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(
+                request
+        ).andExpect(
+                MockMvcResultMatchers.status().is(expectedStatus)
+        ).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private MockHttpServletRequestBuilder putCatch(UserEntity owner, TripEntity trip, Long catchId) throws Exception {
+        CatchDto catchDto = TestDataUtil.createTestCatchDtoA(TripDto.builder().tripId(trip.getTripId()).build());
+        catchDto.setSpecies("Channel Catfish");
+        return MockMvcRequestBuilders.put("/catches/" + catchId + "?userId=" + owner.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(catchDto));
+    }
+
+    private MockHttpServletRequestBuilder getCatch(UserEntity owner, Long catchId) {
+        return MockMvcRequestBuilders.get("/catches/" + catchId + "?userId=" + owner.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(owner));
+    }
+
+    private String bearer(UserEntity userEntity) {
+        return "Bearer " + jwtService.generateToken(userEntity);
+    }
 }
@@ -0,0 +1,103 @@
+package com.fishinglog.fishingapp.controllers;
+
+import com.fishinglog.fishingapp.TestDataUtil;
+import com.fishinglog.fishingapp.domain.Role;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.repositories.UserRepository;
+import com.fishinglog.fishingapp.services.FeedbackService;
+import com.fishinglog.fishingapp.services.auth.JwtService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class FeedbackControllerIntegrationTests {
+
+    @TempDir
+    static Path feedbackDirectory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @DynamicPropertySource
+    static void feedbackProperties(DynamicPropertyRegistry registry) {
+        registry.add("feedback.directory", () -> feedbackDirectory.toString());
+    }
+
+    @Test
+    public void testThatListFeedbackReturnsHttpStatus403ForUsers() throws Exception {
+        UserEntity user = userRepository.save(TestDataUtil.createTestUserEntityA());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/admin/feedback?from=2020-01-01T00:00:00Z")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(user))
+        ).andExpect(
+                MockMvcResultMatchers.status().isForbidden()
+        );
+    }
+
+    @Test
+    public void testThatListFeedbackReturnsAPageOfEntriesToAdmins() throws Exception {
+        UserEntity user = userRepository.save(TestDataUtil.createTestUserEntityA());
+        UserEntity admin = TestDataUtil.createTestUserB();
+        admin.setRole(Role.ADMIN);
+        userRepository.save(admin);
+        Instant from = Instant.now().minusSeconds(1);
+        feedbackService.collectFeedback(user.getId(), "first");
+        feedbackService.collectFeedback(user.getId(), "second");
+        feedbackService.collectFeedback(user.getId(), "third");
+        awaitStored(from, 3);
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/admin/feedback?from=" + from + "&limit=2")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(admin))
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.length()").value(2)
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$[0].userId").value(user.getId())
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$[0].feedback").value("first")
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$[1].feedback").value("second")
+        );
+    }
+
+    private void awaitStored(Instant from, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (feedbackService.findFeedback(from, Instant.now(), count).size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(feedbackService.findFeedback(from, Instant.now(), count)).hasSize(count);
+    }
+}
@@ -2,25 +2,36 @@ package com.fishinglog.fishingapp.controllers;
 
 import com.fishinglog.fishingapp.TestDataUtil;
 import com.fishinglog.fishingapp.domain.dto.persisted.TripDto;
+import com.fishinglog.fishingapp.domain.dto.persisted.UserDto;
+import com.fishinglog.fishingapp.domain.entities.CatchEntity;
 import com.fishinglog.fishingapp.domain.entities.TripEntity;
 import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.services.CatchService;
 import com.fishinglog.fishingapp.services.TripService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fishinglog.fishingapp.repositories.TripRepository;
+import com.fishinglog.fishingapp.repositories.UserRepository;
 import com.fishinglog.fishingapp.services.UserService;
+import com.fishinglog.fishingapp.services.auth.JwtService;
+import com.fishinglog.fishingapp.web.EntityTags;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.time.LocalDate;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest
 @ExtendWith(SpringExtension.class)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -39,6 +50,18 @@ public class TripControllerIntegrationTests {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private CatchService catchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
     @Test
     public void testThatCreateTripReturnsHttpStatus201Created() throws Exception {
         TripDto testTripA = TestDataUtil.createTestTripDtoA(null);
@@ -280,4 +303,176 @@ public class TripControllerIntegrationTests {
                         .contentType(MediaType.APPLICATION_JSON)
         ).andExpect(MockMvcResultMatchers.status().isNoContent());
     }
+
+    @Test
+    public void testThatUpdateTripReturnsHttpStatus412WhenIfMatchIsStale() throws Exception {
+        UserEntity owner = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity saved = tripService.save(TestDataUtil.createTestTripEntityA(owner));
+        tripService.partialUpdate(saved.getTripId(), TripEntity.builder().bodyOfWater("Lake Anywhere").build(), null);
+
+        mockMvc.perform(
+                putTrip(owner, saved.getTripId())
+                        .header(HttpHeaders.IF_MATCH, EntityTags.of(saved.getVersion()))
+        ).andExpect(
+                MockMvcResultMatchers.status().isPreconditionFailed()
+        );
+
+        assertThat(tripRepository.findById(saved.getTripId()).orElseThrow().getBodyOfWater()).isEqualTo("Lake Anywhere");
+    }
+
+    @Test
+    public void testThatUpdateTripReturnsHttpStatus412WhenIfMatchIsWeakOrMalformed() throws Exception {
+        UserEntity owner = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity saved = tripService.save(TestDataUtil.createTestTripEntityA(owner));
+
+        for (String ifMatch : new String[] {"W/" + EntityTags.of(saved.getVersion()), "abc", "\"\""}) {
+            mockMvc.perform(
+                    putTrip(owner, saved.getTripId())
+                            .header(HttpHeaders.IF_MATCH, ifMatch)
+            ).andExpect(
+                    MockMvcResultMatchers.status().isPreconditionFailed()
+            );
+        }
+
+        assertThat(tripRepository.findById(saved.getTripId()).orElseThrow().getVersion()).isEqualTo(saved.getVersion());
+    }
+
+    @Test
+    public void testThatUpdateTripReturnsTheNewETagWhenIfMatchMatches() throws Exception {
+        UserEntity owner = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity saved = tripService.save(TestDataUtil.createTestTripEntityA(owner));
+
+        mockMvc.perform(
+                putTrip(owner, saved.getTripId())
+                        .header(HttpHeaders.IF_MATCH, EntityTags.of(saved.getVersion()))
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andExpect(
+                MockMvcResultMatchers.header().string(HttpHeaders.ETAG, EntityTags.of(saved.getVersion() + 1))
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath("$.bodyOfWater").value("Lake Nowhere")
+        );
+    }
+
+    @Test
+    public void testThatUpdateTripWithIfMatchAnyReplacesAStaleTrip() throws Exception {
+        UserEntity owner = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity saved = tripService.save(TestDataUtil.createTestTripEntityA(owner));
+        tripService.partialUpdate(saved.getTripId(), TripEntity.builder().bodyOfWater("Lake Anywhere").build(), null);
+
+        mockMvc.perform(
+                putTrip(owner, saved.getTripId())
+                        .header(HttpHeaders.IF_MATCH, "*")
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andExpect(
+                MockMvcResultMatchers.header().string(HttpHeaders.ETAG, EntityTags.of(saved.getVersion() + 2))
+        );
+
+        assertThat(tripRepository.findById(saved.getTripId()).orElseThrow().getBodyOfWater()).isEqualTo("Lake Nowhere");
+    }
+
+    @Test
+    public void testThatGetTripReturnsHttpStatus304WhenIfNoneMatchListsTheETag() throws Exception {
+        UserEntity owner = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity saved = tripService.save(TestDataUtil.createTestTripEntityA(owner));
+        String entityTag = EntityTags.of(saved.getVersion());
+
+        mockMvc.perform(
+                getTrip(owner, saved.getTripId())
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        ).andExpect(
+                MockMvcResultMatchers.header().string(HttpHeaders.ETAG, entityTag)
+        );
+
+        mockMvc.perform(
+                getTrip(owner, saved.getTripId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"99\", " + entityTag)
+        ).andExpect(
+                MockMvcResultMatchers.status().isNotModified()
+        ).andExpect(
+                MockMvcResultMatchers.header().string(HttpHeaders.ETAG, entityTag)
+        ).andExpect(
+                MockMvcResultMatchers.content().string("")
+        );
+
+        mockMvc.perform(
+                getTrip(owner, saved.getTripId())
+                        .header(HttpHeaders.IF_NONE_MATCH, EntityTags.of(saved.getVersion() + 1))
+        ).andExpect(
+                MockMvcResultMatchers.status().isOk()
+        );
+    }
+
+    @Test
+    public void testThatListTripsReturnsHttpStatus304UntilTheUsersDataChanges() throws Exception {
+        UserEntity owner = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity trip = tripService.save(TestDataUtil.createTestTripEntityA(owner));
+        LocalDate date = trip.getDate();
+
+        String initial = listTripsETag(owner, date, null, 200);
+        assertThat(initial).startsWith("W/");
+        assertThat(listTripsETag(owner, date, initial, 304)).isEqualTo(initial);
+
+        tripService.save(TestDataUtil.createTestTripB(owner));
+        String afterTripSave = listTripsETag(owner, date, initial, 200);
+        assertThat(afterTripSave).isNotEqualTo(initial);
+        assertThat(listTripsETag(owner, date, afterTripSave, 304)).isEqualTo(afterTripSave);
+
+        CatchEntity savedCatch = catchService.save(TestDataUtil.createTestCatchEntityA(trip));
+        String afterCatchSave = listTripsETag(owner, date, afterTripSave, 200);
+        assertThat(afterCatchSave).isNotEqualTo(afterTripSave);
+
+        catchService.delete(savedCatch.getCatchId());
+        String afterCatchDelete = listTripsETag(owner, date, afterCatchSave, 200);
+        assertThat(afterCatchDelete).isNotEqualTo(afterCatchSave);
+
+        tripService.delete(trip.getTripId());
+        assertThat(listTripsETag(owner, date, afterCatchDelete, 200)).isNotEqualTo(afterCatchDelete);
+    }
+
+    @Test
+    public void testThatListTripsETagDoesNotMatchAnotherDate() throws Exception {
+        UserEntity owner = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity trip = tripService.save(TestDataUtil.createTestTripEntityA(owner));
+
+        String entityTag = listTripsETag(owner, trip.getDate(), null, 200);
+
+        assertThat(listTripsETag(owner, trip.getDate().plusDays(1), entityTag, 200)).isNotEqualTo(entityTag);
+    }
+
+    /**
+     * Lists the user's trips on a date, expects the given status and returns the response's entity tag.
+     */
+    private String listTripsETag(UserEntity owner, LocalDate date, String ifNoneMatch, int expectedStatus) throws Exception {
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders.get("/trips?userId=" + owner.getId() + "&date=" + date)
+                .header(HttpHeaders.AUTHORIZATION, bearer(owner));
+        if(ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(
+                request
+        ).andExpect(
+                MockMvcResultMatchers.status().is(expectedStatus)
+        ).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private MockHttpServletRequestBuilder putTrip(UserEntity owner, Long tripId) throws Exception {
+        TripDto tripDto = TestDataUtil.createTestTripDtoA(UserDto.builder().id(owner.getId()).build());
+        tripDto.setBodyOfWater("Lake Nowhere");
+        return MockMvcRequestBuilders.put("/trips/" + tripId + "?userId=" + owner.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(tripDto));
+    }
+
+    private MockHttpServletRequestBuilder getTrip(UserEntity owner, Long tripId) {
+        return MockMvcRequestBuilders.get("/trips/" + tripId + "?userId=" + owner.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(owner));
+    }
+
+    private String bearer(UserEntity userEntity) {
+        return "Bearer " + jwtService.generateToken(userEntity);
+    }
 }
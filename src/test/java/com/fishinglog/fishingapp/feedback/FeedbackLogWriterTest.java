@@ -0,0 +1,143 @@
+package com.fishinglog.fishingapp.feedback;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FeedbackLogWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testThatConcurrentEntriesAreWrittenAsWholeRecords() throws Exception {
+        FeedbackSegmentLog segmentLog = createSegmentLog();
+        FeedbackLogWriter underTest = new FeedbackLogWriter(segmentLog, 100_000, 64, Duration.ofMillis(50));
+        underTest.start();
+
+        int threads = 8;
+        int entriesPerThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < entriesPerThread; i++) {
+                        assertThat(underTest.offer(thread, "thread " + thread + " entry " + i + " " + "x".repeat(i % 50))).isTrue();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        underTest.stop();
+
+        List<FeedbackRecord> records = segmentLog.read(0, Long.MAX_VALUE, Integer.MAX_VALUE);
+        assertThat(records).hasSize(threads * entriesPerThread);
+        assertThat(records).allMatch(record -> record.feedback().matches("thread " + record.userId() + " entry \\d+ x*"));
+        segmentLog.close();
+    }
+
+    @Test
+    public void testThatOffersAreRejectedWhenTheQueueIsFull() throws Exception {
+        FeedbackSegmentLog segmentLog = createSegmentLog();
+        FeedbackLogWriter underTest = new FeedbackLogWriter(segmentLog, 2, 64, Duration.ofMillis(50));
+
+        // Nothing drains the queue before the writer is started.
+        assertThat(underTest.offer(1L, "first")).isTrue();
+        assertThat(underTest.offer(1L, "second")).isTrue();
+        assertThat(underTest.offer(1L, "third")).isFalse();
+
+        underTest.start();
+        underTest.stop();
+
+        assertThat(segmentLog.read(0, Long.MAX_VALUE, 10))
+                .extracting(FeedbackRecord::feedback)
+                .containsExactly("first", "second");
+        segmentLog.close();
+    }
+
+    @Test
+    public void testThatOffersAreRejectedOnceStopped() throws Exception {
+        FeedbackSegmentLog segmentLog = createSegmentLog();
+        FeedbackLogWriter underTest = new FeedbackLogWriter(segmentLog, 10, 64, Duration.ofMillis(50));
+        underTest.start();
+        assertThat(underTest.offer(1L, "before stop")).isTrue();
+
+        underTest.stop();
+
+        assertThat(underTest.offer(1L, "after stop")).isFalse();
+        assertThat(segmentLog.read(0, Long.MAX_VALUE, 10))
+                .extracting(FeedbackRecord::feedback)
+                .containsExactly("before stop");
+        segmentLog.close();
+    }
+
+    @Test
+    public void testThatWritingResumesAfterATransientFailureWithoutTornRecords() throws Exception {
+        AtomicInteger failures = new AtomicInteger(1);
+        FeedbackSegmentLog segmentLog = new FeedbackSegmentLog(tempDir, DataSize.ofMegabytes(1), Duration.ofDays(1),
+                DataSize.ofKilobytes(4), Clock.systemUTC()) {
+            @Override
+            public void flush() throws IOException {
+                Path activeLog = activeLogPath();
+                if (activeLog != null && failures.getAndDecrement() > 0) {
+                    // Simulates a write that stopped halfway through a record.
+                    Files.write(activeLog, new byte[] {0, 0, 0, 42, 1, 2, 3}, StandardOpenOption.APPEND);
+                    throw new IOException("disk full");
+                }
+                super.flush();
+            }
+        };
+        FeedbackLogWriter underTest = new FeedbackLogWriter(segmentLog, 10, 64, Duration.ofMillis(50));
+        assertThat(underTest.offer(1L, "first")).isTrue();
+        assertThat(underTest.offer(2L, "second")).isTrue();
+
+        underTest.start();
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (segmentLog.read(0, Long.MAX_VALUE, 10).size() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(underTest.offer(3L, "third")).isTrue();
+        underTest.stop();
+
+        assertThat(segmentLog.read(0, Long.MAX_VALUE, 10))
+                .extracting(FeedbackRecord::feedback)
+                .containsExactly("first", "second", "third");
+        segmentLog.close();
+        FeedbackSegmentLog reopened = createSegmentLog();
+        assertThat(reopened.read(0, Long.MAX_VALUE, 10)).hasSize(3);
+        reopened.close();
+    }
+
+    private Path activeLogPath() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.filter(path -> path.toString().endsWith(".log")).sorted().reduce((first, second) -> second)
+                    .orElse(null);
+        }
+    }
+
+    private FeedbackSegmentLog createSegmentLog() throws Exception {
+        return new FeedbackSegmentLog(tempDir, DataSize.ofMegabytes(1), Duration.ofDays(1), DataSize.ofKilobytes(4));
+    }
+}
@@ -0,0 +1,144 @@
+package com.fishinglog.fishingapp.feedback;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FeedbackSegmentLogTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    @Test
+    public void testThatSegmentsRollBySizeAndRangeReadsSpanThem() throws Exception {
+        FeedbackSegmentLog underTest = createLog(DataSize.ofKilobytes(4), Duration.ofDays(1), DataSize.ofBytes(256));
+
+        for (int i = 0; i < 1_000; i++) {
+            now.incrementAndGet();
+            underTest.append(i % 7, "entry " + i);
+        }
+        underTest.flush();
+
+        assertThat(underTest.segmentCount()).isGreaterThan(5);
+
+        List<FeedbackRecord> records = underTest.read(1_000_101L, 1_000_600L, Integer.MAX_VALUE);
+        assertThat(records).hasSize(500);
+        assertThat(records.get(0)).isEqualTo(new FeedbackRecord(1_000_101L, 100 % 7, "entry 100"));
+        assertThat(records.get(499).feedback()).isEqualTo("entry 599");
+
+        assertThat(underTest.read(1_000_101L, 1_000_600L, 3))
+                .extracting(FeedbackRecord::feedback)
+                .containsExactly("entry 100", "entry 101", "entry 102");
+        underTest.close();
+    }
+
+    @Test
+    public void testThatSegmentsRollByAge() throws Exception {
+        FeedbackSegmentLog underTest = createLog(DataSize.ofMegabytes(1), Duration.ofMinutes(1), DataSize.ofKilobytes(4));
+
+        underTest.append(1L, "first");
+        now.addAndGet(Duration.ofMinutes(2).toMillis());
+        underTest.append(1L, "second");
+        underTest.flush();
+
+        assertThat(underTest.segmentCount()).isEqualTo(2);
+        assertThat(underTest.read(now.get(), now.get(), 10))
+                .extracting(FeedbackRecord::feedback)
+                .containsExactly("second");
+        underTest.close();
+    }
+
+    @Test
+    public void testThatUnflushedRecordsAreNotVisible() throws Exception {
+        FeedbackSegmentLog underTest = createLog(DataSize.ofMegabytes(1), Duration.ofDays(1), DataSize.ofKilobytes(4));
+
+        underTest.append(1L, "pending");
+        assertThat(underTest.read(0, Long.MAX_VALUE, 10)).isEmpty();
+
+        underTest.flush();
+        assertThat(underTest.read(0, Long.MAX_VALUE, 10)).hasSize(1);
+        underTest.close();
+    }
+
+    @Test
+    public void testThatATornTailIsTruncatedOnRecovery() throws Exception {
+        FeedbackSegmentLog first = createLog(DataSize.ofMegabytes(1), Duration.ofDays(1), DataSize.ofBytes(64));
+        for (int i = 0; i < 20; i++) {
+            now.incrementAndGet();
+            first.append(1L, "entry " + i);
+        }
+        first.close();
+
+        Path logFile;
+        try (Stream<Path> files = Files.list(tempDir)) {
+            logFile = files.filter(path -> path.toString().endsWith(".log")).findFirst().orElseThrow();
+        }
+        long intactSize = Files.size(logFile);
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+            // Keep only part of the last record, as if the process died mid-write.
+            channel.truncate(intactSize - 3);
+        }
+
+        FeedbackSegmentLog recovered = createLog(DataSize.ofMegabytes(1), Duration.ofDays(1), DataSize.ofBytes(64));
+        now.incrementAndGet();
+        recovered.append(2L, "after restart");
+        recovered.flush();
+
+        List<FeedbackRecord> records = recovered.read(0, Long.MAX_VALUE, Integer.MAX_VALUE);
+        assertThat(records).hasSize(20);
+        assertThat(records.get(18).feedback()).isEqualTo("entry 18");
+        assertThat(records.get(19)).isEqualTo(new FeedbackRecord(now.get(), 2L, "after restart"));
+        recovered.close();
+    }
+
+    @Test
+    public void testThatTimestampsNeverDecrease() throws Exception {
+        FeedbackSegmentLog underTest = createLog(DataSize.ofMegabytes(1), Duration.ofDays(1), DataSize.ofKilobytes(4));
+
+        underTest.append(1L, "first");
+        now.addAndGet(-500);
+        underTest.append(1L, "second");
+        underTest.flush();
+
+        List<FeedbackRecord> records = underTest.read(0, Long.MAX_VALUE, 10);
+        assertThat(records.get(1).timestamp()).isEqualTo(records.get(0).timestamp());
+        underTest.close();
+    }
+
+    private FeedbackSegmentLog createLog(DataSize maxSegmentSize, Duration maxSegmentAge, DataSize indexInterval)
+            throws Exception {
+        Clock clock = new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(java.time.ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(now.get());
+            }
+        };
+        return new FeedbackSegmentLog(tempDir, maxSegmentSize, maxSegmentAge, indexInterval, clock);
+    }
+}
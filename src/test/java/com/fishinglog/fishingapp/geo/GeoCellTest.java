@@ -0,0 +1,52 @@
+package com.fishinglog.fishingapp.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class GeoCellTest {
+
+    @Test
+    public void testThatCoveringRangesContainEveryPointInTheBox() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            double latitude = random.nextDouble() * 160 - 80;
+            double longitude = random.nextDouble() * 360 - 180;
+            double radiusKm = 0.1 + random.nextDouble() * 200;
+
+            for (GeoBoundingBox box : GeoBoundingBox.around(latitude, longitude, radiusKm).splitAtAntimeridian()) {
+                List<long[]> ranges = GeoCell.coveringRanges(box);
+                assertThat(ranges).hasSizeLessThanOrEqualTo(GeoCell.MAX_COVERING_CELLS);
+
+                for (int j = 0; j < 50; j++) {
+                    double pointLatitude = box.minLatitude() + random.nextDouble() * (box.maxLatitude() - box.minLatitude());
+                    double pointLongitude = box.minLongitude() + random.nextDouble() * (box.maxLongitude() - box.minLongitude());
+                    long cell = GeoCell.encode(pointLatitude, pointLongitude);
+                    assertThat(ranges).anySatisfy(range -> assertThat(cell).isBetween(range[0], range[1] - 1));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testThatBoundingBoxContainsTheCircle() {
+        GeoBoundingBox box = GeoBoundingBox.around(60, 10, 50);
+
+        assertThat(GeoBoundingBox.distanceKm(60, 10, box.maxLatitude(), 10)).isCloseTo(50, within(1e-6));
+        assertThat(GeoBoundingBox.distanceKm(60, 10, 60, box.maxLongitude())).isGreaterThanOrEqualTo(50);
+        assertThat(GeoBoundingBox.around(89.9, 0, 50).minLongitude()).isEqualTo(-180);
+    }
+
+    @Test
+    public void testThatBoxesAcrossTheAntimeridianAreSplit() {
+        List<GeoBoundingBox> parts = GeoBoundingBox.around(0, 179.99, 10).splitAtAntimeridian();
+
+        assertThat(parts).hasSize(2);
+        assertThat(parts.get(0).maxLongitude()).isEqualTo(180);
+        assertThat(parts.get(1).minLongitude()).isEqualTo(-180);
+    }
+}
@@ -0,0 +1,83 @@
+package com.fishinglog.fishingapp.geo;
+
+import com.fishinglog.fishingapp.domain.dto.stats.CountDto;
+import com.fishinglog.fishingapp.domain.dto.stats.HotspotDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class HotspotIndexTest {
+
+    @Test
+    public void testThatTouchingDenseCellsFormOneHotspot() {
+        HotspotIndex underTest = new HotspotIndex(0.25, 3, 10);
+        // Two dense clusters about 300 m apart in adjacent cells, and one far-away catch.
+        for (int i = 0; i < 3; i++) {
+            underTest.append(i, 34.0601, -81.2101, "Striped Bass", "Blue Herring");
+            underTest.append(10 + i, 34.0601, -81.2068, "Channel Catfish", "Blue Herring");
+        }
+        underTest.append(99, 35.0, -80.0, "Walleye", "Jig");
+
+        List<HotspotDto> result = underTest.hotspots();
+
+        assertThat(result).hasSize(1);
+        HotspotDto hotspot = result.get(0);
+        assertThat(hotspot.getCatchCount()).isEqualTo(6);
+        assertThat(hotspot.getLatitude()).isCloseTo(34.0601, within(1e-9));
+        assertThat(hotspot.getRadiusKm()).isBetween(0.1, 0.2);
+        assertThat(hotspot.getBySpecies()).containsExactly(
+                new CountDto("Channel Catfish", 3), new CountDto("Striped Bass", 3));
+        assertThat(hotspot.getByLureOrBait()).containsExactly(new CountDto("Blue Herring", 6));
+    }
+
+    @Test
+    public void testThatSparseCellsJoinAnAdjacentHotspot() {
+        HotspotIndex underTest = new HotspotIndex(0.25, 3, 10);
+        for (int i = 0; i < 3; i++) {
+            underTest.append(i, 34.0601, -81.2101, "Striped Bass", "Blue Herring");
+        }
+        assertThat(underTest.hotspots()).singleElement().extracting(HotspotDto::getCatchCount).isEqualTo(3L);
+
+        underTest.append(3, 34.0624, -81.2101, "Striped Bass", "Blue Herring");
+
+        assertThat(underTest.hotspots()).singleElement().extracting(HotspotDto::getCatchCount).isEqualTo(4L);
+    }
+
+    @Test
+    public void testThatIncrementalAdditionsMatchABulkBuild() {
+        HotspotIndex incremental = new HotspotIndex(0.5, 4, 50);
+        HotspotIndex bulk = new HotspotIndex(0.5, 4, 50);
+        Random random = new Random(7);
+        for (int i = 0; i < 5_000; i++) {
+            double latitude = 34 + random.nextGaussian() * 0.05 + (i % 5) * 0.2;
+            double longitude = -81 + random.nextGaussian() * 0.05;
+            bulk.append(i, latitude, longitude, "s" + (i % 7), "l" + (i % 3));
+            incremental.addIfAbsent(i, latitude, longitude, "s" + (i % 7), "l" + (i % 3));
+            if (i % 1_000 == 0) {
+                incremental.hotspots();
+            }
+        }
+
+        assertThat(incremental.addIfAbsent(0, 0, 0, "s0", "l0")).isFalse();
+        assertThat(incremental.hotspots()).isEqualTo(bulk.hotspots());
+    }
+
+    @Test
+    public void testThatAddIfAbsentRecognisesAppendedCatches() {
+        HotspotIndex underTest = new HotspotIndex(0.5, 4, 50);
+        for (int i = 0; i < 200; i++) {
+            underTest.append(1_000L * i, 34 + i * 0.001, -81, "Striped Bass", "Blue Herring");
+        }
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(underTest.addIfAbsent(1_000L * i, 0, 0, "Walleye", "Jig")).isFalse();
+        }
+        assertThat(underTest.addIfAbsent(1L, 34, -81, "Walleye", "Jig")).isTrue();
+        assertThat(underTest.addIfAbsent(1L, 34, -81, "Walleye", "Jig")).isFalse();
+        assertThat(underTest.size()).isEqualTo(201);
+    }
+}
@@ -0,0 +1,137 @@
+package com.fishinglog.fishingapp.mappers;
+
+import com.fishinglog.fishingapp.TestDataUtil;
+import com.fishinglog.fishingapp.domain.dto.persisted.CatchDto;
+import com.fishinglog.fishingapp.domain.dto.persisted.TripDto;
+import com.fishinglog.fishingapp.domain.dto.persisted.UserDto;
+import com.fishinglog.fishingapp.domain.entities.CatchEntity;
+import com.fishinglog.fishingapp.domain.entities.TripEntity;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.mappers.impl.CatchMapperImpl;
+import com.fishinglog.fishingapp.mappers.impl.TripMapperImpl;
+import com.fishinglog.fishingapp.mappers.impl.UserMapperImpl;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the hand-written mappers produce the same objects as the ModelMapper-based mappers they replaced.
+ */
+public class MapperImplTest {
+
+    private static ModelMapper modelMapper;
+    private static UserMapperImpl userMapper;
+    private static TripMapperImpl tripMapper;
+    private static CatchMapperImpl catchMapper;
+
+    @BeforeAll
+    static void setUpMappers() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.LOOSE);
+        userMapper = new UserMapperImpl();
+        tripMapper = new TripMapperImpl(userMapper);
+        catchMapper = new CatchMapperImpl(tripMapper);
+    }
+
+    @Test
+    void userMapToMatchesModelMapper() {
+        UserEntity savedUser = TestDataUtil.createTestUserEntityA();
+        savedUser.setId(1L);
+        UserEntity unsavedUser = TestDataUtil.createTestUserB();
+
+        assertThat(userMapper.mapTo(savedUser)).isEqualTo(legacyUserMapTo(savedUser));
+        assertThat(userMapper.mapTo(unsavedUser)).isEqualTo(legacyUserMapTo(unsavedUser));
+        assertThat(userMapper.mapTo(savedUser).getPassword()).isNull();
+        assertThat(userMapper.mapTo(savedUser).getEmail()).isNull();
+    }
+
+    @Test
+    void userMapFromMatchesModelMapper() {
+        UserDto userDto = TestDataUtil.createTestUserDtoA();
+        userDto.setId(1L);
+
+        assertThat(userMapper.mapFrom(userDto)).isEqualTo(modelMapper.map(userDto, UserEntity.class));
+    }
+
+    @Test
+    void tripMapToMatchesModelMapper() {
+        TripEntity tripEntity = TestDataUtil.createTestTripEntityA(savedUser());
+        tripEntity.setTripId(2L);
+        TripEntity tripWithoutUser = TestDataUtil.createTestTripB(null);
+
+        assertThat(tripMapper.mapTo(tripEntity)).isEqualTo(legacyTripMapTo(tripEntity));
+        assertThat(tripMapper.mapTo(tripWithoutUser)).isEqualTo(legacyTripMapTo(tripWithoutUser));
+    }
+
+    @Test
+    void tripMapFromMatchesModelMapper() {
+        UserDto userDto = TestDataUtil.createTestUserDtoA();
+        userDto.setId(1L);
+        TripDto tripDto = TestDataUtil.createTestTripDtoA(userDto);
+        tripDto.setTripId(2L);
+
+        assertThat(tripMapper.mapFrom(tripDto)).isEqualTo(modelMapper.map(tripDto, TripEntity.class));
+    }
+
+    @Test
+    void catchMapToMatchesModelMapper() {
+        TripEntity tripEntity = TestDataUtil.createTestTripEntityA(savedUser());
+        tripEntity.setTripId(2L);
+        CatchEntity catchEntity = TestDataUtil.createTestCatchEntityA(tripEntity);
+        catchEntity.setCatchId(3L);
+
+        CatchDto catchDto = catchMapper.mapTo(catchEntity);
+
+        assertThat(catchDto).isEqualTo(legacyCatchMapTo(catchEntity));
+        assertThat(catchDto.getTrip().getUser().getPassword()).isNull();
+        assertThat(catchDto.getTrip().getUser().getEmail()).isNull();
+    }
+
+    @Test
+    void catchMapFromMatchesModelMapper() {
+        UserDto userDto = TestDataUtil.createTestUserDtoA();
+        userDto.setId(1L);
+        TripDto tripDto = TestDataUtil.createTestTripDtoA(userDto);
+        tripDto.setTripId(2L);
+        CatchDto catchDto = TestDataUtil.createTestCatchDtoA(tripDto);
+        catchDto.setCatchId(3L);
+
+        assertThat(catchMapper.mapFrom(catchDto)).isEqualTo(modelMapper.map(catchDto, CatchEntity.class));
+    }
+
+    private static UserEntity savedUser() {
+        UserEntity userEntity = TestDataUtil.createTestUserEntityA();
+        userEntity.setId(1L);
+        return userEntity;
+    }
+
+    private static UserDto legacyUserMapTo(UserEntity userEntity) {
+        UserDto protectedUserDto = modelMapper.map(userEntity, UserDto.class);
+        if (userEntity.getId() != null) {
+            protectedUserDto.setPassword(null);
+            protectedUserDto.setEmail(null);
+        }
+        return protectedUserDto;
+    }
+
+    private static TripDto legacyTripMapTo(TripEntity tripEntity) {
+        TripDto tripDto = modelMapper.map(tripEntity, TripDto.class);
+        if (tripEntity.getUser() != null) {
+            tripDto.getUser().setPassword(null);
+            tripDto.getUser().setEmail(null);
+        }
+        return tripDto;
+    }
+
+    private static CatchDto legacyCatchMapTo(CatchEntity catchEntity) {
+        CatchDto catchDto = modelMapper.map(catchEntity, CatchDto.class);
+        if (catchEntity.getTrip().getUser() != null) {
+            catchDto.getTrip().getUser().setPassword(null);
+            catchDto.getTrip().getUser().setEmail(null);
+        }
+        return catchDto;
+    }
+}
@@ -4,7 +4,13 @@ import com.fishinglog.fishingapp.TestDataUtil;
 import com.fishinglog.fishingapp.domain.entities.CatchEntity;
 import com.fishinglog.fishingapp.domain.entities.TripEntity;
 import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.domain.projections.CatchView;
+import com.fishinglog.fishingapp.geo.GeoBoundingBox;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +19,8 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,6 +38,9 @@ public class CatchEntityRepositoryIntegrationTests {
 
     @Autowired UserRepository userRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Test
     @Transactional
     public void testThatCatchCanBeCreatedAndRecalled() {
@@ -113,4 +124,92 @@ public class CatchEntityRepositoryIntegrationTests {
         Optional<CatchEntity> result = underTest.findById(catchEntityA.getCatchId());
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @Transactional
+    public void testThatCatchViewsForTripAreLoadedInOneStatement() {
+        UserEntity userEntity = TestDataUtil.createTestUserEntityA();
+        userRepository.save(userEntity);
+
+        TripEntity tripEntity = TestDataUtil.createTestTripEntityA(userEntity);
+        tripRepository.save(tripEntity);
+
+        underTest.save(TestDataUtil.createTestCatchEntityA(tripEntity));
+        underTest.save(TestDataUtil.createTestCatchB(tripEntity));
+        underTest.save(TestDataUtil.createTestCatchC(tripEntity));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<CatchView> result = underTest.findViewsByUserIdAndTripId(userEntity.getId(), tripEntity.getTripId());
+
+        assertThat(result).hasSize(3);
+        assertThat(result).allSatisfy(view -> {
+            assertThat(view.tripId()).isEqualTo(tripEntity.getTripId());
+            assertThat(view.userId()).isEqualTo(userEntity.getId());
+            assertThat(view.username()).isEqualTo(userEntity.getUsername());
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @Transactional
+    public void testThatCatchViewsInBoundingBoxAreFoundThroughGeoCells() {
+        UserEntity userEntity = TestDataUtil.createTestUserEntityA();
+        userRepository.save(userEntity);
+        TripEntity tripEntity = TestDataUtil.createTestTripEntityA(userEntity);
+        tripRepository.save(tripEntity);
+
+        CatchEntity inside = TestDataUtil.createTestCatchEntityA(tripEntity);
+        underTest.save(inside);
+        CatchEntity outside = TestDataUtil.createTestCatchEntityA(tripEntity);
+        outside.setLatitude(34.5);
+        underTest.save(outside);
+        CatchEntity acrossAntimeridian = TestDataUtil.createTestCatchEntityA(tripEntity);
+        acrossAntimeridian.setLatitude(34.06);
+        acrossAntimeridian.setLongitude(179.99);
+        underTest.save(acrossAntimeridian);
+        entityManager.flush();
+
+        assertThat(inside.getGeoCell()).isNotNull();
+        assertThat(underTest.findViewsInBoundingBox(userEntity.getId(), GeoBoundingBox.around(34.06, -81.21, 5)))
+                .extracting(CatchView::catchId)
+                .containsExactly(inside.getCatchId());
+        assertThat(underTest.findViewsInBoundingBox(userEntity.getId(), GeoBoundingBox.around(34.06, -179.99, 5)))
+                .extracting(CatchView::catchId)
+                .containsExactly(acrossAntimeridian.getCatchId());
+        assertThat(underTest.findViewsInBoundingBox(userEntity.getId() + 1, GeoBoundingBox.around(34.06, -81.21, 5)))
+                .isEmpty();
+    }
+
+    @Test
+    @Transactional
+    public void testThatCatchesAreInsertedInJdbcBatches() {
+        UserEntity userEntity = TestDataUtil.createTestUserEntityA();
+        userRepository.save(userEntity);
+
+        TripEntity tripEntity = TestDataUtil.createTestTripEntityA(userEntity);
+        tripRepository.save(tripEntity);
+        entityManager.flush();
+
+        List<CatchEntity> catches = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            catches.add(TestDataUtil.createTestCatchEntityA(tripEntity));
+        }
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        underTest.saveAll(catches);
+        entityManager.flush();
+
+        assertThat(catches).extracting(CatchEntity::getCatchId).doesNotContainNull().doesNotHaveDuplicates();
+        // Three sequence calls for 120 IDs in blocks of 50, and three insert batches of at most 50 rows.
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+    }
 }
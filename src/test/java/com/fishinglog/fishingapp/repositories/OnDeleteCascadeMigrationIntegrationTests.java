@@ -0,0 +1,76 @@
+package com.fishinglog.fishingapp.repositories;
+
+import com.fishinglog.fishingapp.TestDataUtil;
+import com.fishinglog.fishingapp.domain.entities.TripEntity;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.flyway.locations=" + OnDeleteCascadeMigrationIntegrationTests.LOCATIONS + "," +
+        OnDeleteCascadeMigrationIntegrationTests.OPTIONAL_LOCATION)
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class OnDeleteCascadeMigrationIntegrationTests {
+
+    static final String LOCATIONS = "classpath:db/migration,classpath:com/fishinglog/fishingapp/db/migration";
+
+    static final String OPTIONAL_LOCATION = "classpath:com/fishinglog/fishingapp/db/optional";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private CatchRepository catchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testThatDeletingAUserRowCascadesToTripsAndCatches() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity tripEntity = tripRepository.save(TestDataUtil.createTestTripEntityA(userEntity));
+        catchRepository.save(TestDataUtil.createTestCatchEntityA(tripEntity));
+
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userEntity.getId());
+
+        assertThat(tripRepository.count()).isZero();
+        assertThat(catchRepository.count()).isZero();
+    }
+
+    @Test
+    public void testThatTheMigrationCanBeEnabledOnAnAlreadyMigratedDatabase() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:cascade-upgrade;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        JdbcTemplate upgraded = new JdbcTemplate(dataSource);
+        flyway(dataSource, LOCATIONS).migrate();
+        upgraded.update("INSERT INTO users (id, username, version) VALUES (1, 'jdoe2023', 0)");
+        upgraded.update("INSERT INTO trips (trip_id, date, user_id, version) VALUES (1, DATE '2023-01-01', 1, 0)");
+
+        String withOptional = LOCATIONS + "," + OPTIONAL_LOCATION;
+        assertThat(flyway(dataSource, withOptional).migrate().migrationsExecuted).isEqualTo(1);
+        assertThat(flyway(dataSource, withOptional).migrate().migrationsExecuted).isZero();
+
+        upgraded.update("DELETE FROM users WHERE id = 1");
+        assertThat(upgraded.queryForObject("SELECT COUNT(*) FROM trips", Long.class)).isZero();
+    }
+
+    private static Flyway flyway(JdbcDataSource dataSource, String locations) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations(locations.split(","))
+                .load();
+    }
+}
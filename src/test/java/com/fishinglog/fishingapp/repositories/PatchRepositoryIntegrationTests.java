@@ -0,0 +1,98 @@
+package com.fishinglog.fishingapp.repositories;
+
+import com.fishinglog.fishingapp.TestDataUtil;
+import com.fishinglog.fishingapp.domain.entities.CatchEntity;
+import com.fishinglog.fishingapp.domain.entities.TripEntity;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.geo.GeoCell;
+import com.fishinglog.fishingapp.services.CatchService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class PatchRepositoryIntegrationTests {
+
+    @Autowired
+    private PatchRepository underTest;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TripRepository tripRepository;
+    @Autowired
+    private CatchRepository catchRepository;
+    @Autowired
+    private CatchService catchService;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @Transactional
+    public void testThatPatchSetsOnlyGivenColumnsAndIncrementsVersion() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity tripEntity = tripRepository.save(TestDataUtil.createTestTripEntityA(userEntity));
+        entityManager.flush();
+
+        int updated = underTest.update(EntityPatch.of(TripEntity.class, "tripId", tripEntity.getTripId())
+                .set("date", LocalDate.of(2024, 6, 1))
+                .set("bodyOfWater", null)
+                .expectVersion(0L));
+        entityManager.clear();
+
+        TripEntity result = tripRepository.findById(tripEntity.getTripId()).orElseThrow();
+        assertThat(updated).isEqualTo(1);
+        assertThat(result.getDate()).isEqualTo(LocalDate.of(2024, 6, 1));
+        assertThat(result.getBodyOfWater()).isEqualTo(tripEntity.getBodyOfWater());
+        assertThat(result.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @Transactional
+    public void testThatPatchWithStaleVersionUpdatesNothing() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        entityManager.flush();
+        underTest.update(EntityPatch.of(UserEntity.class, "id", userEntity.getId()).set("email", "first@example.com"));
+
+        int updated = underTest.update(EntityPatch.of(UserEntity.class, "id", userEntity.getId())
+                .set("email", "second@example.com")
+                .expectVersion(0L));
+        entityManager.clear();
+
+        UserEntity result = userRepository.findById(userEntity.getId()).orElseThrow();
+        assertThat(updated).isZero();
+        assertThat(result.getEmail()).isEqualTo("first@example.com");
+        assertThat(result.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatCatchPartialUpdateMovesGeoCellAndRejectsStaleVersions() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity tripEntity = tripRepository.save(TestDataUtil.createTestTripEntityA(userEntity));
+        CatchEntity saved = catchService.save(TestDataUtil.createTestCatchEntityA(tripEntity));
+
+        catchService.partialUpdate(saved.getCatchId(),
+                CatchEntity.builder().latitude(45.5).longitude(-93.25).build(), saved.getVersion());
+
+        CatchEntity result = catchRepository.findById(saved.getCatchId()).orElseThrow();
+        assertThat(result.getGeoCell()).isEqualTo(GeoCell.encode(45.5, -93.25));
+        assertThat(result.getSpecies()).isEqualTo(saved.getSpecies());
+        assertThat(result.getVersion()).isEqualTo(saved.getVersion() + 1);
+        assertThatThrownBy(() -> catchService.partialUpdate(saved.getCatchId(),
+                CatchEntity.builder().species("Walleye").build(), saved.getVersion()))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+}
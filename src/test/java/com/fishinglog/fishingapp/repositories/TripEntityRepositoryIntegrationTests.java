@@ -1,18 +1,28 @@
 package com.fishinglog.fishingapp.repositories;
 
 import com.fishinglog.fishingapp.TestDataUtil;
+import com.fishinglog.fishingapp.domain.dto.paging.TripHistoryCursor;
 import com.fishinglog.fishingapp.domain.entities.TripEntity;
 import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.domain.projections.TripView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -25,6 +35,8 @@ public class TripEntityRepositoryIntegrationTests {
     private TripRepository underTest;
     @Autowired
     private UserRepository userRepository;
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Test
     @Transactional
@@ -91,4 +103,74 @@ public class TripEntityRepositoryIntegrationTests {
         Optional<TripEntity> result = underTest.findById(tripEntityA.getTripId());
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @Transactional
+    public void testThatTripViewsInDateRangeAreLoadedInOneStatement() {
+        UserEntity userEntity = TestDataUtil.createTestUserEntityA();
+        userRepository.save(userEntity);
+        underTest.save(TestDataUtil.createTestTripEntityA(userEntity));
+        underTest.save(TestDataUtil.createTestTripB(userEntity));
+        underTest.save(TestDataUtil.createTestTripC(userEntity));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<TripView> result = underTest.findViewsByUserIdAndDateBetween(
+                userEntity.getId(), LocalDate.of(2023, 1, 1), LocalDate.of(2023, 6, 30));
+
+        assertThat(result).extracting(TripView::bodyOfWater)
+                .containsExactlyInAnyOrder("Lake Fantasy", "Lake Nowhere");
+        assertThat(result).allSatisfy(view -> assertThat(view.username()).isEqualTo(userEntity.getUsername()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @Transactional
+    public void testThatTripViewsAreStreamedNewestFirst() {
+        UserEntity userEntity = TestDataUtil.createTestUserEntityA();
+        userRepository.save(userEntity);
+        underTest.save(TestDataUtil.createTestTripEntityA(userEntity));
+        underTest.save(TestDataUtil.createTestTripB(userEntity));
+        underTest.save(TestDataUtil.createTestTripC(userEntity));
+
+        try (Stream<TripView> result = underTest.streamViewsByUserId(userEntity.getId())) {
+            assertThat(result.map(TripView::date)).containsExactly(
+                    LocalDate.of(2023, 2, 2), LocalDate.of(2023, 1, 1), LocalDate.of(2020, 10, 10));
+        }
+    }
+
+    @Test
+    @Transactional
+    public void testThatTripHistoryPagesByKeysetWithoutGapsOrDuplicates() {
+        UserEntity userEntity = TestDataUtil.createTestUserEntityA();
+        userRepository.save(userEntity);
+        List<TripEntity> trips = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            TripEntity tripEntity = TestDataUtil.createTestTripEntityA(userEntity);
+            tripEntity.setDate(LocalDate.of(2023, 1, 1 + i / 3));
+            trips.add(underTest.save(tripEntity));
+        }
+
+        List<Long> pagedIds = new ArrayList<>();
+        List<TripView> page = underTest.findHistoryByUserId(userEntity.getId(), PageRequest.of(0, 3));
+        while (!page.isEmpty()) {
+            page.forEach(view -> pagedIds.add(view.tripId()));
+            TripView last = page.get(page.size() - 1);
+            TripHistoryCursor cursor = TripHistoryCursor.decode(new TripHistoryCursor(last.date(), last.tripId()).encode());
+            page = underTest.findHistoryByUserIdAfter(userEntity.getId(), cursor.date(), cursor.tripId(), PageRequest.of(0, 3));
+        }
+
+        List<Long> expectedIds = trips.stream()
+                .sorted((a, b) -> a.getDate().equals(b.getDate())
+                        ? b.getTripId().compareTo(a.getTripId())
+                        : b.getDate().compareTo(a.getDate()))
+                .map(TripEntity::getTripId)
+                .toList();
+        assertThat(pagedIds).containsExactlyElementsOf(expectedIds);
+    }
 }
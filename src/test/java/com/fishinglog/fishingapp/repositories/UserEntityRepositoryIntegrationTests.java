@@ -1,17 +1,21 @@
 package com.fishinglog.fishingapp.repositories;
 
 import com.fishinglog.fishingapp.TestDataUtil;
+import com.fishinglog.fishingapp.domain.entities.TripEntity;
 import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @ExtendWith(SpringExtension.class)
@@ -20,9 +24,16 @@ public class UserEntityRepositoryIntegrationTests {
 
     private UserRepository underTest;
 
+    private TripRepository tripRepository;
+
+    private CatchRepository catchRepository;
+
     @Autowired
-    public UserEntityRepositoryIntegrationTests(UserRepository underTest) {
+    public UserEntityRepositoryIntegrationTests(UserRepository underTest, TripRepository tripRepository,
+                                                CatchRepository catchRepository) {
         this.underTest = underTest;
+        this.tripRepository = tripRepository;
+        this.catchRepository = catchRepository;
     }
 
     @Test
@@ -59,4 +70,36 @@ public class UserEntityRepositoryIntegrationTests {
         assertThat(result).isPresent();
         assertThat(result.get()).isEqualTo(userEntityA);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testThatUsernamesMustBeUnique() {
+        underTest.save(TestDataUtil.createTestUserEntityA());
+        UserEntity duplicate = TestDataUtil.createTestUserEntityA();
+        assertThatThrownBy(() -> underTest.save(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @Transactional
+    public void testThatUserAndOwnedRowsCanBeDeletedWithSetBasedStatements() {
+        UserEntity userEntityA = TestDataUtil.createTestUserEntityA();
+        underTest.save(userEntityA);
+        UserEntity userEntityB = TestDataUtil.createTestUserB();
+        underTest.save(userEntityB);
+
+        TripEntity tripA1 = tripRepository.save(TestDataUtil.createTestTripEntityA(userEntityA));
+        TripEntity tripA2 = tripRepository.save(TestDataUtil.createTestTripB(userEntityA));
+        TripEntity tripB = tripRepository.save(TestDataUtil.createTestTripC(userEntityB));
+        catchRepository.save(TestDataUtil.createTestCatchEntityA(tripA1));
+        catchRepository.save(TestDataUtil.createTestCatchB(tripA2));
+        catchRepository.save(TestDataUtil.createTestCatchC(tripB));
+
+        catchRepository.deleteByUserId(userEntityA.getId());
+        tripRepository.deleteByUserId(userEntityA.getId());
+        underTest.deleteUserById(userEntityA.getId());
+
+        assertThat(underTest.findAll()).extracting(UserEntity::getId).containsExactly(userEntityB.getId());
+        assertThat(tripRepository.findAll()).extracting(TripEntity::getTripId).containsExactly(tripB.getTripId());
+        assertThat(catchRepository.findAll()).hasSize(1);
+    }
+}
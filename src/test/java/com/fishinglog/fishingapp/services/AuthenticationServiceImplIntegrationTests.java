@@ -0,0 +1,66 @@
+package com.fishinglog.fishingapp.services;
+
+import com.fishinglog.fishingapp.TestDataUtil;
+import com.fishinglog.fishingapp.domain.dto.auth.AuthenticationRequestDto;
+import com.fishinglog.fishingapp.domain.dto.auth.AuthenticationResponseDto;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.repositories.UserRepository;
+import com.fishinglog.fishingapp.services.auth.AuthenticationService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "auth.bcrypt.strength=5")
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class AuthenticationServiceImplIntegrationTests {
+
+    private final AuthenticationService underTest;
+
+    private final UserRepository userRepository;
+
+    @Autowired
+    public AuthenticationServiceImplIntegrationTests(AuthenticationService underTest, UserRepository userRepository) {
+        this.underTest = underTest;
+        this.userRepository = userRepository;
+    }
+
+    @Test
+    public void testThatLoginRehashesPasswordsStoredWithALowerCost() {
+        UserEntity userEntity = TestDataUtil.createTestUserEntityA();
+        userEntity.setPassword(new BCryptPasswordEncoder(4).encode("password@1"));
+        userRepository.save(userEntity);
+
+        AuthenticationResponseDto response = underTest.authenticate(
+                new AuthenticationRequestDto(userEntity.getUsername(), "password@1")).join();
+
+        assertThat(response.getId()).isEqualTo(userEntity.getId());
+        UserEntity stored = userRepository.findById(userEntity.getId()).orElseThrow();
+        String storedPassword = stored.getPassword();
+        assertThat(storedPassword).startsWith("$2a$05$");
+        assertThat(stored.getVersion()).isEqualTo(userEntity.getVersion() + 1);
+        assertThat(new BCryptPasswordEncoder(5).matches("password@1", storedPassword)).isTrue();
+    }
+
+    @Test
+    public void testThatWrongPasswordsCompleteExceptionally() {
+        UserEntity userEntity = TestDataUtil.createTestUserEntityA();
+        userEntity.setPassword(new BCryptPasswordEncoder(5).encode("password@1"));
+        userRepository.save(userEntity);
+
+        assertThatThrownBy(() -> underTest.authenticate(
+                new AuthenticationRequestDto(userEntity.getUsername(), "wrong")).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(BadCredentialsException.class);
+    }
+}
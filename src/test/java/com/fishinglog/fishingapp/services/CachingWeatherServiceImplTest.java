@@ -0,0 +1,97 @@
+package com.fishinglog.fishingapp.services;
+
+import com.fishinglog.fishingapp.domain.dto.weather.WeatherDto;
+import com.fishinglog.fishingapp.services.impl.CachingWeatherServiceImpl;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+public class CachingWeatherServiceImplTest {
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private final WeatherService upstream = (latitude, longitude) -> {
+        upstreamCalls.incrementAndGet();
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new WeatherDto("clear", latitude, longitude, 5);
+    };
+
+    private final CachingWeatherServiceImpl underTest =
+            new CachingWeatherServiceImpl(upstream, 0.05, Duration.ofMinutes(10), 1000);
+
+    @Test
+    public void testThatLocationsInTheSameCellShareOneLookup() {
+        WeatherDto first = underTest.getCurrentWeather(44.9712, -93.2611);
+        WeatherDto second = underTest.getCurrentWeather(44.9899, -93.2501);
+
+        assertThat(second).isSameAs(first);
+        assertThat(upstreamCalls).hasValue(1);
+        // The lookup is made for the center of the cell, not for the first caller's location.
+        assertThat(first.getAirTemperature()).isCloseTo(44.975, offset(1e-9));
+        assertThat(first.getWaterTemperature()).isCloseTo(-93.275, offset(1e-9));
+    }
+
+    @Test
+    public void testThatLocationsInDifferentCellsAreLookedUpSeparately() {
+        underTest.getCurrentWeather(44.97, -93.26);
+        underTest.getCurrentWeather(45.97, -93.26);
+        underTest.getCurrentWeather(-44.97, 93.26);
+
+        assertThat(upstreamCalls).hasValue(3);
+    }
+
+    @Test
+    public void testThatConcurrentMissesForOneCellAreCoalesced() throws Exception {
+        int callers = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<WeatherDto>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                double offset = i * 0.0001;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return underTest.getCurrentWeather(44.971 + offset, -93.261 - offset);
+                }));
+            }
+            start.countDown();
+            for (Future<WeatherDto> result : results) {
+                assertThat(result.get()).isNotNull();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    public void testThatFailedLookupsAreNotCached() {
+        AtomicInteger attempts = new AtomicInteger();
+        CachingWeatherServiceImpl failingOnce = new CachingWeatherServiceImpl((latitude, longitude) -> {
+            if (attempts.getAndIncrement() == 0) {
+                throw new IllegalStateException("upstream unavailable");
+            }
+            return new WeatherDto("clear", 70, 60, 5);
+        }, 0.05, Duration.ofMinutes(10), 1000);
+
+        assertThatThrownBy(() -> failingOnce.getCurrentWeather(44.97, -93.26))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(failingOnce.getCurrentWeather(44.97, -93.26)).isNotNull();
+    }
+}
@@ -0,0 +1,75 @@
+package com.fishinglog.fishingapp.services;
+
+import com.fishinglog.fishingapp.TestDataUtil;
+import com.fishinglog.fishingapp.domain.entities.CatchEntity;
+import com.fishinglog.fishingapp.domain.entities.TripEntity;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.repositories.TripRepository;
+import com.fishinglog.fishingapp.repositories.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ChangeVersionServiceImplIntegrationTests {
+
+    private final ChangeVersionService underTest;
+
+    private final CatchService catchService;
+
+    private final TripService tripService;
+
+    private final UserRepository userRepository;
+
+    private final TripRepository tripRepository;
+
+    @Autowired
+    public ChangeVersionServiceImplIntegrationTests(ChangeVersionService underTest, CatchService catchService,
+                                                    TripService tripService, UserRepository userRepository,
+                                                    TripRepository tripRepository) {
+        this.underTest = underTest;
+        this.catchService = catchService;
+        this.tripService = tripService;
+        this.userRepository = userRepository;
+        this.tripRepository = tripRepository;
+    }
+
+    @Test
+    public void testThatVersionIsStableUntilTheUsersCatchesChange() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        UserEntity otherUserEntity = userRepository.save(TestDataUtil.createTestUserB());
+        TripEntity tripEntity = tripRepository.save(TestDataUtil.createTestTripEntityA(userEntity));
+        long initial = underTest.getVersion(userEntity.getId());
+        long otherInitial = underTest.getVersion(otherUserEntity.getId());
+        assertThat(underTest.getVersion(userEntity.getId())).isEqualTo(initial);
+
+        CatchEntity saved = catchService.save(TestDataUtil.createTestCatchEntityA(tripEntity));
+        long afterSave = underTest.getVersion(userEntity.getId());
+        catchService.partialUpdate(saved.getCatchId(), CatchEntity.builder().time(LocalTime.of(6, 15)).build(), null);
+        long afterPatch = underTest.getVersion(userEntity.getId());
+
+        assertThat(afterSave).isNotEqualTo(initial);
+        assertThat(afterPatch).isNotEqualTo(afterSave);
+        assertThat(underTest.getVersion(otherUserEntity.getId())).isEqualTo(otherInitial);
+    }
+
+    @Test
+    public void testThatDeletingATripChangesItsOwnersVersion() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity tripEntity = tripService.save(TestDataUtil.createTestTripEntityA(userEntity));
+        long initial = underTest.getVersion(userEntity.getId());
+
+        tripService.delete(tripEntity.getTripId());
+
+        assertThat(underTest.getVersion(userEntity.getId())).isNotEqualTo(initial);
+    }
+}
@@ -0,0 +1,88 @@
+package com.fishinglog.fishingapp.services;
+
+import com.fishinglog.fishingapp.TestDataUtil;
+import com.fishinglog.fishingapp.domain.dto.stats.CountDto;
+import com.fishinglog.fishingapp.domain.dto.stats.HotspotDto;
+import com.fishinglog.fishingapp.domain.entities.CatchEntity;
+import com.fishinglog.fishingapp.domain.entities.TripEntity;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.repositories.CatchRepository;
+import com.fishinglog.fishingapp.repositories.TripRepository;
+import com.fishinglog.fishingapp.repositories.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "hotspots.min-catches=2")
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class HotspotServiceImplIntegrationTests {
+
+    private final HotspotService underTest;
+
+    private final CatchService catchService;
+
+    private final UserRepository userRepository;
+
+    private final TripRepository tripRepository;
+
+    private final CatchRepository catchRepository;
+
+    @Autowired
+    public HotspotServiceImplIntegrationTests(HotspotService underTest, CatchService catchService,
+                                              UserRepository userRepository, TripRepository tripRepository,
+                                              CatchRepository catchRepository) {
+        this.underTest = underTest;
+        this.catchService = catchService;
+        this.userRepository = userRepository;
+        this.tripRepository = tripRepository;
+        this.catchRepository = catchRepository;
+    }
+
+    @Test
+    public void testThatSavedCatchesAreAddedToTheCachedHotspots() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity tripEntity = tripRepository.save(TestDataUtil.createTestTripEntityA(userEntity));
+        catchService.save(TestDataUtil.createTestCatchEntityA(tripEntity));
+        assertThat(underTest.getHotspots(userEntity.getId())).isEmpty();
+
+        catchService.save(TestDataUtil.createTestCatchEntityA(tripEntity));
+        List<HotspotDto> result = underTest.getHotspots(userEntity.getId());
+
+        assertThat(result).singleElement().satisfies(hotspot -> {
+            assertThat(hotspot.getCatchCount()).isEqualTo(2);
+            assertThat(hotspot.getLatitude()).isEqualTo(34.06);
+        });
+    }
+
+    @Test
+    public void testThatOtherCatchWritesRebuildTheHotspots() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity tripEntity = tripRepository.save(TestDataUtil.createTestTripEntityA(userEntity));
+        catchService.save(TestDataUtil.createTestCatchEntityA(tripEntity));
+        CatchEntity saved = catchService.save(TestDataUtil.createTestCatchEntityA(tripEntity));
+        assertThat(underTest.getHotspots(userEntity.getId())).hasSize(1);
+
+        // Repository writes bypass the service, so the cached hotspots are still served.
+        catchRepository.save(TestDataUtil.createTestCatchEntityA(tripEntity));
+        assertThat(underTest.getHotspots(userEntity.getId())).singleElement()
+                .extracting(HotspotDto::getCatchCount).isEqualTo(2L);
+
+        catchService.partialUpdate(saved.getCatchId(), CatchEntity.builder().species("Walleye").build(), null);
+        assertThat(underTest.getHotspots(userEntity.getId())).singleElement().satisfies(hotspot -> {
+            assertThat(hotspot.getCatchCount()).isEqualTo(3);
+            assertThat(hotspot.getBySpecies()).contains(new CountDto("Walleye", 1));
+        });
+
+        catchService.delete(saved.getCatchId());
+        assertThat(underTest.getHotspots(userEntity.getId())).singleElement()
+                .extracting(HotspotDto::getCatchCount).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,114 @@
+package com.fishinglog.fishingapp.services;
+
+import com.fishinglog.fishingapp.TestDataUtil;
+import com.fishinglog.fishingapp.domain.dto.stats.CountDto;
+import com.fishinglog.fishingapp.domain.dto.stats.StatsSummaryDto;
+import com.fishinglog.fishingapp.domain.entities.CatchEntity;
+import com.fishinglog.fishingapp.domain.entities.TripEntity;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.repositories.TripRepository;
+import com.fishinglog.fishingapp.repositories.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class StatsServiceImplIntegrationTests {
+
+    private final StatsService underTest;
+
+    private final CatchService catchService;
+
+    private final TripService tripService;
+
+    private final UserRepository userRepository;
+
+    private final TripRepository tripRepository;
+
+    @Autowired
+    public StatsServiceImplIntegrationTests(StatsService underTest, CatchService catchService, TripService tripService,
+                                            UserRepository userRepository, TripRepository tripRepository) {
+        this.underTest = underTest;
+        this.catchService = catchService;
+        this.tripService = tripService;
+        this.userRepository = userRepository;
+        this.tripRepository = tripRepository;
+    }
+
+    @Test
+    public void testThatSummaryCountsCatchesPerGroup() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity tripA = tripRepository.save(TestDataUtil.createTestTripEntityA(userEntity));
+        TripEntity tripB = tripRepository.save(TestDataUtil.createTestTripB(userEntity));
+        catchService.save(TestDataUtil.createTestCatchEntityA(tripA));
+        catchService.save(TestDataUtil.createTestCatchEntityA(tripA));
+        catchService.save(TestDataUtil.createTestCatchB(tripB));
+
+        UserEntity otherUser = userRepository.save(TestDataUtil.createTestUserB());
+        TripEntity otherTrip = tripRepository.save(TestDataUtil.createTestTripC(otherUser));
+        catchService.save(TestDataUtil.createTestCatchC(otherTrip));
+
+        StatsSummaryDto result = underTest.getSummary(userEntity.getId());
+
+        assertThat(result.getTripCount()).isEqualTo(2);
+        assertThat(result.getCatchCount()).isEqualTo(3);
+        assertThat(result.getBySpecies()).containsExactly(
+                new CountDto("Striped Bass", 2), new CountDto("Channel Catfish", 1));
+        assertThat(result.getByLureOrBait()).containsExactly(new CountDto("Blue Herring", 3));
+        assertThat(result.getByWeatherCondition()).containsExactly(
+                new CountDto("cloudy", 2), new CountDto("sunny", 1));
+        assertThat(result.getByBodyOfWater()).containsExactly(
+                new CountDto("Lake Fantasy", 2), new CountDto("Lake Nowhere", 1));
+        assertThat(result.getAverageAirTemperature()).isCloseTo(236 / 3.0, within(1e-9));
+        assertThat(result.getAverageWaterTemperature()).isCloseTo(220 / 3.0, within(1e-9));
+        assertThat(result.getAverageWindSpeed()).isCloseTo(8.0, within(1e-9));
+    }
+
+    @Test
+    public void testThatSummaryOfUserWithoutCatchesIsEmpty() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+
+        StatsSummaryDto result = underTest.getSummary(userEntity.getId());
+
+        assertThat(result.getCatchCount()).isZero();
+        assertThat(result.getBySpecies()).isEmpty();
+        assertThat(result.getAverageAirTemperature()).isNull();
+    }
+
+    @Test
+    public void testThatCatchWritesEvictTheCachedSummary() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity tripEntity = tripRepository.save(TestDataUtil.createTestTripEntityA(userEntity));
+        catchService.save(TestDataUtil.createTestCatchEntityA(tripEntity));
+        assertThat(underTest.getSummary(userEntity.getId()).getCatchCount()).isEqualTo(1);
+
+        CatchEntity saved = catchService.save(TestDataUtil.createTestCatchB(tripEntity));
+        assertThat(underTest.getSummary(userEntity.getId()).getCatchCount()).isEqualTo(2);
+
+        catchService.delete(saved.getCatchId());
+        assertThat(underTest.getSummary(userEntity.getId()).getCatchCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatTripDeletionEvictsTheCachedSummary() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity tripEntity = tripRepository.save(TestDataUtil.createTestTripEntityA(userEntity));
+        catchService.save(TestDataUtil.createTestCatchEntityA(tripEntity));
+        assertThat(underTest.getSummary(userEntity.getId()).getTripCount()).isEqualTo(1);
+
+        tripService.delete(tripEntity.getTripId());
+
+        StatsSummaryDto result = underTest.getSummary(userEntity.getId());
+        assertThat(result.getTripCount()).isZero();
+        assertThat(result.getCatchCount()).isZero();
+        assertThat(result.getBySpecies()).isEmpty();
+    }
+}
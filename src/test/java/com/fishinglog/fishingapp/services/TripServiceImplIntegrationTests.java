@@ -0,0 +1,81 @@
+package com.fishinglog.fishingapp.services;
+
+import com.fishinglog.fishingapp.TestDataUtil;
+import com.fishinglog.fishingapp.domain.entities.TripEntity;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.repositories.TripRepository;
+import com.fishinglog.fishingapp.repositories.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class TripServiceImplIntegrationTests {
+
+    private final TripService underTest;
+
+    private final UserRepository userRepository;
+
+    private final TripRepository tripRepository;
+
+    private final Statistics statistics;
+
+    @Autowired
+    public TripServiceImplIntegrationTests(TripService underTest, UserRepository userRepository,
+                                           TripRepository tripRepository, EntityManagerFactory entityManagerFactory) {
+        this.underTest = underTest;
+        this.userRepository = userRepository;
+        this.tripRepository = tripRepository;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void testThatUpdateIncrementsTheVersionAndRejectsStaleVersions() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity saved = underTest.save(TestDataUtil.createTestTripEntityA(userEntity));
+
+        TripEntity updated = underTest.update(saved.getTripId(), TestDataUtil.createTestTripB(userEntity),
+                saved.getVersion()).orElseThrow();
+
+        assertThat(updated.getVersion()).isEqualTo(saved.getVersion() + 1);
+        assertThat(tripRepository.findById(saved.getTripId()).orElseThrow().getBodyOfWater()).isEqualTo("Lake Nowhere");
+        assertThatThrownBy(() -> underTest.update(saved.getTripId(), TestDataUtil.createTestTripC(userEntity),
+                saved.getVersion()))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    public void testThatUpdateOfMissingTripFindsNothing() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+
+        assertThat(underTest.update(999L, TestDataUtil.createTestTripEntityA(userEntity), null)).isEmpty();
+        assertThat(tripRepository.count()).isZero();
+    }
+
+    @Test
+    public void testThatADatePatchIsTheUpdateAndOneOwnerLookup() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity saved = underTest.save(TestDataUtil.createTestTripEntityA(userEntity));
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        underTest.partialUpdate(saved.getTripId(), TripEntity.builder().date(LocalDate.of(2023, 2, 1)).build(), null);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(tripRepository.findById(saved.getTripId()).orElseThrow().getDate()).isEqualTo(LocalDate.of(2023, 2, 1));
+    }
+}
@@ -0,0 +1,101 @@
+package com.fishinglog.fishingapp.services;
+
+import com.fishinglog.fishingapp.config.HttpClientConfig;
+import com.fishinglog.fishingapp.domain.dto.weather.WeatherDto;
+import com.fishinglog.fishingapp.services.impl.WeatherServiceImpl;
+import com.fishinglog.fishingapp.weather.WeatherConditionClassifier;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WeatherServiceImplTest {
+
+    private static final long UPSTREAM_DELAY_MILLIS = 500;
+
+    private static final String CURRENT_JSON =
+            "{\"current\":{\"temp_f\":71.5,\"wind_mph\":8.1,\"precip_in\":0.0,\"cloud\":25,\"condition\":{\"code\":1003}}}";
+
+    private static final String MARINE_JSON =
+            "{\"forecast\":{\"forecastday\":[{\"hour\":[{\"water_temp_f\":64.2}]}]}}";
+
+    private HttpServer server;
+
+    private ExecutorService serverExecutor;
+
+    private WeatherServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/current.json", exchange -> respond(exchange, CURRENT_JSON));
+        server.createContext("/v1/marine.json", exchange -> respond(exchange, MARINE_JSON));
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1";
+        underTest = new WeatherServiceImpl(
+                new HttpClientConfig().restTemplate(Duration.ofSeconds(1), Duration.ofSeconds(2), 10),
+                new WeatherConditionClassifier(new ClassPathResource("weather/condition-codes.properties")),
+                "test-key", baseUrl);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        underTest.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testThatUpstreamCallsRunConcurrently() {
+        // Warm up the connection pool so the measured call does not include connection setup.
+        underTest.getCurrentWeather(44.97, -93.26);
+
+        long start = System.nanoTime();
+        WeatherDto result = underTest.getCurrentWeather(44.97, -93.26);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(result).isEqualTo(new WeatherDto("partly cloudy", 71.5, 64.2, 8.1));
+        assertThat(elapsedMillis)
+                .isGreaterThanOrEqualTo(UPSTREAM_DELAY_MILLIS)
+                .isLessThan(2 * UPSTREAM_DELAY_MILLIS);
+    }
+
+    @Test
+    public void testThatUpstreamFailuresPropagateUnwrapped() {
+        server.removeContext("/v1/marine.json");
+
+        assertThatThrownBy(() -> underTest.getCurrentWeather(44.97, -93.26))
+                .isInstanceOf(RestClientException.class);
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        try {
+            Thread.sleep(UPSTREAM_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
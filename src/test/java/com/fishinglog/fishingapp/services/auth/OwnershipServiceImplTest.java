@@ -0,0 +1,53 @@
+package com.fishinglog.fishingapp.services.auth;
+
+import com.fishinglog.fishingapp.domain.Role;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.services.auth.impl.OwnershipServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OwnershipServiceImplTest {
+
+    private final OwnershipServiceImpl underTest = new OwnershipServiceImpl();
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    @AfterEach
+    public void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testThatThePrincipalsOwnIdMatches() {
+        authenticate(UserEntity.builder().id(7L).username("jdoe2023").role(Role.USER).build());
+
+        assertThat(underTest.doesRequestUsernameMatchTokenUsername(7L, request)).isTrue();
+    }
+
+    @Test
+    public void testThatAnotherUsersIdDoesNotMatch() {
+        authenticate(UserEntity.builder().id(7L).username("jdoe2023").role(Role.USER).build());
+
+        assertThat(underTest.doesRequestUsernameMatchTokenUsername(8L, request)).isFalse();
+        assertThat(underTest.doesRequestUsernameMatchTokenUsername(null, request)).isFalse();
+    }
+
+    @Test
+    public void testThatNothingMatchesWithoutAnAuthenticatedPrincipal() {
+        assertThat(underTest.doesRequestUsernameMatchTokenUsername(7L, request)).isFalse();
+
+        UserEntity userEntity = UserEntity.builder().id(7L).username("jdoe2023").build();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userEntity, null));
+        assertThat(underTest.doesRequestUsernameMatchTokenUsername(7L, request)).isFalse();
+    }
+
+    private static void authenticate(UserEntity userEntity) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userEntity, null, userEntity.getAuthorities()));
+    }
+}
@@ -0,0 +1,32 @@
+package com.fishinglog.fishingapp.services.auth;
+
+import com.fishinglog.fishingapp.services.auth.impl.TokenRevocationServiceImpl;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TokenRevocationServiceImplTest {
+
+    private final TokenRevocationServiceImpl underTest = new TokenRevocationServiceImpl(Duration.ofHours(24));
+
+    @Test
+    public void testThatTokensIssuedBeforeTheRevocationSecondAreRevoked() {
+        underTest.revokeUser(1L);
+
+        assertThat(underTest.isRevoked(1L, new Date(System.currentTimeMillis() - 5_000))).isTrue();
+        assertThat(underTest.isRevoked(1L, null)).isTrue();
+        assertThat(underTest.isRevoked(2L, new Date(System.currentTimeMillis() - 5_000))).isFalse();
+    }
+
+    @Test
+    public void testThatATokenIssuedInTheRevocationSecondIsAccepted() {
+        underTest.revokeUser(1L);
+        // Like the iat claim, the issue time of a token issued right after the revocation has whole seconds.
+        long issuedAtSeconds = System.currentTimeMillis() / 1000;
+
+        assertThat(underTest.isRevoked(1L, new Date(issuedAtSeconds * 1000))).isFalse();
+    }
+}
@@ -0,0 +1,197 @@
+package com.fishinglog.fishingapp.stats;
+
+import com.fishinglog.fishingapp.TestDataUtil;
+import com.fishinglog.fishingapp.domain.StatsDimension;
+import com.fishinglog.fishingapp.domain.entities.CatchEntity;
+import com.fishinglog.fishingapp.domain.entities.TripEntity;
+import com.fishinglog.fishingapp.domain.entities.UserCatchStatsEntity;
+import com.fishinglog.fishingapp.domain.entities.UserCatchStatsId;
+import com.fishinglog.fishingapp.domain.entities.UserEntity;
+import com.fishinglog.fishingapp.repositories.CatchRepository;
+import com.fishinglog.fishingapp.repositories.TripRepository;
+import com.fishinglog.fishingapp.repositories.UserCatchStatsRepository;
+import com.fishinglog.fishingapp.repositories.UserRepository;
+import com.fishinglog.fishingapp.services.CatchService;
+import com.fishinglog.fishingapp.services.TripService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class UserCatchStatsMaintainerIntegrationTests {
+
+    private final UserCatchStatsMaintainer underTest;
+
+    private final UserCatchStatsRebuildJob rebuildJob;
+
+    private final UserCatchStatsRepository userCatchStatsRepository;
+
+    private final CatchService catchService;
+
+    private final TripService tripService;
+
+    private final UserRepository userRepository;
+
+    private final TripRepository tripRepository;
+
+    private final CatchRepository catchRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public UserCatchStatsMaintainerIntegrationTests(UserCatchStatsMaintainer underTest, UserCatchStatsRebuildJob rebuildJob,
+                                                    UserCatchStatsRepository userCatchStatsRepository,
+                                                    CatchService catchService, TripService tripService,
+                                                    UserRepository userRepository, TripRepository tripRepository,
+                                                    CatchRepository catchRepository,
+                                                    PlatformTransactionManager transactionManager) {
+        this.underTest = underTest;
+        this.rebuildJob = rebuildJob;
+        this.userCatchStatsRepository = userCatchStatsRepository;
+        this.catchService = catchService;
+        this.tripService = tripService;
+        this.userRepository = userRepository;
+        this.tripRepository = tripRepository;
+        this.catchRepository = catchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    public void testThatSavedCatchesAreCountedWithTemperatureSums() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity tripEntity = tripRepository.save(TestDataUtil.createTestTripEntityA(userEntity));
+        catchService.save(TestDataUtil.createTestCatchEntityA(tripEntity));
+        catchService.save(TestDataUtil.createTestCatchB(tripEntity));
+
+        UserCatchStatsEntity total = row(userEntity, StatsDimension.TOTAL, "");
+        assertThat(total.getCatchCount()).isEqualTo(2);
+        assertThat(total.getAirTemperatureSum()).isEqualTo(158);
+        assertThat(total.getAirTemperatureCount()).isEqualTo(2);
+        assertThat(total.getWindSpeedSum()).isEqualTo(14);
+        assertThat(row(userEntity, StatsDimension.WEATHER_CONDITION, "sunny").getCatchCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatPartialUpdateMovesTheCatchBetweenGroups() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity tripEntity = tripRepository.save(TestDataUtil.createTestTripEntityA(userEntity));
+        CatchEntity saved = catchService.save(TestDataUtil.createTestCatchEntityA(tripEntity));
+
+        catchService.partialUpdate(saved.getCatchId(), CatchEntity.builder().species("Walleye").windSpeed(20).build(), null);
+
+        assertThat(row(userEntity, StatsDimension.SPECIES, "Walleye").getCatchCount()).isEqualTo(1);
+        assertThat(userCatchStatsRepository.findById(
+                new UserCatchStatsId(userEntity.getId(), StatsDimension.SPECIES, "Striped Bass"))).isEmpty();
+        assertThat(row(userEntity, StatsDimension.TOTAL, "").getWindSpeedSum()).isEqualTo(20);
+        assertThat(underTest.rebuild(userEntity.getId())).isFalse();
+    }
+
+    @Test
+    public void testThatTripWritesRegroupAndRemoveTheirCatches() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity tripEntity = tripRepository.save(TestDataUtil.createTestTripEntityA(userEntity));
+        catchService.save(TestDataUtil.createTestCatchEntityA(tripEntity));
+
+        tripService.partialUpdate(tripEntity.getTripId(), TripEntity.builder().bodyOfWater("Lake Erie").build(), null);
+        assertThat(row(userEntity, StatsDimension.BODY_OF_WATER, "Lake Erie").getCatchCount()).isEqualTo(1);
+        assertThat(underTest.rebuild(userEntity.getId())).isFalse();
+
+        tripService.delete(tripEntity.getTripId());
+        assertThat(userCatchStatsRepository.findByIdUserId(userEntity.getId())).isEmpty();
+    }
+
+    @Test
+    public void testThatReplacingATripRegroupsItsCatchesOnlyWhenTheBodyOfWaterChanges() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity tripEntity = tripRepository.save(TestDataUtil.createTestTripEntityA(userEntity));
+        catchService.save(TestDataUtil.createTestCatchEntityA(tripEntity));
+
+        TripEntity redated = TestDataUtil.createTestTripEntityA(userEntity);
+        redated.setDate(LocalDate.of(2023, 2, 1));
+        tripService.update(tripEntity.getTripId(), redated, null);
+        assertThat(row(userEntity, StatsDimension.BODY_OF_WATER, "Lake Fantasy").getCatchCount()).isEqualTo(1);
+
+        TripEntity moved = TestDataUtil.createTestTripEntityA(userEntity);
+        moved.setBodyOfWater("Lake Erie");
+        tripService.update(tripEntity.getTripId(), moved, null);
+        assertThat(row(userEntity, StatsDimension.BODY_OF_WATER, "Lake Erie").getCatchCount()).isEqualTo(1);
+        assertThat(underTest.rebuild(userEntity.getId())).isFalse();
+    }
+
+    @Test
+    public void testThatRebuildRepairsDriftedStatistics() {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity tripEntity = tripRepository.save(TestDataUtil.createTestTripEntityA(userEntity));
+        catchService.save(TestDataUtil.createTestCatchEntityA(tripEntity));
+        // Repository writes bypass the maintenance, so the stored statistics drift.
+        catchRepository.save(TestDataUtil.createTestCatchB(tripEntity));
+
+        assertThat(rebuildJob.run()).isEqualTo(1);
+
+        assertThat(row(userEntity, StatsDimension.TOTAL, "").getCatchCount()).isEqualTo(2);
+        assertThat(row(userEntity, StatsDimension.SPECIES, "Channel Catfish").getCatchCount()).isEqualTo(1);
+        assertThat(underTest.rebuild(userEntity.getId())).isFalse();
+    }
+
+    @Test
+    public void testThatACatchSavedDuringATripRegroupIsCountedUnderTheNewBodyOfWater() throws Exception {
+        UserEntity userEntity = userRepository.save(TestDataUtil.createTestUserEntityA());
+        TripEntity tripEntity = tripRepository.save(TestDataUtil.createTestTripEntityA(userEntity));
+        catchService.save(TestDataUtil.createTestCatchEntityA(tripEntity));
+        CountDownLatch regrouped = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // The trip update stays uncommitted until the catch insert has had to wait for it.
+        CompletableFuture<Void> tripUpdate = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            tripService.partialUpdate(tripEntity.getTripId(), TripEntity.builder().bodyOfWater("Lake Erie").build(), null);
+            regrouped.countDown();
+            awaitQuietly(release);
+        }));
+        assertThat(regrouped.await(10, TimeUnit.SECONDS)).isTrue();
+        Thread catchWriter = new Thread(() -> catchService.save(TestDataUtil.createTestCatchB(tripEntity)));
+        catchWriter.start();
+        awaitBlocked(catchWriter);
+        release.countDown();
+        tripUpdate.get(10, TimeUnit.SECONDS);
+        catchWriter.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(catchRepository.count()).isEqualTo(2);
+        assertThat(row(userEntity, StatsDimension.BODY_OF_WATER, "Lake Erie").getCatchCount()).isEqualTo(2);
+        assertThat(underTest.rebuild(userEntity.getId())).isFalse();
+    }
+
+    private static void awaitBlocked(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING
+                && thread.isAlive() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private UserCatchStatsEntity row(UserEntity userEntity, StatsDimension dimension, String value) {
+        return userCatchStatsRepository.findById(new UserCatchStatsId(userEntity.getId(), dimension, value)).orElseThrow();
+    }
+}
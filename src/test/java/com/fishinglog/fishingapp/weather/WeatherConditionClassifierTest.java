@@ -0,0 +1,44 @@
+package com.fishinglog.fishingapp.weather;
+
+import com.fishinglog.fishingapp.domain.WeatherCondition;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WeatherConditionClassifierTest {
+
+    private final WeatherConditionClassifier underTest =
+            new WeatherConditionClassifier(new ClassPathResource("weather/condition-codes.properties"));
+
+    @Test
+    public void testThatEveryCodeMatchesTheLegacyMapping() {
+        for (int code = -1; code <= 3000; code++) {
+            assertThat(underTest.classify(code).getLabel())
+                    .as("code %d", code)
+                    .isEqualTo(LegacyWeatherConditions.classify(code));
+        }
+        assertThat(underTest.classify(Integer.MIN_VALUE)).isEqualTo(WeatherCondition.UNKNOWN);
+        assertThat(underTest.classify(Integer.MAX_VALUE)).isEqualTo(WeatherCondition.UNKNOWN);
+    }
+
+    @Test
+    public void testThatNewCodesComeFromTheResourceFile() {
+        WeatherConditionClassifier classifier = new WeatherConditionClassifier(new ByteArrayResource(
+                "1000=CLEAR\n1300=HEAVY_PRECIPITATION\n".getBytes(StandardCharsets.ISO_8859_1)));
+
+        assertThat(classifier.classify(1300)).isEqualTo(WeatherCondition.HEAVY_PRECIPITATION);
+        assertThat(classifier.classify(1003)).isEqualTo(WeatherCondition.UNKNOWN);
+    }
+
+    @Test
+    public void testThatUnknownConditionNamesAreRejected() {
+        assertThatThrownBy(() -> new WeatherConditionClassifier(new ByteArrayResource(
+                "1000=SUNNY\n".getBytes(StandardCharsets.ISO_8859_1))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
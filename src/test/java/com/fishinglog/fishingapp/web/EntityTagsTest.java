@@ -0,0 +1,28 @@
+package com.fishinglog.fishingapp.web;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EntityTagsTest {
+
+    @Test
+    public void testThatVersionsRoundTripThroughStrongTags() {
+        assertThat(EntityTags.of(7)).isEqualTo("\"7\"");
+        assertThat(EntityTags.version(" \"7\" ")).isEqualTo(7L);
+    }
+
+    @Test
+    public void testThatWeakOrForeignTagsHaveNoVersion() {
+        assertThat(EntityTags.version("W/\"7\"")).isNull();
+        assertThat(EntityTags.version("\"abc\"")).isNull();
+        assertThat(EntityTags.version("7")).isNull();
+    }
+
+    @Test
+    public void testThatIfNoneMatchUsesWeakComparison() {
+        assertThat(EntityTags.matchesAny("\"3\", W/\"7\"", "\"7\"")).isTrue();
+        assertThat(EntityTags.matchesAny("*", "\"7\"")).isTrue();
+        assertThat(EntityTags.matchesAny("\"6\"", "\"7\"")).isFalse();
+    }
+}
@@ -0,0 +1,38 @@
+package com.fishinglog.fishingapp.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NdjsonResponseWriterTest {
+
+    private final NdjsonResponseWriter underTest = new NdjsonResponseWriter(new ObjectMapper());
+
+    @Test
+    public void testThatEachRowIsWrittenOnItsOwnLine() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        underTest.<Integer, Map<String, Integer>>write(
+                consumer -> List.of(1, 2, 3).forEach(consumer),
+                row -> Map.of("id", row)
+        ).writeTo(outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8))
+                .isEqualTo("{\"id\":1}\n{\"id\":2}\n{\"id\":3}\n");
+    }
+
+    @Test
+    public void testThatAnEmptySourceWritesNothing() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        underTest.<Integer, Integer>write(consumer -> { }, row -> row).writeTo(outputStream);
+
+        assertThat(outputStream.size()).isZero();
+    }
+}